@@ -1,5 +1,5 @@
-import { useState, useEffect, useCallback } from 'react';
-import { getTaskInstanceService } from '../services';
+import { useState, useEffect, useCallback, useRef } from 'react';
+import { getDagRunService, getTaskInstanceService } from '../services';
 import { TaskInstance } from '../types';
 import { extractErrorMessage, logApiError } from '../utils/errorHandling';
 
@@ -7,6 +7,8 @@ export function useTaskInstances(dagId?: string, dagRunId?: string) {
   const [tasks, setTasks] = useState<TaskInstance[]>([]);
   const [loading, setLoading] = useState(false);
   const [error, setError] = useState<string | null>(null);
+  // Snapshot version of the current list, so refreshes only transfer changed instances
+  const versionRef = useRef<number | undefined>(undefined);
 
   const fetchTaskInstances = useCallback(async () => {
     if (!dagId || !dagRunId) return;
@@ -14,14 +16,20 @@ export function useTaskInstances(dagId?: string, dagRunId?: string) {
     setLoading(true);
     try {
       const taskInstanceService = getTaskInstanceService();
-      const response = await taskInstanceService.getTaskInstances(dagId, dagRunId);
+      const delta = await taskInstanceService.getTaskInstanceDelta(dagId, dagRunId, versionRef.current);
+      versionRef.current = delta.version;
       
-      // Extract task_instances array from API response
-      const taskInstances = Array.isArray(response) 
-        ? response 
-        : response?.task_instances || [];
-      
-      setTasks(taskInstances);
+      if (delta.full) {
+        setTasks(delta.taskInstances);
+      } else if (delta.taskInstances.length > 0 || delta.removed.length > 0) {
+        const keyOf = (taskId: string, mapIndex?: number) => `${taskId}#${mapIndex ?? -1}`;
+        setTasks(current => {
+          const byKey = new Map(current.map(task => [keyOf(task.task_id, task.map_index), task]));
+          delta.removed.forEach(key => byKey.delete(keyOf(key.taskId, key.mapIndex)));
+          delta.taskInstances.forEach(task => byKey.set(keyOf(task.task_id, task.map_index), task));
+          return Array.from(byKey.values());
+        });
+      }
       setError(null);
     } catch (error: any) {
       const errorMessage = extractErrorMessage(error);
@@ -33,10 +41,36 @@ export function useTaskInstances(dagId?: string, dagRunId?: string) {
   }, [dagId, dagRunId]);
 
   useEffect(() => {
+    versionRef.current = undefined;
     if (dagId && dagRunId) {
       fetchTaskInstances();
     }
   }, [dagId, dagRunId, fetchTaskInstances]);
 
+  // Apply state transitions pushed by the server instead of re-fetching the whole list
+  useEffect(() => {
+    if (!dagId || !dagRunId) return;
+
+    const controller = new AbortController();
+    const sameInstance = (a: TaskInstance, b: TaskInstance) =>
+      a.task_id === b.task_id && (a.map_index ?? -1) === (b.map_index ?? -1);
+
+    getDagRunService().streamDagRunEvents(dagId, dagRunId, event => {
+      if (event.type === 'snapshot') {
+        setTasks(event.data.taskInstances || []);
+      } else if (event.type === 'task_instance') {
+        setTasks(current => {
+          const index = current.findIndex(task => sameInstance(task, event.data));
+          if (index === -1) return [...current, event.data];
+          const next = [...current];
+          next[index] = event.data;
+          return next;
+        });
+      }
+    }, controller.signal);
+
+    return () => controller.abort();
+  }, [dagId, dagRunId]);
+
   return { tasks, loading, error, fetchTaskInstances };
 }
\ No newline at end of file
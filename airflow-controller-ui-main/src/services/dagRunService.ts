@@ -1,4 +1,5 @@
 import { getApiClient } from '../utils/apiClient';
+import { getAuthHeader, getServerUrl } from '../utils/auth';
 
 // DagRun Query Parameters
 export interface DagRunQueryParams {
@@ -8,6 +9,10 @@ export interface DagRunQueryParams {
   startDate?: string;
   endDate?: string;
   orderBy?: string;
+  limit?: number;
+  order_by?: string;
+  // next_cursor of the previous page
+  cursor?: string;
 }
 
 // DagRun Create Parameters
@@ -32,6 +37,13 @@ export interface DagRunClearParams {
   include_parentdag?: boolean;
 }
 
+// Event pushed by the DAG run event stream: 'snapshot', 'dag_run', 'task_instance' or 'error'
+export interface DagRunEvent {
+  id: string | null;
+  type: string;
+  data: any;
+}
+
 // Service for DagRun operations
 const dagRunService = {
   getDagRuns: (dagId: string, params?: DagRunQueryParams) => 
@@ -75,7 +87,67 @@ const dagRunService = {
     getApiClient().post(`/v1/dags/${dagId}/dagRuns/${dagRunId}/retryFailed`),
   
   getDagRunTaskGroups: (dagId: string, dagRunId: string) =>
-    getApiClient().get(`/v1/dags/${dagId}/dagRuns/${dagRunId}/taskGroups`)
+    getApiClient().get(`/v1/dags/${dagId}/dagRuns/${dagRunId}/taskGroups`),
+
+  /**
+   * Follows the Server-Sent Events stream of a DAG run until the signal is aborted.
+   * fetch is used instead of EventSource so that the Authorization header can be sent;
+   * after a disconnect the stream is resumed with the last received event ID.
+   */
+  streamDagRunEvents: async (
+    dagId: string,
+    dagRunId: string,
+    onEvent: (event: DagRunEvent) => void,
+    signal: AbortSignal
+  ) => {
+    let lastEventId: string | null = null;
+    while (!signal.aborted) {
+      try {
+        const response = await fetch(
+          `${getServerUrl()}/api/v1/dags/${encodeURIComponent(dagId)}/dagRuns/${encodeURIComponent(dagRunId)}/events`,
+          {
+            headers: {
+              Accept: 'text/event-stream',
+              Authorization: getAuthHeader() || '',
+              ...(lastEventId && { 'Last-Event-ID': lastEventId })
+            },
+            signal
+          }
+        );
+        if (!response.ok || !response.body) {
+          throw new Error(`Event stream failed with status ${response.status}`);
+        }
+
+        const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+        let buffered = '';
+        for (;;) {
+          const { value, done } = await reader.read();
+          if (done) break;
+          buffered += value;
+          const blocks = buffered.split('\n\n');
+          buffered = blocks.pop() || '';
+          for (const block of blocks) {
+            let id: string | null = null;
+            let type = 'message';
+            const data: string[] = [];
+            for (const line of block.split('\n')) {
+              if (line.startsWith('id:')) id = line.slice(3).trim();
+              else if (line.startsWith('event:')) type = line.slice(6).trim();
+              else if (line.startsWith('data:')) data.push(line.slice(5));
+            }
+            if (data.length === 0) continue; // heartbeat comment
+            if (id) lastEventId = id;
+            onEvent({ id, type, data: JSON.parse(data.join('\n')) });
+            if (type === 'error') return;
+          }
+        }
+      } catch (error) {
+        if (signal.aborted) return;
+        console.warn('DAG run event stream interrupted, reconnecting', error);
+      }
+      await new Promise(resolve => setTimeout(resolve, 2000));
+    }
+  }
 };
 
 export default dagRunService; 
\ No newline at end of file
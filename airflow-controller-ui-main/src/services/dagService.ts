@@ -11,14 +11,24 @@ export interface DagQueryParams {
   orderBy?: string;
 }
 
+export interface DagDashboardParams extends DagQueryParams {
+  recentDays?: number;
+}
+
 // Service for DAG-related operations
 const dagService = {
   getDags: (params?: DagQueryParams) => 
     getApiClient().get('/v1/dags', { params }),
   
+  getDashboard: (params?: DagDashboardParams) =>
+    getApiClient().get('/v1/dashboard/dags', { params }),
+  
   getDag: (dagId: string) => 
     getApiClient().get(`/v1/dags/${dagId}`),
   
+  getOverview: (dagId: string, params?: { runLimit?: number; logLimit?: number }) =>
+    getApiClient().get(`/v1/dags/${dagId}/overview`, { params }),
+  
   togglePause: (dagId: string, isPaused: boolean) => 
     getApiClient().patch(`/v1/dags/${dagId}`, { is_paused: isPaused }),
   
@@ -18,20 +18,35 @@ export interface TaskInstanceActionResponse {
   };
 }
 
+// Instances changed since a snapshot version; a full delta replaces the client's copy
+export interface TaskInstanceDelta {
+  dagId: string;
+  dagRunId: string;
+  version: number;
+  full: boolean;
+  taskInstances: TaskInstance[];
+  removed: { taskId: string; mapIndex: number }[];
+}
+
 // Service for Task Instance operations
 const taskInstanceService = {
   getTaskInstances: (dagId: string, dagRunId: string, params?: TaskInstanceQuery) => 
     getApiClient().get(`/v1/dags/${dagId}/dagRuns/${dagRunId}/taskInstances`, { params })
       .then(response => response.data),
   
+  getTaskInstanceDelta: (dagId: string, dagRunId: string, sinceVersion?: number): Promise<TaskInstanceDelta> =>
+    getApiClient().get(`/v1/dags/${dagId}/dagRuns/${dagRunId}/taskInstanceDelta`, {
+      params: sinceVersion !== undefined ? { since_version: sinceVersion } : undefined
+    }).then(response => response.data),
+  
   getTaskInstance: (dagId: string, dagRunId: string, taskId: string) => 
     getApiClient().get(`/v1/dags/${dagId}/dagRuns/${dagRunId}/taskInstances/${taskId}`)
       .then(response => response.data),
   
   setTaskInstanceState: (dagId: string, dagRunId: string, taskId: string, state: string) => {
-    const payload = { state };
-    return getApiClient().post(
-      `/v1/dags/${dagId}/dagRuns/${dagRunId}/taskInstances/${taskId}/updateState`,
+    const payload = { new_state: state, dry_run: false };
+    return getApiClient().patch(
+      `/v1/dags/${dagId}/dagRuns/${dagRunId}/taskInstances/${taskId}/state`,
       payload
     );
   },
@@ -39,6 +39,7 @@ export interface TaskInstance {
   end_date: string | null;
   duration: number | null;
   try_number: number;
+  map_index?: number;
   max_tries: number;
   hostname?: string;
   pool?: string;
@@ -12,6 +12,7 @@ import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.util.Base64;
 
@@ -23,6 +24,7 @@ public class AirflowConfig {
     private static final String API_VERSION = "/api/v1";
     
     private final JwtUtil jwtUtil;
+    private final AirflowServiceAccount serviceAccount;
 
     @Value("${airflow.api.base-url}")
     private String baseUrl;
@@ -48,11 +50,7 @@ public class AirflowConfig {
                                 String airflowPassword = jwtUtil.extractAirflowPassword(token);
                                 
                                 if (airflowUsername != null && airflowPassword != null) {
-                                    String credentials = airflowUsername + ":" + airflowPassword;
-                                    String encodedCredentials = Base64.getEncoder().encodeToString(credentials.getBytes());
-                                    return ClientRequest.from(request)
-                                        .header(HttpHeaders.AUTHORIZATION, "Basic " + encodedCredentials)
-                                        .build();
+                                    return withBasicAuth(request, airflowUsername, airflowPassword);
                                 }
                             } catch (Exception e) {
                                 log.warn("Error extracting Airflow credentials from JWT: {}", e.getMessage());
@@ -62,7 +60,17 @@ public class AirflowConfig {
                     // Default fallback - can optionally use default credentials if needed
                     return request;
                 })
-                .defaultIfEmpty(request)
+                // Background work (e.g. the trigger queue dispatcher) runs without a user and uses the service account
+                .switchIfEmpty(Mono.fromSupplier(() -> serviceAccount.isConfigured() ?
+                    withBasicAuth(request, serviceAccount.getUsername(), serviceAccount.getPassword()) : request))
         );
     }
+    
+    private ClientRequest withBasicAuth(ClientRequest request, String username, String password) {
+        String credentials = username + ":" + password;
+        String encodedCredentials = Base64.getEncoder().encodeToString(credentials.getBytes());
+        return ClientRequest.from(request)
+            .header(HttpHeaders.AUTHORIZATION, "Basic " + encodedCredentials)
+            .build();
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.yigit.airflow_spring_rest_controller.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Airflow account used by background work that runs without a logged-in user.
+ * Background loops only start when it is configured, since Airflow rejects their requests otherwise.
+ */
+@Component
+@Getter
+public class AirflowServiceAccount {
+
+    @Value("${airflow.api.service-username:}")
+    private String username;
+
+    @Value("${airflow.api.service-password:}")
+    private String password;
+
+    public boolean isConfigured() {
+        return username != null && !username.isBlank() && password != null && !password.isEmpty();
+    }
+}
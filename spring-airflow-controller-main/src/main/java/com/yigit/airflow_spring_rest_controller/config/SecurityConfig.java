@@ -77,28 +77,37 @@ public class SecurityConfig {
                 .pathMatchers(HttpMethod.GET, "/api/v1/dags").authenticated()
                 .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/details").authenticated()
                 .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/tasks").authenticated()
+                .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/tasks/graph").authenticated()
                 .pathMatchers(HttpMethod.GET, "/api/v1/dags/*").authenticated()
+                .pathMatchers(HttpMethod.GET, "/api/v1/lineage/**").authenticated()
                 
                 // DAG RUN access - USER and above (can execute but not modify DAGs)
                 // These endpoints allow viewing and triggering DAG runs
                 .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/dagRuns").hasAnyRole("ADMIN", "OP", "USER")
                 .pathMatchers(HttpMethod.POST, "/api/v1/dags/*/dagRuns").hasAnyRole("ADMIN", "OP", "USER")
                 .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/dagRuns/**").hasAnyRole("ADMIN", "OP", "USER")
+                .pathMatchers(HttpMethod.GET, "/api/v1/dashboard/**").hasAnyRole("ADMIN", "OP", "USER")
+                .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/overview").hasAnyRole("ADMIN", "OP", "USER")
+                .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/runDurations").hasAnyRole("ADMIN", "OP", "USER")
+                .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/runCalendar").hasAnyRole("ADMIN", "OP", "USER")
+                .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/taskStats").hasAnyRole("ADMIN", "OP", "USER")
                 
                 // DAG RUN control actions - USER and above
                 // These endpoints allow controlling existing DAG runs
                 .pathMatchers(HttpMethod.POST, "/api/v1/dags/*/dagRuns/*/clear").hasAnyRole("ADMIN", "OP", "USER")
                 .pathMatchers(HttpMethod.PATCH, "/api/v1/dags/*/dagRuns/*/state").hasAnyRole("ADMIN", "OP", "USER")
+                .pathMatchers(HttpMethod.POST, "/api/v1/dags/~/dagRuns/**").hasAnyRole("ADMIN", "OP", "USER")
+                
+                // Task instance operations - USER and above
+                // Must precede the DAG write rules, which would otherwise match the state update
+                .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/dagRuns/*/taskInstances").hasAnyRole("ADMIN", "OP", "USER")
+                .pathMatchers(HttpMethod.PATCH, "/api/v1/dags/*/dagRuns/*/taskInstances/*/state").hasAnyRole("ADMIN", "OP", "USER")
                 
                 // DAG WRITE access - OP and ADMIN only
                 // These endpoints allow modifying DAG configurations
                 .pathMatchers(HttpMethod.PATCH, "/api/v1/dags/**").hasAnyRole("ADMIN", "OP")
                 .pathMatchers(HttpMethod.DELETE, "/api/v1/dags/**").hasAnyRole("ADMIN", "OP")
                 
-                // Task instance operations - USER and above
-                .pathMatchers(HttpMethod.GET, "/api/v1/dags/*/dagRuns/*/taskInstances").hasAnyRole("ADMIN", "OP", "USER")
-                .pathMatchers(HttpMethod.PATCH, "/api/v1/dags/*/dagRuns/*/taskInstances/*/state").hasAnyRole("ADMIN", "OP", "USER")
-                
                 // Logs access - All authenticated users can access logs
                 // Service layer will handle filtering based on user permissions
                 .pathMatchers("/api/v1/logs/**").authenticated()
@@ -1,13 +1,26 @@
 package com.yigit.airflow_spring_rest_controller.controller;
 
 import com.yigit.airflow_spring_rest_controller.dto.dag.Dag;
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagBulkUpdate;
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagBulkUpdateResponse;
 import com.yigit.airflow_spring_rest_controller.dto.dag.DagCollection;
 import com.yigit.airflow_spring_rest_controller.dto.dag.DagDetail;
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagOverview;
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagRunCalendar;
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagRunDurations;
 import com.yigit.airflow_spring_rest_controller.dto.dag.DagUpdate;
 import com.yigit.airflow_spring_rest_controller.dto.task.TaskCollection;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskDurations;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskGraph;
+import com.yigit.airflow_spring_rest_controller.service.DagOverviewService;
+import com.yigit.airflow_spring_rest_controller.service.DagRunCalendarService;
+import com.yigit.airflow_spring_rest_controller.service.DagRunDurationStatsService;
 import com.yigit.airflow_spring_rest_controller.service.DagService;
+import com.yigit.airflow_spring_rest_controller.service.TaskDurationStatsService;
+import com.yigit.airflow_spring_rest_controller.service.TaskGraphService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,7 +28,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -25,11 +40,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
+import java.time.LocalDate;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("${api.endpoint.prefix}/dags")
@@ -43,6 +58,11 @@ import java.util.stream.Collectors;
 public class DagController {
 
     private final DagService dagService;
+    private final DagOverviewService dagOverviewService;
+    private final TaskGraphService taskGraphService;
+    private final DagRunDurationStatsService dagRunDurationStatsService;
+    private final DagRunCalendarService dagRunCalendarService;
+    private final TaskDurationStatsService taskDurationStatsService;
 
     @Operation(
         summary = "Get all DAGs",
@@ -95,27 +115,40 @@ public class DagController {
         )
         @RequestParam(defaultValue = "10") int size
     ) {
-        return dagService.getDags()
-            .map(dagCollection -> {
-                List<Dag> filteredDags = dagCollection.getDags().stream()
-                    .filter(dag -> isActive == null || dag.getIsActive() == isActive)
-                    .filter(dag -> isPaused == null || dag.getIsPaused() == isPaused)
-                    .filter(dag -> search == null || 
-                        dag.getDagId().toLowerCase().contains(search.toLowerCase()) || 
-                        (dag.getDescription() != null && dag.getDescription().toLowerCase().contains(search.toLowerCase())))
-                    .collect(Collectors.toList());
-
-                int totalElements = filteredDags.size();
-                int fromIndex = page * size;
-                int toIndex = Math.min(fromIndex + size, totalElements);
+        return dagService.getDags(isActive, isPaused, search, page, size);
+    }
 
-                DagCollection paginatedCollection = new DagCollection();
-                paginatedCollection.setDags(fromIndex < totalElements ? 
-                    filteredDags.subList(fromIndex, toIndex) : 
-                    new ArrayList<>());
-                paginatedCollection.setTotalEntries(totalElements);
-                return paginatedCollection;
-            });
+    @Operation(
+        summary = "Stream all DAGs",
+        description = "Streaming variant of the DAG list, selected with an Accept header of application/x-ndjson " +
+                     "or text/event-stream. DAGs are emitted as soon as each page arrives from Airflow, so large " +
+                     "catalogs can be rendered progressively. Pages are fetched only as fast as the client consumes " +
+                     "them and the upstream fetch is cancelled when the client disconnects. The search term is " +
+                     "matched against the DAG ID only."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200", 
+            description = "DAG stream started",
+            content = {
+                @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = Dag.class)),
+                @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = Dag.class))
+            }
+        ),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required")
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<Dag> streamDags(
+        @Parameter(description = "Filter by active status", example = "true")
+        @RequestParam(required = false) Boolean isActive,
+        
+        @Parameter(description = "Filter by paused status", example = "false")
+        @RequestParam(required = false) Boolean isPaused,
+        
+        @Parameter(description = "Pattern matched against the DAG ID", example = "example_flow")
+        @RequestParam(required = false) String search
+    ) {
+        return dagService.streamDags(isActive, isPaused, search);
     }
 
     @Operation(
@@ -201,6 +234,50 @@ public class DagController {
         return dagService.updateDag(dagId, dagUpdate);
     }
 
+    @Operation(
+        summary = "Bulk update DAGs",
+        description = "Pauses or unpauses several DAGs in one request, for example for a maintenance window. " +
+                     "DAGs are selected either by a list of IDs or by a dag_id_pattern. A pattern is applied with " +
+                     "Airflow's multi-DAG update in a single call; a list of IDs is updated with bounded concurrency. " +
+                     "The response reports the outcome for each DAG."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200", 
+            description = "Bulk update processed - see the per-DAG results",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagBulkUpdateResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid update parameters - Provide is_paused and either dag_ids or dag_id_pattern")
+    })
+    @PatchMapping
+    public Mono<DagBulkUpdateResponse> updateDags(
+        @Parameter(
+            description = "The DAGs to update and the paused state to apply", 
+            required = true,
+            schema = @Schema(implementation = DagBulkUpdate.class),
+            content = @Content(
+                examples = {
+                    @ExampleObject(
+                        name = "Pause DAGs by ID",
+                        value = "{\"dag_ids\": [\"etl_daily\", \"etl_hourly\"], \"is_paused\": true}",
+                        description = "Example to pause a list of DAGs"
+                    ),
+                    @ExampleObject(
+                        name = "Unpause DAGs by pattern",
+                        value = "{\"dag_id_pattern\": \"etl_\", \"is_paused\": false}",
+                        description = "Example to unpause every DAG whose ID matches the pattern"
+                    )
+                }
+            )
+        )
+        @RequestBody DagBulkUpdate bulkUpdate
+    ) {
+        return dagService.updateDags(bulkUpdate);
+    }
+
     @Operation(
         summary = "Delete a DAG",
         description = "Deletes a DAG from the Airflow environment. " +
@@ -255,6 +332,37 @@ public class DagController {
         return dagService.getDagTasks(dagId);
     }
 
+    @Operation(
+        summary = "Get DAG task graph",
+        description = "Retrieves the task dependency graph of a DAG in a compact, int-indexed form: " +
+                     "a CSR adjacency list of downstream tasks, a topological order, the depth level of each task " +
+                     "and a precomputed layered layout. The graph is cached per DAG file version (file_token), " +
+                     "so large DAGs can be rendered without computing the structure in the browser."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200", 
+            description = "DAG task graph successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskGraph.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "DAG not found - The specified DAG ID does not exist"),
+        @ApiResponse(responseCode = "409", description = "The DAG's tasks contain a dependency cycle")
+    })
+    @GetMapping("/{dagId}/tasks/graph")
+    public Mono<TaskGraph> getDagTaskGraph(
+        @Parameter(
+            description = "The ID of the DAG to retrieve the task graph for - must match an existing DAG in Airflow", 
+            required = true, 
+            example = "example_dag_id"
+        ) 
+        @PathVariable String dagId
+    ) {
+        return taskGraphService.getTaskGraph(dagId);
+    }
+
     @Operation(
         summary = "Get DAG details",
         description = "Retrieves detailed information about a DAG including its source code, " +
@@ -283,4 +391,139 @@ public class DagController {
     ) {
         return dagService.getDagDetails(dagId);
     }
-} 
\ No newline at end of file
+
+    @Operation(
+        summary = "Get DAG overview",
+        description = "Retrieves the DAG, its details, its tasks, its most recent runs and its audit log entries " +
+                     "in a single document. The parts are fetched concurrently, each with its own timeout; " +
+                     "parts that fail are left empty and listed in the errors field so the rest can still be rendered."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200", 
+            description = "DAG overview successfully assembled",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagOverview.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid request - runLimit or logLimit out of range"),
+        @ApiResponse(responseCode = "404", description = "DAG not found - The specified DAG ID does not exist")
+    })
+    @GetMapping("/{dagId}/overview")
+    public Mono<DagOverview> getDagOverview(
+        @Parameter(
+            description = "The ID of the DAG to retrieve the overview for - must match an existing DAG in Airflow", 
+            required = true, 
+            example = "example_dag_id"
+        ) 
+        @PathVariable String dagId,
+        
+        @Parameter(description = "Number of most recent DAG Runs to include", example = "10")
+        @RequestParam(defaultValue = "10") int runLimit,
+        
+        @Parameter(description = "Number of most recent audit log entries to include", example = "20")
+        @RequestParam(defaultValue = "20") int logLimit
+    ) {
+        return dagOverviewService.getDagOverview(dagId, runLimit, logLimit);
+    }
+
+    @Operation(
+        summary = "Get DAG run-duration statistics",
+        description = "Retrieves the p50, p95 and p99 durations, mean, minimum and maximum of the DAG's successful " +
+                     "and failed runs. The statistics are maintained incrementally in the background as runs finish, " +
+                     "so the answer does not depend on the length of the run history; quantiles are estimates " +
+                     "within the reported relative accuracy."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Statistics successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagRunDurations.class)
+            )
+        ),
+        @ApiResponse(responseCode = "403", description = "Permission denied - User cannot access the DAG"),
+        @ApiResponse(responseCode = "404", description = "DAG not found or no finished runs of the DAG have been recorded yet")
+    })
+    @GetMapping("/{dagId}/runDurations")
+    public Mono<DagRunDurations> getDagRunDurations(
+        @Parameter(
+            description = "The ID of the DAG to retrieve run-duration statistics for",
+            required = true,
+            example = "example_dag_id"
+        )
+        @PathVariable String dagId
+    ) {
+        return dagRunDurationStatsService.getDurations(dagId);
+    }
+
+    @Operation(
+        summary = "Get DAG run calendar",
+        description = "Retrieves the number of successful, failed, running and queued runs of the DAG per day " +
+                     "(UTC, by execution date) for a calendar heatmap. Daily counts are kept server-side and only the " +
+                     "days with runs updated since the previous request are recounted. The counts are returned as one " +
+                     "flat array with one entry per state and day: the count of state s on day d is at " +
+                     "index d * states.length + s."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Calendar successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagRunCalendar.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid or too long date range")
+    })
+    @GetMapping("/{dagId}/runCalendar")
+    public Mono<DagRunCalendar> getDagRunCalendar(
+        @Parameter(
+            description = "The ID of the DAG to retrieve the run calendar for",
+            required = true,
+            example = "example_dag_id"
+        )
+        @PathVariable String dagId,
+
+        @Parameter(description = "First day (UTC) of the calendar, defaults to one year before the last day", example = "2024-01-01")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+
+        @Parameter(description = "Last day (UTC) of the calendar, defaults to today", example = "2024-12-31")
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return dagRunCalendarService.getCalendar(dagId, from, to);
+    }
+
+    @Operation(
+        summary = "Get per-task statistics of a DAG",
+        description = "Retrieves for every task of the DAG the duration quantiles and histogram, failure rate and " +
+                     "retry rate over its successful and failed task instances, to find slow or flaky tasks. " +
+                     "The statistics are maintained incrementally in the background as task instances finish and " +
+                     "are served from memory; durations are estimates within the reported relative accuracy."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Statistics successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = TaskDurations.class))
+            )
+        ),
+        @ApiResponse(responseCode = "403", description = "Permission denied - User cannot access the DAG"),
+        @ApiResponse(responseCode = "404", description = "DAG not found or no finished task instances of the DAG have been recorded yet")
+    })
+    @GetMapping("/{dagId}/taskStats")
+    public Mono<List<TaskDurations>> getTaskStats(
+        @Parameter(
+            description = "The ID of the DAG to retrieve task statistics for",
+            required = true,
+            example = "example_dag_id"
+        )
+        @PathVariable String dagId
+    ) {
+        return taskDurationStatsService.getTaskDurations(dagId);
+    }
+}
@@ -0,0 +1,233 @@
+package com.yigit.airflow_spring_rest_controller.controller;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunBulkClear;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunBulkClearProgress;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunBulkTrigger;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunBulkTriggerResponse;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunQueueRequest;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunPage;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunQueueStatus;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunSearchRequest;
+import com.yigit.airflow_spring_rest_controller.service.DagRunBulkClearService;
+import com.yigit.airflow_spring_rest_controller.service.DagRunSearchService;
+import com.yigit.airflow_spring_rest_controller.service.DagRunTriggerQueueService;
+import com.yigit.airflow_spring_rest_controller.service.DagRunTriggerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("${api.endpoint.prefix}/dags/~/dagRuns")
+@Tag(
+    name = "DAG Run Batch Operations",
+    description = "Operations on DAG Runs of several DAGs at once. Following Airflow's convention, " +
+                 "'~' in place of the DAG ID addresses all DAGs."
+)
+@RequiredArgsConstructor
+public class DagRunBatchController {
+
+    private final DagRunTriggerService dagRunTriggerService;
+    private final DagRunTriggerQueueService dagRunTriggerQueueService;
+    private final DagRunSearchService dagRunSearchService;
+    private final DagRunBulkClearService dagRunBulkClearService;
+
+    @Operation(
+        summary = "Search DAG Runs across DAGs",
+        description = "Finds DAG Runs of all or selected DAGs by state and start, end and execution date ranges, " +
+                     "ordered by execution date. Pages are continued with the returned cursor, which resumes after " +
+                     "the last returned run instead of skipping rows, so deep pages are as fast as the first one. " +
+                     "The total is reported with the first page only."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page of matching DAG Runs",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagRunPage.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid request - unsupported order_by, limit out of range or invalid cursor"),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "403", description = "Permission denied - User lacks required permissions")
+    })
+    @PostMapping("/list")
+    public Mono<DagRunPage> searchDagRuns(
+        @Parameter(
+            description = "Search filters, page size and the cursor of the previous page",
+            required = true,
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Failed runs of the last day",
+                    value = "{\"states\": [\"failed\"], \"end_date_gte\": \"2024-03-01T00:00:00Z\", " +
+                           "\"order_by\": \"-execution_date\", \"limit\": 200}"
+                )
+            )
+        )
+        @RequestBody DagRunSearchRequest searchRequest
+    ) {
+        return dagRunSearchService.searchDagRuns(searchRequest);
+    }
+
+    @Operation(
+        summary = "Trigger DAG Runs in bulk",
+        description = "Triggers one DAG Run per item. Every item needs an idempotency key, scoped to the user; a key " +
+                     "that was already used within its time-to-live is not triggered again and the previously created " +
+                     "run is reported instead, so clients can safely retry the whole request. A key already used for " +
+                     "another DAG fails the item. Items whose trigger fails release their key."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Bulk trigger processed; see the outcome of each item",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagRunBulkTriggerResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid request - missing or repeated idempotency keys, or too many items"),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "403", description = "Permission denied - User lacks required permissions")
+    })
+    @PostMapping("/trigger")
+    public Mono<DagRunBulkTriggerResponse> triggerDagRuns(
+        @Parameter(
+            description = "The runs to trigger",
+            required = true,
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Two runs",
+                    value = "{\"items\": [" +
+                           "{\"idempotency_key\": \"order-42\", \"dag_id\": \"process_order\", \"dag_run\": {\"conf\": {\"order\": 42}}}, " +
+                           "{\"idempotency_key\": \"order-43\", \"dag_id\": \"process_order\", \"dag_run\": {\"conf\": {\"order\": 43}}}]}"
+                )
+            )
+        )
+        @RequestBody DagRunBulkTrigger bulkTrigger
+    ) {
+        return dagRunTriggerService.triggerDagRuns(bulkTrigger);
+    }
+
+    @Operation(
+        summary = "Queue a DAG Run trigger",
+        description = "Stores the trigger in a durable queue and returns immediately. A background dispatcher " +
+                     "forwards queued triggers to Airflow at a rate adapted to Airflow's observed capacity and " +
+                     "holds them back while the DAG is at its max_active_runs. Transient Airflow errors are retried."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "202",
+            description = "Trigger queued",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagRunQueueStatus.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid request - dag_id is missing"),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "403", description = "Permission denied - User lacks required permissions or cannot access the DAG"),
+        @ApiResponse(responseCode = "404", description = "DAG not found"),
+        @ApiResponse(responseCode = "503", description = "Trigger queue not dispatched - no Airflow service account is configured")
+    })
+    @PostMapping("/queue")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public Mono<DagRunQueueStatus> enqueueDagRun(
+        @Parameter(
+            description = "The DAG to trigger and the run parameters",
+            required = true,
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Queued trigger",
+                    value = "{\"dag_id\": \"process_order\", \"dag_run\": {\"conf\": {\"order\": 42}}}"
+                )
+            )
+        )
+        @RequestBody DagRunQueueRequest queueRequest
+    ) {
+        return dagRunTriggerQueueService.enqueue(queueRequest);
+    }
+
+    @Operation(
+        summary = "Get queued trigger status",
+        description = "Retrieves the status of a queued trigger: its position in the queue while pending, " +
+                     "the number of dispatch attempts, and the resulting DAG Run ID or error. Users can only " +
+                     "read the triggers they queued; admins can read all."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Status successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagRunQueueStatus.class)
+            )
+        ),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "404", description = "Queued trigger not found or queued by another user")
+    })
+    @GetMapping("/queue/{requestId}")
+    public Mono<DagRunQueueStatus> getQueuedDagRun(
+        @Parameter(description = "The queue request ID returned when the trigger was queued", required = true, example = "42")
+        @PathVariable Long requestId
+    ) {
+        return dagRunTriggerQueueService.getStatus(requestId);
+    }
+
+    @Operation(
+        summary = "Clear DAG Runs in bulk",
+        description = "Clears the task instances of every DAG Run matching the filter (failed runs by default), " +
+                     "e.g. to re-run everything that failed during an upstream outage. Runs of a DAG that are " +
+                     "adjacent in execution date order are cleared together with one clearTaskInstances call; " +
+                     "calls run with bounded concurrency. Progress is streamed as newline-delimited JSON: a " +
+                     "'selected' event, one 'batch' event per call and a final 'done' event. The operation " +
+                     "completes even if the client disconnects and is audited with one entry per DAG."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Stream of progress events",
+            content = @Content(
+                mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                schema = @Schema(implementation = DagRunBulkClearProgress.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid request - the selection matches too many runs"),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "403", description = "Permission denied - User lacks required permissions")
+    })
+    @PostMapping(value = "/clear", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DagRunBulkClearProgress> clearDagRuns(
+        @Parameter(
+            description = "The selection of runs to clear and the clear options",
+            required = true,
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Failed runs of an outage window",
+                    value = "{\"dag_ids\": [\"load_orders\", \"load_customers\"], \"states\": [\"failed\"], " +
+                           "\"start_date_gte\": \"2024-03-01T02:00:00Z\", \"start_date_lte\": \"2024-03-01T06:00:00Z\", " +
+                           "\"only_failed\": true}"
+                )
+            )
+        )
+        @RequestBody DagRunBulkClear bulkClear
+    ) {
+        return dagRunBulkClearService.clearDagRuns(bulkClear);
+    }
+}
@@ -6,8 +6,18 @@ import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCreate;
 import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunStateUpdate;
 import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunClear;
 import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunNoteUpdate;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunStateSnapshot;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunGantt;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunPrediction;
 import com.yigit.airflow_spring_rest_controller.dto.dataset.DatasetEventCollection;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceDelta;
+import com.yigit.airflow_spring_rest_controller.service.DagRunEventService;
+import com.yigit.airflow_spring_rest_controller.service.DagRunGanttService;
+import com.yigit.airflow_spring_rest_controller.service.DagRunPredictionService;
+import com.yigit.airflow_spring_rest_controller.service.DagRunSearchService;
 import com.yigit.airflow_spring_rest_controller.service.DagRunService;
+import com.yigit.airflow_spring_rest_controller.service.DagRunStatePoller;
+import com.yigit.airflow_spring_rest_controller.service.TaskInstanceDeltaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,16 +28,20 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -47,13 +61,21 @@ import java.util.HashMap;
 public class DagRunController {
 
     private final DagRunService dagRunService;
+    private final DagRunStatePoller dagRunStatePoller;
+    private final DagRunEventService dagRunEventService;
+    private final DagRunSearchService dagRunSearchService;
+    private final DagRunGanttService dagRunGanttService;
+    private final DagRunPredictionService dagRunPredictionService;
+    private final TaskInstanceDeltaService taskInstanceDeltaService;
 
     @Operation(
         summary = "Get all DAG Runs",
-        description = "Retrieves a list of all DAG Runs for a specific DAG. " +
+        description = "Retrieves the DAG Runs of a specific DAG one page at a time. " +
                      "Returns execution history including run status, start time, and end time. " +
-                     "Supports filtering by state and DAG Run ID. This endpoint is useful for " +
-                     "monitoring the execution history of a DAG and investigating past runs."
+                     "Supports filtering by state and DAG Run ID and ordering by any DAG Run column. " +
+                     "Pass the returned next_cursor to get the following page; with the default ordering by " +
+                     "execution date, pages resume after the last returned run so deep history is as fast as " +
+                     "the first page. The total is reported with the first page only."
     )
     @ApiResponses({
         @ApiResponse(
@@ -64,6 +86,7 @@ public class DagRunController {
                 schema = @Schema(implementation = DagRunCollection.class)
             )
         ),
+        @ApiResponse(responseCode = "400", description = "Invalid request - unsupported order_by, limit out of range or invalid cursor"),
         @ApiResponse(responseCode = "404", description = "DAG not found - The specified DAG ID does not exist"),
         @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required")
     })
@@ -87,7 +110,20 @@ public class DagRunController {
             description = "Filter by DAG Run ID for finding a specific run", 
             example = "manual_2023-01-15T14:30:00+00:00"
         )
-        @RequestParam(required = false, name = "dag_run_id") String dagRunId
+        @RequestParam(required = false, name = "dag_run_id") String dagRunId,
+
+        @Parameter(
+            description = "Airflow column to order by, prefixed with '-' for descending order. " +
+                         "Defaults to -execution_date (newest first)",
+            example = "-execution_date"
+        )
+        @RequestParam(required = false, name = "order_by") String orderBy,
+
+        @Parameter(description = "Maximum number of runs per page", example = "100")
+        @RequestParam(required = false) Integer limit,
+
+        @Parameter(description = "The next_cursor of the previous page, for the same filters and ordering")
+        @RequestParam(required = false) String cursor
     ) {
         Map<String, String> queryParams = new HashMap<>();
         if (state != null && !state.isEmpty()) {
@@ -97,7 +133,7 @@ public class DagRunController {
             queryParams.put("dag_run_id", dagRunId);
         }
         
-        return dagRunService.getDagRuns(dagId, queryParams);
+        return dagRunSearchService.getDagRunsPage(dagId, queryParams, orderBy, limit, cursor);
     }
 
     @Operation(
@@ -189,6 +225,174 @@ public class DagRunController {
         return dagRunService.getDagRun(dagId, dagRunId);
     }
 
+    @Operation(
+        summary = "Get the Gantt layout and critical path of a DAG Run",
+        description = "Combines the run's task instance queue, start and end times with the DAG's task dependencies. " +
+                     "Returns one bar per task instance with its queue wait and execution time, rows for a Gantt " +
+                     "chart (mapped instances share their task's row), and the critical path: the chain of tasks, " +
+                     "each waiting for the latest-finishing upstream task, that determined the run's wall-clock time. " +
+                     "Results of finished runs are cached."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Gantt layout successfully computed",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagRunGantt.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "DAG Run not found - The specified DAG Run ID does not exist for this DAG")
+    })
+    @GetMapping("/{dagRunId}/gantt")
+    public Mono<DagRunGantt> getDagRunGantt(
+        @Parameter(description = "The ID of the DAG", required = true, example = "example_dag_id")
+        @PathVariable String dagId,
+
+        @Parameter(description = "The ID of the DAG Run", required = true, example = "scheduled__2024-02-24T10:00:00+00:00")
+        @PathVariable String dagRunId
+    ) {
+        return dagRunGanttService.getGantt(dagId, dagRunId);
+    }
+
+    @Operation(
+        summary = "Predict the completion of a DAG Run",
+        description = "Places every unfinished task after its upstream tasks using the task's moving-average " +
+                     "duration from the task statistics, and returns the predicted end of each task and of the run, " +
+                     "the remaining seconds and the chain of tasks that determines the predicted end. Mapped " +
+                     "instances are assumed to run in parallel. Predictions are cached and only recomputed when " +
+                     "task states change or a task overruns its estimate."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Prediction successfully computed",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagRunPrediction.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "DAG Run not found - The specified DAG Run ID does not exist for this DAG")
+    })
+    @GetMapping("/{dagRunId}/prediction")
+    public Mono<DagRunPrediction> getDagRunPrediction(
+        @Parameter(description = "The ID of the DAG", required = true, example = "example_dag_id")
+        @PathVariable String dagId,
+
+        @Parameter(description = "The ID of the DAG Run", required = true, example = "scheduled__2024-02-24T10:00:00+00:00")
+        @PathVariable String dagRunId
+    ) {
+        return dagRunPredictionService.getPrediction(dagId, dagRunId);
+    }
+
+    @Operation(
+        summary = "Get changed task instances of a DAG Run",
+        description = "Returns only the task instances whose state, try_number or end_date changed since the client's " +
+                     "snapshot version, plus instances that disappeared, and the new version to pass next time. " +
+                     "Without since_version, or when the version is no longer known to the server, every instance is " +
+                     "returned with full set to true. Suited for refreshing runs with thousands of mapped instances."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskInstanceDelta.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "DAG Run not found - The specified DAG Run ID does not exist for this DAG")
+    })
+    @GetMapping("/{dagRunId}/taskInstanceDelta")
+    public Mono<TaskInstanceDelta> getTaskInstanceDelta(
+        @Parameter(description = "The ID of the DAG", required = true, example = "example_dag_id")
+        @PathVariable String dagId,
+
+        @Parameter(description = "The ID of the DAG Run", required = true, example = "scheduled__2024-02-24T10:00:00+00:00")
+        @PathVariable String dagRunId,
+
+        @Parameter(description = "Version returned by the previous request", example = "1709290000123")
+        @RequestParam(name = "since_version", required = false) Long sinceVersion
+    ) {
+        return taskInstanceDeltaService.getDelta(dagId, dagRunId, sinceVersion);
+    }
+
+    @Operation(
+        summary = "Watch a DAG Run",
+        description = "Streams the state of a DAG Run and all its task instances as NDJSON or Server-Sent Events. " +
+                     "The latest known snapshot is sent first, then a new snapshot whenever the run or a task " +
+                     "instance changes. All clients watching the same run share a single server-side polling loop, " +
+                     "which stops when the last client disconnects."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Snapshot stream started",
+            content = {
+                @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = DagRunStateSnapshot.class)),
+                @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE, schema = @Schema(implementation = DagRunStateSnapshot.class))
+            }
+        ),
+        @ApiResponse(responseCode = "404", description = "DAG Run not found - The specified DAG Run ID does not exist for this DAG")
+    })
+    @GetMapping(value = "/{dagRunId}/watch", produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.TEXT_EVENT_STREAM_VALUE})
+    public Flux<DagRunStateSnapshot> watchDagRun(
+        @Parameter(
+            description = "The ID of the DAG - must match an existing DAG in Airflow", 
+            required = true, 
+            example = "example_dag_id"
+        ) 
+        @PathVariable String dagId,
+        
+        @Parameter(
+            description = "The ID of the DAG Run to watch", 
+            required = true, 
+            example = "manual_2023-01-15T14:30:00+00:00"
+        ) 
+        @PathVariable String dagRunId
+    ) {
+        return dagRunStatePoller.watch(dagId, dagRunId);
+    }
+
+    @Operation(
+        summary = "Subscribe to DAG Run events",
+        description = "Server-Sent Events stream of state transitions of a DAG Run and its task instances. " +
+                     "New clients first receive a 'snapshot' event with the full state, then 'dag_run' and " +
+                     "'task_instance' events carrying only what changed. Heartbeat comments keep idle connections " +
+                     "open. A client reconnecting with the Last-Event-ID header receives the events it missed, or " +
+                     "a fresh snapshot if they are no longer buffered; clients that fall too far behind are " +
+                     "disconnected and resume the same way."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Event stream started",
+            content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)
+        ),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required")
+    })
+    @GetMapping(value = "/{dagRunId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Object>> streamDagRunEvents(
+        @Parameter(
+            description = "The ID of the DAG - must match an existing DAG in Airflow", 
+            required = true, 
+            example = "example_dag_id"
+        ) 
+        @PathVariable String dagId,
+        
+        @Parameter(
+            description = "The ID of the DAG Run to follow", 
+            required = true, 
+            example = "manual_2023-01-15T14:30:00+00:00"
+        ) 
+        @PathVariable String dagRunId,
+        
+        @Parameter(description = "ID of the last event received, sent by clients when they reconnect")
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
+        return dagRunEventService.streamEvents(dagId, dagRunId, lastEventId);
+    }
+
     @Operation(
         summary = "Delete a DAG Run",
         description = "Deletes a specific DAG Run. This removes the run and its metadata from the system. " +
@@ -0,0 +1,73 @@
+package com.yigit.airflow_spring_rest_controller.controller;
+
+import com.yigit.airflow_spring_rest_controller.dto.dashboard.DagDashboardResponse;
+import com.yigit.airflow_spring_rest_controller.service.DagDashboardService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("${api.endpoint.prefix}/dashboard")
+@Tag(
+    name = "Dashboard",
+    description = "Aggregated views combining DAGs with their run status, built with batched Airflow requests " +
+                 "so that the UI does not need one request per DAG."
+)
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DagDashboardService dagDashboardService;
+
+    @Operation(
+        summary = "Get DAG dashboard",
+        description = "Retrieves a page of DAGs together with each DAG's latest run and the number of runs per state " +
+                     "within the recent window. Runs for the whole page are fetched with Airflow's batch DAG run " +
+                     "list endpoint, and the latest runs of DAGs without runs in the window with one more batch " +
+                     "listing. recentRunsTruncated is set when the window held more runs than are counted."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "DAG dashboard successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagDashboardResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid request - page, size or recentDays out of range"),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "403", description = "Permission denied - User lacks required permissions")
+    })
+    @GetMapping("/dags")
+    public Mono<DagDashboardResponse> getDagDashboard(
+        @Parameter(description = "Filter by active status", example = "true")
+        @RequestParam(required = false) Boolean isActive,
+
+        @Parameter(description = "Filter by paused status", example = "false")
+        @RequestParam(required = false) Boolean isPaused,
+
+        @Parameter(description = "Search term to filter DAGs by ID or description", example = "example_flow")
+        @RequestParam(required = false) String search,
+
+        @Parameter(description = "Page number for pagination (0-based)", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+
+        @Parameter(description = "Number of items per page", example = "10")
+        @RequestParam(defaultValue = "10") int size,
+
+        @Parameter(description = "Number of days counted as recent for the run-state counts", example = "7")
+        @RequestParam(defaultValue = "7") int recentDays
+    ) {
+        return dagDashboardService.getDashboard(isActive, isPaused, search, page, size, recentDays);
+    }
+}
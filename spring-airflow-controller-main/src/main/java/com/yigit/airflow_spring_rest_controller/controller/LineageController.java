@@ -0,0 +1,115 @@
+package com.yigit.airflow_spring_rest_controller.controller;
+
+import com.yigit.airflow_spring_rest_controller.dto.dataset.DagLineage;
+import com.yigit.airflow_spring_rest_controller.dto.dataset.DatasetUsage;
+import com.yigit.airflow_spring_rest_controller.service.DatasetLineageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("${api.endpoint.prefix}/lineage")
+@Tag(
+    name = "Dataset Lineage",
+    description = "Cross-DAG dependencies through datasets, answered from an index that is refreshed " +
+                 "incrementally when DAG files change."
+)
+@RequiredArgsConstructor
+public class LineageController {
+
+    private final DatasetLineageService datasetLineageService;
+
+    @Operation(
+        summary = "Get upstream DAGs",
+        description = "Retrieves the DAGs producing the datasets the given DAG is scheduled on. " +
+                     "With transitive=true the producers of those DAGs are followed as well."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Upstream lineage successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagLineage.class)
+            )
+        ),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "404", description = "DAG not found"),
+        @ApiResponse(responseCode = "503", description = "Lineage not available - no Airflow service account is configured")
+    })
+    @GetMapping("/dags/{dagId}/upstream")
+    public Mono<DagLineage> getUpstreamDags(
+        @Parameter(description = "The DAG ID", required = true, example = "example_dag_id")
+        @PathVariable String dagId,
+
+        @Parameter(description = "Follow dependencies transitively", example = "false")
+        @RequestParam(defaultValue = "false") boolean transitive
+    ) {
+        return datasetLineageService.getDagLineage(dagId, DatasetLineageService.UPSTREAM, transitive);
+    }
+
+    @Operation(
+        summary = "Get downstream DAGs",
+        description = "Retrieves the DAGs scheduled on datasets the given DAG produces. " +
+                     "With transitive=true the consumers of those DAGs are followed as well."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Downstream lineage successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DagLineage.class)
+            )
+        ),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "404", description = "DAG not found"),
+        @ApiResponse(responseCode = "503", description = "Lineage not available - no Airflow service account is configured")
+    })
+    @GetMapping("/dags/{dagId}/downstream")
+    public Mono<DagLineage> getDownstreamDags(
+        @Parameter(description = "The DAG ID", required = true, example = "example_dag_id")
+        @PathVariable String dagId,
+
+        @Parameter(description = "Follow dependencies transitively", example = "false")
+        @RequestParam(defaultValue = "false") boolean transitive
+    ) {
+        return datasetLineageService.getDagLineage(dagId, DatasetLineageService.DOWNSTREAM, transitive);
+    }
+
+    @Operation(
+        summary = "Get dataset usage",
+        description = "Retrieves the DAGs producing and consuming a dataset"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Dataset usage successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DatasetUsage.class)
+            )
+        ),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "404", description = "Dataset not referenced by any DAG the user can see"),
+        @ApiResponse(responseCode = "503", description = "Lineage not available - no Airflow service account is configured")
+    })
+    @GetMapping("/datasets")
+    public Mono<DatasetUsage> getDatasetUsage(
+        @Parameter(description = "The dataset URI", required = true, example = "s3://bucket/path")
+        @RequestParam String uri
+    ) {
+        return datasetLineageService.getDatasetUsage(uri);
+    }
+}
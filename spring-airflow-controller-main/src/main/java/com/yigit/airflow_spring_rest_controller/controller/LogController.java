@@ -12,6 +12,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -133,4 +138,82 @@ public class LogController {
             @RequestParam(defaultValue = "1") Integer tryNumber) {
         return logService.getTaskLogs(dagId, dagRunId, taskId, tryNumber);
     }
+
+    @Operation(
+        summary = "Get logs of every try of a Task Instance",
+        description = "Fetches the logs of all tries of a task instance concurrently and streams them back in try " +
+                     "order, each preceded by a '===== Try n of N =====' line. A try is sent as soon as it and all " +
+                     "earlier tries have arrived, so the first try is not held back by slower ones. Tries whose " +
+                     "log is unavailable are reported in place."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Task instance logs successfully retrieved",
+            content = @Content(
+                mediaType = "text/plain"
+            )
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task instance not found"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Authentication failed"
+        )
+    })
+    @GetMapping(value = "/logs/{dagId}/dagRuns/{dagRunId}/taskInstances/{taskId}/tries", produces = MediaType.TEXT_PLAIN_VALUE)
+    public Flux<String> getAllTryLogs(
+            @Parameter(description = "The ID of the DAG", required = true)
+            @PathVariable String dagId,
+            @Parameter(description = "The ID of the DAG Run", required = true)
+            @PathVariable String dagRunId,
+            @Parameter(description = "The ID of the Task", required = true)
+            @PathVariable String taskId,
+            @Parameter(description = "Map index of a mapped task instance (optional)", required = false)
+            @RequestParam(required = false) Integer mapIndex) {
+        return logService.streamAllTryLogs(dagId, dagRunId, taskId, mapIndex);
+    }
+
+    @Operation(
+        summary = "Export all task logs of a DAG Run as ZIP",
+        description = "Fetches the log of every try of every started task instance in the run with bounded " +
+                     "concurrency and streams them into a ZIP archive as they arrive, one entry per try named " +
+                     "<task_id>[/map_index=<i>]/attempt=<n>.log. Only a bounded number of logs is held in memory."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Archive streamed",
+            content = @Content(
+                mediaType = "application/zip"
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "The run has more logs than can be exported at once"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "DAG Run not found"
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Authentication failed"
+        )
+    })
+    @GetMapping("/logs/{dagId}/dagRuns/{dagRunId}/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportDagRunLogs(
+            @Parameter(description = "The ID of the DAG", required = true)
+            @PathVariable String dagId,
+            @Parameter(description = "The ID of the DAG Run", required = true)
+            @PathVariable String dagRunId) {
+        String fileName = (dagId + "_" + dagRunId).replaceAll("[^A-Za-z0-9._-]", "_") + "_logs.zip";
+        return logService.exportRunLogs(dagId, dagRunId)
+            .map(archive -> ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(archive));
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.yigit.airflow_spring_rest_controller.controller;
+
+import com.yigit.airflow_spring_rest_controller.dto.monitoring.PollerMetrics;
+import com.yigit.airflow_spring_rest_controller.service.DagRunStatePoller;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("${api.endpoint.prefix}/monitoring")
+@Tag(
+    name = "Monitoring",
+    description = "Internal metrics of the controller's background components. Admin access only."
+)
+@RequiredArgsConstructor
+public class MonitoringController {
+
+    private final DagRunStatePoller dagRunStatePoller;
+
+    @Operation(
+        summary = "Get run-state poller metrics",
+        description = "Retrieves the number of watched runs and subscribers, the Airflow calls made by the " +
+                     "polling loops, and an estimate of the calls saved compared with every subscriber polling " +
+                     "on its own at the baseline interval."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Poller metrics successfully retrieved",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = PollerMetrics.class)
+            )
+        ),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "403", description = "Permission denied - Admin role required")
+    })
+    @GetMapping("/poller")
+    public Mono<PollerMetrics> getPollerMetrics() {
+        return Mono.fromSupplier(dagRunStatePoller::getMetrics);
+    }
+}
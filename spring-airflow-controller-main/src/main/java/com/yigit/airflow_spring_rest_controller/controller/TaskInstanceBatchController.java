@@ -0,0 +1,112 @@
+package com.yigit.airflow_spring_rest_controller.controller;
+
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceBulkStateUpdate;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceBulkStateUpdateResponse;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceCollection;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceListRequest;
+import com.yigit.airflow_spring_rest_controller.service.TaskInstanceService;
+import com.yigit.airflow_spring_rest_controller.service.TaskInstanceStateService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("${api.endpoint.prefix}/dags/~/dagRuns/~/taskInstances")
+@Tag(
+    name = "Task Instance Batch Operations",
+    description = "Operations on Task Instances of several DAGs and DAG Runs at once. Following Airflow's convention, " +
+                 "'~' in place of the DAG ID or DAG Run ID addresses all DAGs or runs."
+)
+@RequiredArgsConstructor
+public class TaskInstanceBatchController {
+
+    private final TaskInstanceService taskInstanceService;
+    private final TaskInstanceStateService taskInstanceStateService;
+
+    @Operation(
+        summary = "Query Task Instances across DAGs and runs",
+        description = "Finds Task Instances of all or selected DAGs, runs and tasks by state, pool, queue, duration and " +
+                     "execution, start and end date ranges, e.g. all running tasks on a pool. Without page_limit all " +
+                     "matches are returned; they are fetched from Airflow page by page in parallel, and queries " +
+                     "matching more than the configured maximum are rejected. With page_limit (and page_offset) " +
+                     "the single requested page is returned."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Matching Task Instances and their total",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskInstanceCollection.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid request - page_limit out of range or too many matches"),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "403", description = "Permission denied - User lacks required permissions")
+    })
+    @PostMapping("/list")
+    public Mono<TaskInstanceCollection> listTaskInstances(
+        @Parameter(
+            description = "Query filters and optional paging",
+            required = true,
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Running tasks on a pool",
+                    value = "{\"state\": [\"running\"], \"pool\": [\"database_pool\"]}"
+                )
+            )
+        )
+        @RequestBody TaskInstanceListRequest listRequest
+    ) {
+        return taskInstanceService.searchTaskInstances(listRequest);
+    }
+
+    @Operation(
+        summary = "Set task instance states in bulk",
+        description = "Sets the state of many task instances across DAGs and runs. Items are grouped by DAG and " +
+                     "processed in batches with bounded concurrency; each batch is audited with one multi-row insert. " +
+                     "Failed items do not stop the others; the outcome of every item is returned in request order."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Bulk update processed; see the outcome of each item",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskInstanceBulkStateUpdateResponse.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid request - missing identifiers, invalid new_state or too many items"),
+        @ApiResponse(responseCode = "401", description = "Authentication failed - Valid credentials required"),
+        @ApiResponse(responseCode = "403", description = "Permission denied - User lacks required permissions")
+    })
+    @PostMapping("/updateState")
+    public Mono<TaskInstanceBulkStateUpdateResponse> updateTaskInstanceStates(
+        @Parameter(
+            description = "The task instances and their new states",
+            required = true,
+            content = @Content(
+                examples = @ExampleObject(
+                    name = "Mark two tasks successful",
+                    value = "{\"items\": [" +
+                           "{\"dag_id\": \"load_orders\", \"dag_run_id\": \"manual__2024-03-01T00:00:00+00:00\", \"task_id\": \"extract\", \"new_state\": \"success\"}, " +
+                           "{\"dag_id\": \"load_orders\", \"dag_run_id\": \"manual__2024-03-02T00:00:00+00:00\", \"task_id\": \"extract\", \"new_state\": \"success\"}]}"
+                )
+            )
+        )
+        @RequestBody TaskInstanceBulkStateUpdate bulkUpdate
+    ) {
+        return taskInstanceStateService.updateTaskInstanceStates(bulkUpdate);
+    }
+}
@@ -1,10 +1,16 @@
 package com.yigit.airflow_spring_rest_controller.controller;
 
+import com.yigit.airflow_spring_rest_controller.dto.task.MappedTaskSummary;
 import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
 import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceCollection;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceReferenceCollection;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceStateUpdate;
 import com.yigit.airflow_spring_rest_controller.service.TaskInstanceService;
+import com.yigit.airflow_spring_rest_controller.service.TaskInstanceStateService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.List;
 import java.util.Map;
@@ -25,9 +31,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 public class TaskInstanceController {
 
     private final TaskInstanceService taskInstanceService;
+    private final TaskInstanceStateService taskInstanceStateService;
 
-    public TaskInstanceController(TaskInstanceService taskInstanceService) {
+    public TaskInstanceController(TaskInstanceService taskInstanceService, TaskInstanceStateService taskInstanceStateService) {
         this.taskInstanceService = taskInstanceService;
+        this.taskInstanceStateService = taskInstanceStateService;
     }
 
     @Operation(
@@ -95,4 +103,132 @@ public class TaskInstanceController {
         }
         return taskInstanceService.getTaskInstances(dagId, dagRunId, queryParams);
     }
-} 
\ No newline at end of file
+
+    @Operation(
+        summary = "Get mapped task instances",
+        description = "Retrieves the mapped instances (one per map_index) of a dynamically mapped task one page at a time. " +
+                     "limit, offset, order_by and filters such as state are passed through to Airflow. " +
+                     "With stream=true every matching instance is streamed in order as newline-delimited JSON; the stream " +
+                     "is fetched from Airflow page by page in parallel and never held in memory as a whole."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Mapped task instances retrieved successfully",
+            content = {
+                @Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = TaskInstanceCollection.class)),
+                @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE, schema = @Schema(implementation = TaskInstance.class))
+            }
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task is not mapped or DAG/DAG Run does not exist"
+        )
+    })
+    @GetMapping(value = "/{taskId}/listMapped", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<TaskInstanceCollection> getMappedTaskInstances(
+        @Parameter(description = "The ID of the DAG", required = true, example = "example_dag_id")
+        @PathVariable String dagId,
+
+        @Parameter(description = "The ID of the DAG Run", required = true,
+                  example = "scheduled__2024-02-24T10:00:00+00:00")
+        @PathVariable String dagRunId,
+
+        @Parameter(description = "The ID of the mapped Task", required = true, example = "process_file")
+        @PathVariable String taskId,
+
+        @RequestParam(required = false) Map<String, String> params
+    ) {
+        Map<String, String> filters = params != null ? new HashMap<>(params) : new HashMap<>();
+        filters.remove("stream");
+        return taskInstanceService.getMappedTaskInstances(dagId, dagRunId, taskId, filters);
+    }
+
+    @GetMapping(value = "/{taskId}/listMapped", params = "stream=true", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<TaskInstance> streamMappedTaskInstances(
+        @PathVariable String dagId,
+        @PathVariable String dagRunId,
+        @PathVariable String taskId,
+        @RequestParam Map<String, String> params
+    ) {
+        Map<String, String> filters = new HashMap<>(params);
+        filters.remove("stream");
+        return taskInstanceService.streamMappedTaskInstances(dagId, dagRunId, taskId, filters);
+    }
+
+    @Operation(
+        summary = "Get mapped task state summary",
+        description = "Counts the states of a mapped task's instances, overall and per map_index range, " +
+                     "so progress of thousands of mapped instances can be shown without loading them."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "Summary computed successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = MappedTaskSummary.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid number of ranges"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task is not mapped or DAG/DAG Run does not exist"
+        )
+    })
+    @GetMapping("/{taskId}/mappedSummary")
+    public Mono<MappedTaskSummary> getMappedTaskSummary(
+        @Parameter(description = "The ID of the DAG", required = true, example = "example_dag_id")
+        @PathVariable String dagId,
+
+        @Parameter(description = "The ID of the DAG Run", required = true,
+                  example = "scheduled__2024-02-24T10:00:00+00:00")
+        @PathVariable String dagRunId,
+
+        @Parameter(description = "The ID of the mapped Task", required = true, example = "process_file")
+        @PathVariable String taskId,
+
+        @Parameter(description = "Number of map_index ranges to count states for", example = "50")
+        @RequestParam(defaultValue = "50") int ranges
+    ) {
+        return taskInstanceService.getMappedTaskSummary(dagId, dagRunId, taskId, ranges);
+    }
+
+    @Operation(
+        summary = "Set the state of a task instance",
+        description = "Sets a task instance to success, failed or skipped, optionally together with its upstream, " +
+                     "downstream, past and future instances. With dry_run the affected instances are returned " +
+                     "without changing them. The change is recorded in the audit log."
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description = "State updated; the affected task instances are returned",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = TaskInstanceReferenceCollection.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid new_state"),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Task instance not found or DAG/DAG Run does not exist"
+        )
+    })
+    @PatchMapping("/{taskId}/state")
+    public Mono<TaskInstanceReferenceCollection> updateTaskInstanceState(
+        @Parameter(description = "The ID of the DAG", required = true, example = "example_dag_id")
+        @PathVariable String dagId,
+
+        @Parameter(description = "The ID of the DAG Run", required = true,
+                  example = "scheduled__2024-02-24T10:00:00+00:00")
+        @PathVariable String dagRunId,
+
+        @Parameter(description = "The ID of the Task", required = true, example = "task_1")
+        @PathVariable String taskId,
+
+        @RequestBody TaskInstanceStateUpdate stateUpdate
+    ) {
+        return taskInstanceStateService.updateTaskInstanceState(dagId, dagRunId, taskId, stateUpdate);
+    }
+}
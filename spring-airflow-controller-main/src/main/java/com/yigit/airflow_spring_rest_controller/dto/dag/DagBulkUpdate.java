@@ -0,0 +1,20 @@
+package com.yigit.airflow_spring_rest_controller.dto.dag;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * Bulk update of several DAGs, selected either by explicit IDs or by an Airflow dag_id_pattern
+ */
+@Data
+public class DagBulkUpdate {
+    @JsonProperty("dag_ids")
+    private List<String> dagIds;
+    
+    @JsonProperty("dag_id_pattern")
+    private String dagIdPattern;
+    
+    @JsonProperty("is_paused")
+    private Boolean isPaused;
+}
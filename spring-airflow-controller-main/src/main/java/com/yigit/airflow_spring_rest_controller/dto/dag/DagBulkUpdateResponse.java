@@ -0,0 +1,16 @@
+package com.yigit.airflow_spring_rest_controller.dto.dag;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DagBulkUpdateResponse {
+    private List<DagBulkUpdateResult> results;
+    private Integer succeeded;
+    private Integer failed;
+}
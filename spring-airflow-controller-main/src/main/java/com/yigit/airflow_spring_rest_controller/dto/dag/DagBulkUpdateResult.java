@@ -0,0 +1,17 @@
+package com.yigit.airflow_spring_rest_controller.dto.dag;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagBulkUpdateResult {
+    private String dagId;
+    private Boolean success;
+    private Boolean isPaused;
+    private String error;
+}
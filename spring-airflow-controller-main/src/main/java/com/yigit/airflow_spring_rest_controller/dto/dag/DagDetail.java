@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.yigit.airflow_spring_rest_controller.dto.schedule.TimeDelta;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Data
 public class DagDetail {
@@ -78,4 +79,7 @@ public class DagDetail {
     
     @JsonProperty("next_dagrun_data_interval_start")
     private ZonedDateTime nextDagrunDataIntervalStart;
+    
+    @JsonProperty("dataset_expression")
+    private Map<String, Object> datasetExpression;
 } 
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.yigit.airflow_spring_rest_controller.dto.dag;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.log.DagActionLogDTO;
+import com.yigit.airflow_spring_rest_controller.dto.task.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Everything the DAG detail view needs in one document.
+ * Parts that failed or timed out are left null and reported in {@code errors} by part name.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagOverview {
+    private Dag dag;
+    private DagDetail details;
+    private List<Task> tasks;
+    private List<DagRun> recentRuns;
+    private List<DagActionLogDTO> actionLogs;
+    private Map<String, String> errors;
+}
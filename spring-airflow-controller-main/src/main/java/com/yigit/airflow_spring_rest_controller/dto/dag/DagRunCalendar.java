@@ -0,0 +1,26 @@
+package com.yigit.airflow_spring_rest_controller.dto.dag;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Daily run counts of a DAG in a compact form: {@code counts} holds one group of {@code states.size()} numbers per
+ * day from {@code from} to {@code to}, so the count of state s on day d is {@code counts[d * states.size() + s]}.
+ * Days are UTC days of the runs' execution dates.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagRunCalendar {
+    private String dagId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<String> states;
+    private int[] counts;
+}
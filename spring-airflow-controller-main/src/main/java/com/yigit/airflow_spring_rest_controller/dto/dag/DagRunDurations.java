@@ -0,0 +1,32 @@
+package com.yigit.airflow_spring_rest_controller.dto.dag;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Run-duration statistics of a DAG's finished runs. Quantiles are estimates within the stated relative accuracy.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagRunDurations {
+    private String dagId;
+    private Long runCount;
+    private Long successCount;
+    private Long failedCount;
+    private Double meanSeconds;
+    private Double minSeconds;
+    private Double maxSeconds;
+    private Double p50Seconds;
+    private Double p95Seconds;
+    private Double p99Seconds;
+    private Double relativeAccuracy;
+    // End date (UTC) of the latest run included
+    private LocalDateTime lastEndDate;
+    private LocalDateTime updatedAt;
+}
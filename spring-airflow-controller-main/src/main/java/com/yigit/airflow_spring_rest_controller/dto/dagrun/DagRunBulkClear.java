@@ -0,0 +1,42 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Selection of the DAG Runs to clear in bulk. Omitted filters match everything; states defaults to failed runs.
+ */
+@Data
+public class DagRunBulkClear {
+    @JsonProperty("dag_ids")
+    private List<String> dagIds;
+
+    private List<String> states;
+
+    @JsonProperty("execution_date_gte")
+    private ZonedDateTime executionDateGte;
+
+    @JsonProperty("execution_date_lte")
+    private ZonedDateTime executionDateLte;
+
+    @JsonProperty("start_date_gte")
+    private ZonedDateTime startDateGte;
+
+    @JsonProperty("start_date_lte")
+    private ZonedDateTime startDateLte;
+
+    @JsonProperty("end_date_gte")
+    private ZonedDateTime endDateGte;
+
+    @JsonProperty("end_date_lte")
+    private ZonedDateTime endDateLte;
+
+    // Clear only the failed and upstream-failed task instances of the selected runs (default true)
+    @JsonProperty("only_failed")
+    private Boolean onlyFailed;
+
+    @JsonProperty("dry_run")
+    private Boolean dryRun;
+}
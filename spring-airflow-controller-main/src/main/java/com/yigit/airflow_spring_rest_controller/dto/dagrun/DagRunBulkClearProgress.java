@@ -0,0 +1,33 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Progress event of a bulk clear: one "selected" event, one "batch" event per clear call and a final "done" event
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DagRunBulkClearProgress {
+    public static final String SELECTED = "selected";
+    public static final String BATCH = "batch";
+    public static final String DONE = "done";
+
+    private String type;
+    private String dagId;
+    private List<String> dagRunIds;
+    private Boolean success;
+    private String error;
+    private Integer clearedTaskInstances;
+    private Integer completedRuns;
+    private Integer failedRuns;
+    private Integer totalRuns;
+}
@@ -0,0 +1,26 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * Bulk trigger of DAG Runs; each item carries a client-chosen idempotency key so that retried requests
+ * do not create the same run twice
+ */
+@Data
+public class DagRunBulkTrigger {
+    private List<Item> items;
+
+    @Data
+    public static class Item {
+        @JsonProperty("idempotency_key")
+        private String idempotencyKey;
+        
+        @JsonProperty("dag_id")
+        private String dagId;
+        
+        @JsonProperty("dag_run")
+        private DagRunCreate dagRun;
+    }
+}
@@ -0,0 +1,17 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DagRunBulkTriggerResponse {
+    private List<DagRunBulkTriggerResult> results;
+    private Integer triggered;
+    private Integer duplicates;
+    private Integer failed;
+}
@@ -0,0 +1,30 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagRunBulkTriggerResult {
+    private String idempotencyKey;
+    private String dagId;
+    private Outcome outcome;
+    private String dagRunId;
+    private String error;
+
+    public enum Outcome {
+        // The run was created by this request
+        TRIGGERED,
+        // The key was already used and its run was created
+        DUPLICATE,
+        // The key was already claimed by a request that has not finished yet
+        IN_PROGRESS,
+        // Airflow rejected the run and the key is released so the item can be retried,
+        // or the key was already used for another DAG
+        FAILED
+    }
+}
@@ -1,6 +1,7 @@
 package com.yigit.airflow_spring_rest_controller.dto.dagrun;
 
 import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 
@@ -11,4 +12,9 @@ public class DagRunCollection {
     
     @JsonProperty("total_entries")
     private Integer totalEntries;
+
+    // Continuation token added by this API for paged listings; not part of Airflow's response
+    @JsonProperty("next_cursor")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 } 
\ No newline at end of file
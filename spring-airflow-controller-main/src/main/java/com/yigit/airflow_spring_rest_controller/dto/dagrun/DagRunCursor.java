@@ -0,0 +1,28 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Position of a DAG run listing, handed to clients as an opaque continuation token.
+ * <p>
+ * Keyset positions hold the execution date of the last returned run and the runs already returned at exactly
+ * that date, so the next page starts at the date instead of skipping rows. Offset positions are used for
+ * orderings Airflow cannot filter on.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagRunCursor {
+    private String orderBy;
+    private ZonedDateTime boundary;
+    // "dagId/dagRunId" of the runs returned at the boundary
+    private List<String> seen;
+    private Integer offset;
+}
@@ -0,0 +1,53 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Gantt layout and critical path of a DAG Run. Bar offsets are seconds since {@code origin}; the critical path
+ * lists the chain of tasks, root first, whose completion determined when the run finished.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagRunGantt {
+    private String dagId;
+    private String dagRunId;
+    private String state;
+    // Earliest of the run's start and its tasks' queue times
+    private ZonedDateTime origin;
+    private Double durationSeconds;
+    private List<String> criticalPath;
+    private Double criticalPathQueueSeconds;
+    private Double criticalPathExecutionSeconds;
+    private Integer rowCount;
+    private List<Bar> bars;
+
+    /**
+     * One task instance; mapped instances of a task share its row
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Bar {
+        private String taskId;
+        private Integer mapIndex;
+        private String state;
+        private Integer tryNumber;
+        private Integer row;
+        private Double queuedOffsetSeconds;
+        private Double startOffsetSeconds;
+        // Null while the instance is running
+        private Double endOffsetSeconds;
+        private Double queueWaitSeconds;
+        private Double executionSeconds;
+        private boolean critical;
+    }
+}
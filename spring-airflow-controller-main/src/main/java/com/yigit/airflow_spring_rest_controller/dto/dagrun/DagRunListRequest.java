@@ -0,0 +1,52 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Request body for Airflow's batch endpoint POST /dags/~/dagRuns/list
+ */
+@Data
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DagRunListRequest {
+    @JsonProperty("order_by")
+    private String orderBy;
+
+    @JsonProperty("page_offset")
+    private Integer pageOffset;
+
+    @JsonProperty("page_limit")
+    private Integer pageLimit;
+
+    @JsonProperty("dag_ids")
+    private List<String> dagIds;
+
+    private List<String> states;
+
+    @JsonProperty("execution_date_gte")
+    private ZonedDateTime executionDateGte;
+
+    @JsonProperty("execution_date_lte")
+    private ZonedDateTime executionDateLte;
+
+    @JsonProperty("start_date_gte")
+    private ZonedDateTime startDateGte;
+
+    @JsonProperty("start_date_lte")
+    private ZonedDateTime startDateLte;
+
+    @JsonProperty("end_date_gte")
+    private ZonedDateTime endDateGte;
+
+    @JsonProperty("end_date_lte")
+    private ZonedDateTime endDateLte;
+}
@@ -0,0 +1,20 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagRunPage {
+    private List<DagRun> dagRuns;
+    // Number of matching runs; only reported for the first page
+    private Integer totalEntries;
+    // Token for the next page; null on the last page
+    private String nextCursor;
+}
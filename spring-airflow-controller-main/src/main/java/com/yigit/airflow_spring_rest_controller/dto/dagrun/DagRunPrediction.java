@@ -0,0 +1,51 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Predicted completion of a DAG Run. Tasks that have not finished are placed after their upstream tasks using their
+ * duration estimates; the critical path lists the chain of tasks, root first, that determines the predicted end.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class DagRunPrediction {
+    private String dagId;
+    private String dagRunId;
+    private String state;
+    // Actual end date once the run finished
+    private ZonedDateTime predictedEndDate;
+    private Double remainingSeconds;
+    private Integer finishedTasks;
+    private Integer runningTasks;
+    private Integer pendingTasks;
+    // Unfinished tasks without recorded durations; they are assumed to take no time
+    private Integer unestimatedTasks;
+    private List<String> criticalPath;
+    private List<Task> tasks;
+    private ZonedDateTime computedAt;
+
+    /**
+     * Prediction for one task; mapped instances are assumed to run in parallel
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Task {
+        private String taskId;
+        // finished, running or pending
+        private String status;
+        private Double estimatedSeconds;
+        private ZonedDateTime predictedStartDate;
+        private ZonedDateTime predictedEndDate;
+        private boolean critical;
+    }
+}
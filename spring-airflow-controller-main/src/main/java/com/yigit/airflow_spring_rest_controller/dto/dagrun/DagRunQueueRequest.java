@@ -0,0 +1,16 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A DAG Run to be triggered through the durable trigger queue
+ */
+@Data
+public class DagRunQueueRequest {
+    @JsonProperty("dag_id")
+    private String dagId;
+    
+    @JsonProperty("dag_run")
+    private DagRunCreate dagRun;
+}
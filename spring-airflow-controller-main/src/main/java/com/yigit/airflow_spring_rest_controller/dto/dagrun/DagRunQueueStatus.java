@@ -0,0 +1,26 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagRunQueueStatus {
+    private Long requestId;
+    private String dagId;
+    private String dagRunId;
+    private String status;
+    // Number of pending requests ahead of this one; null once the request left the queue
+    private Long position;
+    private Integer attempts;
+    private String error;
+    private LocalDateTime enqueuedAt;
+    private LocalDateTime nextAttemptAt;
+    private LocalDateTime dispatchedAt;
+}
@@ -0,0 +1,44 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Filters of a cross-DAG run search. Omitted filters match everything.
+ */
+@Data
+public class DagRunSearchRequest {
+    @JsonProperty("dag_ids")
+    private List<String> dagIds;
+
+    private List<String> states;
+
+    @JsonProperty("execution_date_gte")
+    private ZonedDateTime executionDateGte;
+
+    @JsonProperty("execution_date_lte")
+    private ZonedDateTime executionDateLte;
+
+    @JsonProperty("start_date_gte")
+    private ZonedDateTime startDateGte;
+
+    @JsonProperty("start_date_lte")
+    private ZonedDateTime startDateLte;
+
+    @JsonProperty("end_date_gte")
+    private ZonedDateTime endDateGte;
+
+    @JsonProperty("end_date_lte")
+    private ZonedDateTime endDateLte;
+
+    // "execution_date" or "-execution_date" (default, newest first)
+    @JsonProperty("order_by")
+    private String orderBy;
+
+    private Integer limit;
+
+    // Continuation token of the previous page; the filters must be the same as for that page
+    private String cursor;
+}
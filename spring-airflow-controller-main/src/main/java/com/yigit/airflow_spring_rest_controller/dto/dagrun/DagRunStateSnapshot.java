@@ -0,0 +1,27 @@
+package com.yigit.airflow_spring_rest_controller.dto.dagrun;
+
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * State of a DAG run and its task instances as observed by one poll of the shared run-state poller
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagRunStateSnapshot {
+    private String dagId;
+    private String dagRunId;
+    // Incremented whenever the observed state differs from the previous poll
+    private Long version;
+    private DagRun dagRun;
+    private List<TaskInstance> taskInstances;
+    private ZonedDateTime polledAt;
+}
@@ -0,0 +1,25 @@
+package com.yigit.airflow_spring_rest_controller.dto.dashboard;
+
+import com.yigit.airflow_spring_rest_controller.dto.dag.Dag;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+/**
+ * A DAG together with a summary of its latest and recent runs
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagDashboardEntry {
+    private Dag dag;
+    private String latestRunId;
+    private String latestRunState;
+    private ZonedDateTime latestRunExecutionDate;
+    private Map<String, Integer> recentRunStates;
+}
@@ -0,0 +1,20 @@
+package com.yigit.airflow_spring_rest_controller.dto.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DagDashboardResponse {
+    private List<DagDashboardEntry> dags;
+    private Integer totalEntries;
+    private Integer page;
+    private Integer size;
+    private Integer recentDays;
+    // True when the window held more runs than the dashboard reads, so recentRunStates undercount
+    private boolean recentRunsTruncated;
+}
@@ -0,0 +1,23 @@
+package com.yigit.airflow_spring_rest_controller.dto.dataset;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DAGs connected to a DAG through datasets, in one direction
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DagLineage {
+    private String dagId;
+    private String direction;
+    private Boolean transitive;
+    private List<String> dagIds;
+    private List<String> datasetUris;
+}
@@ -0,0 +1,28 @@
+package com.yigit.airflow_spring_rest_controller.dto.dataset;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class Dataset {
+    private Integer id;
+    
+    private String uri;
+    
+    private Map<String, Object> extra;
+    
+    @JsonProperty("created_at")
+    private ZonedDateTime createdAt;
+    
+    @JsonProperty("updated_at")
+    private ZonedDateTime updatedAt;
+    
+    @JsonProperty("consuming_dags")
+    private List<DagScheduleDatasetReference> consumingDags;
+    
+    @JsonProperty("producing_tasks")
+    private List<TaskOutletDatasetReference> producingTasks;
+}
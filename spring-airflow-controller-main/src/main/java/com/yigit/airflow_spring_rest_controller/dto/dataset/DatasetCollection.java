@@ -0,0 +1,13 @@
+package com.yigit.airflow_spring_rest_controller.dto.dataset;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+@Data
+public class DatasetCollection {
+    private List<Dataset> datasets;
+    
+    @JsonProperty("total_entries")
+    private Integer totalEntries;
+}
@@ -0,0 +1,18 @@
+package com.yigit.airflow_spring_rest_controller.dto.dataset;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DatasetUsage {
+    private String uri;
+    private List<String> producerDagIds;
+    private List<String> consumerDagIds;
+}
@@ -0,0 +1,20 @@
+package com.yigit.airflow_spring_rest_controller.dto.dataset;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.ZonedDateTime;
+
+@Data
+public class TaskOutletDatasetReference {
+    @JsonProperty("dag_id")
+    private String dagId;
+    
+    @JsonProperty("task_id")
+    private String taskId;
+    
+    @JsonProperty("created_at")
+    private ZonedDateTime createdAt;
+    
+    @JsonProperty("updated_at")
+    private ZonedDateTime updatedAt;
+}
@@ -0,0 +1,22 @@
+package com.yigit.airflow_spring_rest_controller.dto.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PollerMetrics {
+    private Integer activeWatches;
+    private Integer subscribers;
+    // Airflow calls made by the polling loops and subscriber access checks since startup
+    private Long upstreamCalls;
+    // Estimated from subscriber counts: calls the same subscribers would have made polling on their own at the
+    // baseline interval, not a measured value
+    private Long estimatedBaselineCalls;
+    private Long estimatedCallsSaved;
+    private Long skippedTaskInstanceFetches;
+}
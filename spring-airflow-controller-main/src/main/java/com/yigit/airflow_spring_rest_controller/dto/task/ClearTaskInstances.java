@@ -0,0 +1,46 @@
+package com.yigit.airflow_spring_rest_controller.dto.task;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.AllArgsConstructor;
+import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Request body for Airflow's POST /dags/{dag_id}/clearTaskInstances.
+ * start_date and end_date bound the execution dates of the runs whose task instances are cleared.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClearTaskInstances {
+    // Airflow defaults to a dry run, so the flag is always sent
+    @JsonProperty("dry_run")
+    private boolean dryRun;
+
+    @JsonProperty("task_ids")
+    private List<String> taskIds;
+
+    @JsonProperty("start_date")
+    private ZonedDateTime startDate;
+
+    @JsonProperty("end_date")
+    private ZonedDateTime endDate;
+
+    @JsonProperty("only_failed")
+    private Boolean onlyFailed;
+
+    @JsonProperty("only_running")
+    private Boolean onlyRunning;
+
+    @JsonProperty("reset_dag_runs")
+    private Boolean resetDagRuns;
+
+    @JsonProperty("dag_run_id")
+    private String dagRunId;
+}
@@ -0,0 +1,37 @@
+package com.yigit.airflow_spring_rest_controller.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * State counts of a mapped task's instances, overall and per map_index range. Instances without a state
+ * are counted as "none".
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MappedTaskSummary {
+    private String dagId;
+    private String dagRunId;
+    private String taskId;
+    private Integer totalInstances;
+    private Integer rangeSize;
+    private Map<String, Integer> states;
+    private List<Range> ranges;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Range {
+        private Integer fromMapIndex;
+        private Integer toMapIndex;
+        private Map<String, Integer> states;
+    }
+}
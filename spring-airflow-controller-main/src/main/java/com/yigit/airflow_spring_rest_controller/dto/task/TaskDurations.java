@@ -0,0 +1,52 @@
+package com.yigit.airflow_spring_rest_controller.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Duration, retry and failure statistics of a task over its finished instances. Quantiles and histogram bounds
+ * are estimates within the stated relative accuracy.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskDurations {
+    private String dagId;
+    private String taskId;
+    private Long instanceCount;
+    private Long successCount;
+    private Long failedCount;
+    // Failed share of the finished instances
+    private Double failureRate;
+    private Long retriedCount;
+    // Share of instances that needed more than one try
+    private Double retryRate;
+    private Double meanTries;
+    private Double meanSeconds;
+    private Double minSeconds;
+    private Double maxSeconds;
+    private Double p50Seconds;
+    private Double p95Seconds;
+    private Double p99Seconds;
+    // Moving average of successful durations weighted towards recent instances, used for run predictions
+    private Double ewmaSeconds;
+    private Double relativeAccuracy;
+    private List<Bin> histogram;
+    // End date (UTC) of the latest instance included
+    private LocalDateTime lastEndDate;
+    private LocalDateTime updatedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Bin {
+        private Double upperSeconds;
+        private Long count;
+    }
+}
@@ -0,0 +1,31 @@
+package com.yigit.airflow_spring_rest_controller.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Compact, int-indexed representation of a DAG's task graph.
+ * Task {@code i} is {@code taskIds[i]}; its downstream tasks are
+ * {@code downstream[downstreamOffsets[i]] .. downstream[downstreamOffsets[i + 1] - 1]}.
+ * The layered layout places task {@code i} in column {@code depths[i]} and row {@code rows[i]}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskGraph {
+    private String dagId;
+    private String fileToken;
+    private List<String> taskIds;
+    private int[] downstreamOffsets;
+    private int[] downstream;
+    private int[] topologicalOrder;
+    private int[] depths;
+    private int[] rows;
+    private int[][] layers;
+    private int edgeCount;
+}
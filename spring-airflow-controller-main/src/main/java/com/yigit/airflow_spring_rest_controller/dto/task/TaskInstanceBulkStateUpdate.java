@@ -0,0 +1,45 @@
+package com.yigit.airflow_spring_rest_controller.dto.task;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.List;
+
+/**
+ * Bulk update of task instance states across DAGs and runs. Every item names its DAG, run and task;
+ * the include_* flags extend an item to upstream, downstream, past or future instances as in Airflow.
+ */
+@Data
+public class TaskInstanceBulkStateUpdate {
+    private List<Item> items;
+
+    // Applies to every item; defaults to false
+    @JsonProperty("dry_run")
+    private Boolean dryRun;
+
+    @Data
+    public static class Item {
+        @JsonProperty("dag_id")
+        private String dagId;
+
+        @JsonProperty("dag_run_id")
+        private String dagRunId;
+
+        @JsonProperty("task_id")
+        private String taskId;
+
+        @JsonProperty("new_state")
+        private String newState;
+
+        @JsonProperty("include_upstream")
+        private Boolean includeUpstream;
+
+        @JsonProperty("include_downstream")
+        private Boolean includeDownstream;
+
+        @JsonProperty("include_future")
+        private Boolean includeFuture;
+
+        @JsonProperty("include_past")
+        private Boolean includePast;
+    }
+}
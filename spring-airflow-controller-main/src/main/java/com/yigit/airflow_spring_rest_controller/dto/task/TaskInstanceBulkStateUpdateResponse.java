@@ -0,0 +1,35 @@
+package com.yigit.airflow_spring_rest_controller.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskInstanceBulkStateUpdateResponse {
+    private List<Result> results;
+    private Boolean dryRun;
+    private Integer updated;
+    private Integer failed;
+    // Task instances changed (or, for a dry run, that would change) over all items
+    private Integer affectedTaskInstances;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Result {
+        private String dagId;
+        private String dagRunId;
+        private String taskId;
+        private String newState;
+        private boolean success;
+        private String error;
+        private List<TaskInstanceReference> taskInstances;
+    }
+}
@@ -0,0 +1,34 @@
+package com.yigit.airflow_spring_rest_controller.dto.task;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Task instances of a DAG run that changed since a client's snapshot version. When {@code full} is true the
+ * client's version was unknown and {@code taskInstances} holds every instance, replacing the client's copy.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskInstanceDelta {
+    private String dagId;
+    private String dagRunId;
+    // Pass as since_version on the next request
+    private Long version;
+    private boolean full;
+    private List<TaskInstance> taskInstances;
+    private List<Key> removed;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key {
+        private String taskId;
+        private Integer mapIndex;
+    }
+}
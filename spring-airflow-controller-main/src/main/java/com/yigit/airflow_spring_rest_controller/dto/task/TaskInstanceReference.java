@@ -0,0 +1,20 @@
+package com.yigit.airflow_spring_rest_controller.dto.task;
+
+import lombok.Data;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.time.ZonedDateTime;
+
+@Data
+public class TaskInstanceReference {
+    @JsonProperty("task_id")
+    private String taskId;
+
+    @JsonProperty("dag_id")
+    private String dagId;
+
+    @JsonProperty("dag_run_id")
+    private String dagRunId;
+
+    @JsonProperty("execution_date")
+    private ZonedDateTime executionDate;
+}
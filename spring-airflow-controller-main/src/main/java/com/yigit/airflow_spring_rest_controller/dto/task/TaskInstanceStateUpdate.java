@@ -4,18 +4,21 @@ import lombok.Data;
 import lombok.Builder;
 import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.ZonedDateTime;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class TaskInstanceStateUpdate {
     @JsonProperty("new_state")
     private String newState;
     
     @JsonProperty("dry_run")
+    @Builder.Default
     private boolean dryRun = false;
     
     @JsonProperty("task_id")
@@ -0,0 +1,48 @@
+package com.yigit.airflow_spring_rest_controller.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Number of runs per state of a DAG on one day (UTC, by execution date)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table("dag_run_calendar_days")
+public class DagRunCalendarDay {
+
+    @Id
+    @Column("id")
+    private Long id;
+
+    @Column("dag_id")
+    private String dagId;
+
+    @Column("day")
+    private LocalDate day;
+
+    @Column("success_count")
+    private Integer successCount;
+
+    @Column("failed_count")
+    private Integer failedCount;
+
+    @Column("running_count")
+    private Integer runningCount;
+
+    @Column("queued_count")
+    private Integer queuedCount;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,51 @@
+package com.yigit.airflow_spring_rest_controller.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * How far back the calendar of a DAG has been aggregated and when it was last brought up to date
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table("dag_run_calendar_sync")
+public class DagRunCalendarSync implements Persistable<String> {
+
+    @Id
+    @Column("dag_id")
+    private String dagId;
+
+    // Every day from this one on is aggregated
+    @Column("synced_from")
+    private LocalDate syncedFrom;
+
+    // Runs updated after this time (UTC) are not reflected yet
+    @Column("synced_at")
+    private LocalDateTime syncedAt;
+
+    // The DAG ID is assigned, so whether save() inserts or updates has to be tracked explicitly
+    @Transient
+    private boolean newSync;
+
+    @Override
+    public String getId() {
+        return dagId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSync;
+    }
+}
@@ -0,0 +1,80 @@
+package com.yigit.airflow_spring_rest_controller.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.domain.Persistable;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Run-duration quantile sketch of a DAG with the quantiles precomputed at the last update
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table("dag_run_duration_stats")
+public class DagRunDurationStats implements Persistable<String> {
+
+    @Id
+    @Column("dag_id")
+    private String dagId;
+
+    @Column("run_count")
+    private Long runCount;
+
+    @Column("success_count")
+    private Long successCount;
+
+    @Column("failed_count")
+    private Long failedCount;
+
+    @Column("mean_seconds")
+    private Double meanSeconds;
+
+    @Column("min_seconds")
+    private Double minSeconds;
+
+    @Column("max_seconds")
+    private Double maxSeconds;
+
+    @Column("p50_seconds")
+    private Double p50Seconds;
+
+    @Column("p95_seconds")
+    private Double p95Seconds;
+
+    @Column("p99_seconds")
+    private Double p99Seconds;
+
+    // QuantileSketch.encode() of the run durations in seconds
+    @Column("sketch")
+    private String sketch;
+
+    // End date (UTC) of the latest run included; later runs are added on the next refresh
+    @Column("last_end_date")
+    private LocalDateTime lastEndDate;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+
+    // The DAG ID is assigned, so whether save() inserts or updates has to be tracked explicitly
+    @Transient
+    private boolean newStats;
+
+    @Override
+    public String getId() {
+        return dagId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newStats;
+    }
+}
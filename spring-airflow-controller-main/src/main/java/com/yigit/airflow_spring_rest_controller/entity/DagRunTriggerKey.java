@@ -0,0 +1,50 @@
+package com.yigit.airflow_spring_rest_controller.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table("dag_run_trigger_keys")
+public class DagRunTriggerKey {
+
+    @Id
+    @Column("id")
+    private Long id;
+
+    @Column("idempotency_key")
+    private String idempotencyKey;
+
+    @Column("dag_id")
+    private String dagId;
+
+    @Column("username")
+    private String username;
+
+    @Column("status")
+    private String status;
+
+    @Column("dag_run_id")
+    private String dagRunId;
+
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @Column("expires_at")
+    private LocalDateTime expiresAt;
+
+    // Enum for key statuses
+    public enum Status {
+        PENDING,
+        TRIGGERED
+    }
+}
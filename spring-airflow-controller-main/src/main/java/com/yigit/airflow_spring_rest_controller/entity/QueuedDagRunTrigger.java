@@ -0,0 +1,65 @@
+package com.yigit.airflow_spring_rest_controller.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table("dag_run_trigger_queue")
+public class QueuedDagRunTrigger {
+
+    @Id
+    @Column("id")
+    private Long id;
+
+    @Column("dag_id")
+    private String dagId;
+
+    @Column("dag_run_id")
+    private String dagRunId;
+
+    // DagRunCreate serialized as JSON
+    @Column("request_body")
+    private String requestBody;
+
+    @Column("username")
+    private String username;
+
+    @Column("status")
+    private String status;
+
+    @Column("attempts")
+    private Integer attempts;
+
+    @Column("error")
+    private String error;
+
+    @Column("enqueued_at")
+    private LocalDateTime enqueuedAt;
+
+    @Column("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column("locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column("dispatched_at")
+    private LocalDateTime dispatchedAt;
+
+    // Enum for queue statuses
+    public enum Status {
+        QUEUED,
+        DISPATCHING,
+        TRIGGERED,
+        FAILED
+    }
+}
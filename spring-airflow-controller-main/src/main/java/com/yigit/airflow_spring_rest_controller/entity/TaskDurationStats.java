@@ -0,0 +1,73 @@
+package com.yigit.airflow_spring_rest_controller.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * Duration sketch, retry and failure counts of one task over the finished instances of all its DAG's runs
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table("task_duration_stats")
+public class TaskDurationStats {
+
+    @Id
+    @Column("id")
+    private Long id;
+
+    @Column("dag_id")
+    private String dagId;
+
+    @Column("task_id")
+    private String taskId;
+
+    @Column("instance_count")
+    private Long instanceCount;
+
+    @Column("success_count")
+    private Long successCount;
+
+    @Column("failed_count")
+    private Long failedCount;
+
+    // Instances that needed more than one try
+    @Column("retried_count")
+    private Long retriedCount;
+
+    // Tries beyond the first, summed over all instances
+    @Column("retry_count")
+    private Long retryCount;
+
+    @Column("p50_seconds")
+    private Double p50Seconds;
+
+    @Column("p95_seconds")
+    private Double p95Seconds;
+
+    @Column("p99_seconds")
+    private Double p99Seconds;
+
+    // Exponentially weighted moving average of successful instance durations, in end date order
+    @Column("ewma_seconds")
+    private Double ewmaSeconds;
+
+    // QuantileSketch.encode() of the instance durations in seconds
+    @Column("sketch")
+    private String sketch;
+
+    // End date (UTC) of the latest instance included
+    @Column("last_end_date")
+    private LocalDateTime lastEndDate;
+
+    @Column("updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -12,7 +12,7 @@ import reactor.core.publisher.Mono;
 import java.time.LocalDateTime;
 
 @Repository
-public interface DagActionLogRepository extends ReactiveCrudRepository<DagActionLog, Long> {
+public interface DagActionLogRepository extends ReactiveCrudRepository<DagActionLog, Long>, DagActionLogRepositoryCustom {
     
     Flux<DagActionLog> findByDagId(String dagId);
     
@@ -0,0 +1,17 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Custom operations of {@link DagActionLogRepository} that cannot be expressed with derived or annotated queries
+ */
+public interface DagActionLogRepositoryCustom {
+
+    /**
+     * Inserts all given log entries with multi-row INSERT statements instead of one statement per entry
+     */
+    Mono<Void> insertDagActionLogs(List<DagActionLog> logs);
+}
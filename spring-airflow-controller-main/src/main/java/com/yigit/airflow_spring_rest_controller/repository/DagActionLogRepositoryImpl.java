@@ -0,0 +1,63 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DagActionLogRepositoryImpl implements DagActionLogRepositoryCustom {
+
+    // 7 bind parameters per row keeps each statement far below PostgreSQL's 65535 parameter limit
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> insertDagActionLogs(List<DagActionLog> logs) {
+        if (logs == null || logs.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.range(0, (logs.size() + MAX_ROWS_PER_STATEMENT - 1) / MAX_ROWS_PER_STATEMENT)
+            .concatMap(chunk -> insertChunk(logs.subList(
+                chunk * MAX_ROWS_PER_STATEMENT,
+                Math.min((chunk + 1) * MAX_ROWS_PER_STATEMENT, logs.size()))))
+            .then();
+    }
+
+    private Mono<Long> insertChunk(List<DagActionLog> chunk) {
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO dag_action_logs (username, dag_id, action_type, action_details, timestamp, success, run_id) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:username").append(i)
+                .append(", :dagId").append(i)
+                .append(", :actionType").append(i)
+                .append(", :actionDetails").append(i)
+                .append(", :timestamp").append(i)
+                .append(", :success").append(i)
+                .append(", :runId").append(i)
+                .append(")");
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            DagActionLog entry = chunk.get(i);
+            spec = spec.bind("username" + i, entry.getUsername())
+                .bind("dagId" + i, entry.getDagId())
+                .bind("actionType" + i, entry.getActionType())
+                .bind("actionDetails" + i, entry.getActionDetails())
+                .bind("timestamp" + i, entry.getTimestamp())
+                .bind("success" + i, entry.getSuccess());
+            spec = entry.getRunId() != null ?
+                spec.bind("runId" + i, entry.getRunId()) :
+                spec.bindNull("runId" + i, String.class);
+        }
+        return spec.fetch().rowsUpdated();
+    }
+}
@@ -0,0 +1,23 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.DagRunCalendarDay;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+@Repository
+public interface DagRunCalendarDayRepository extends ReactiveCrudRepository<DagRunCalendarDay, Long>, DagRunCalendarDayRepositoryCustom {
+
+    Flux<DagRunCalendarDay> findByDagIdAndDayBetweenOrderByDay(String dagId, LocalDate from, LocalDate to);
+
+    Flux<DagRunCalendarDay> findByDagIdAndDayGreaterThanEqual(String dagId, LocalDate from);
+
+    @Query("SELECT COALESCE(SUM(success_count + failed_count + running_count + queued_count), 0) " +
+           "FROM dag_run_calendar_days WHERE dag_id = :dagId AND day >= :from")
+    Mono<Long> sumRunCounts(@Param("dagId") String dagId, @Param("from") LocalDate from);
+}
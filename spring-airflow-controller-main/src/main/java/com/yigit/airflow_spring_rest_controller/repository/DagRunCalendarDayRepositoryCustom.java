@@ -0,0 +1,17 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.DagRunCalendarDay;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Custom operations of {@link DagRunCalendarDayRepository} that cannot be expressed with derived or annotated queries
+ */
+public interface DagRunCalendarDayRepositoryCustom {
+
+    /**
+     * Inserts or replaces the counts of the given days with multi-row INSERT ... ON CONFLICT DO UPDATE statements
+     */
+    Mono<Void> upsertDays(List<DagRunCalendarDay> days);
+}
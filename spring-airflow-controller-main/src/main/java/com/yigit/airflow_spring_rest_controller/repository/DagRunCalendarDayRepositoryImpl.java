@@ -0,0 +1,67 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.DagRunCalendarDay;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class DagRunCalendarDayRepositoryImpl implements DagRunCalendarDayRepositoryCustom {
+
+    // At most 7 bind parameters per row keeps each statement far below PostgreSQL's 65535 parameter limit
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> upsertDays(List<DagRunCalendarDay> days) {
+        if (days == null || days.isEmpty()) {
+            return Mono.empty();
+        }
+        List<List<DagRunCalendarDay>> chunks = new ArrayList<>();
+        for (int from = 0; from < days.size(); from += MAX_ROWS_PER_STATEMENT) {
+            chunks.add(days.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, days.size())));
+        }
+        return Flux.fromIterable(chunks)
+            .concatMap(this::upsertChunk)
+            .then();
+    }
+
+    private Mono<Long> upsertChunk(List<DagRunCalendarDay> chunk) {
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO dag_run_calendar_days (dag_id, day, success_count, failed_count, running_count, queued_count, updated_at) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:dagId").append(i)
+                .append(", :day").append(i)
+                .append(", :success").append(i)
+                .append(", :failed").append(i)
+                .append(", :running").append(i)
+                .append(", :queued").append(i)
+                .append(", :updatedAt").append(i)
+                .append(")");
+        }
+        sql.append(" ON CONFLICT (dag_id, day) DO UPDATE SET success_count = EXCLUDED.success_count, " +
+            "failed_count = EXCLUDED.failed_count, running_count = EXCLUDED.running_count, " +
+            "queued_count = EXCLUDED.queued_count, updated_at = EXCLUDED.updated_at");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            DagRunCalendarDay day = chunk.get(i);
+            spec = spec.bind("dagId" + i, day.getDagId())
+                .bind("day" + i, day.getDay())
+                .bind("success" + i, day.getSuccessCount())
+                .bind("failed" + i, day.getFailedCount())
+                .bind("running" + i, day.getRunningCount())
+                .bind("queued" + i, day.getQueuedCount())
+                .bind("updatedAt" + i, day.getUpdatedAt());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+}
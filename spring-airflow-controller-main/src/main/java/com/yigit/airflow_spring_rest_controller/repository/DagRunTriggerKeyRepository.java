@@ -0,0 +1,27 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.DagRunTriggerKey;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface DagRunTriggerKeyRepository extends ReactiveCrudRepository<DagRunTriggerKey, Long>, DagRunTriggerKeyRepositoryCustom {
+
+    Flux<DagRunTriggerKey> findByUsernameAndIdempotencyKeyIn(String username, Collection<String> idempotencyKeys);
+
+    @Modifying
+    @Query("DELETE FROM dag_run_trigger_keys WHERE username = :username AND idempotency_key IN (:keys)")
+    Mono<Integer> deleteByIdempotencyKeys(@Param("username") String username, @Param("keys") Collection<String> keys);
+
+    @Modifying
+    @Query("DELETE FROM dag_run_trigger_keys WHERE expires_at < :now")
+    Mono<Integer> deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.DagRunTriggerKey;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Custom operations of {@link DagRunTriggerKeyRepository} that cannot be expressed with derived or annotated queries
+ */
+public interface DagRunTriggerKeyRepositoryCustom {
+
+    /**
+     * Inserts the given keys with multi-row INSERT ... ON CONFLICT DO NOTHING statements.
+     * Keys are unique per user.
+     *
+     * @return The idempotency keys that were inserted, i.e. not already present for their user
+     */
+    Flux<String> claimTriggerKeys(List<DagRunTriggerKey> keys);
+
+    /**
+     * Marks the given keys of a user as triggered with one UPDATE per chunk
+     *
+     * @param username The user owning the keys
+     * @param dagRunIds The created DAG Run ID per idempotency key
+     */
+    Mono<Void> markTriggered(String username, Map<String, String> dagRunIds);
+}
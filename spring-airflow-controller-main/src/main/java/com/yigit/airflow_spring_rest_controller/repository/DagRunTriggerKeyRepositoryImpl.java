@@ -0,0 +1,97 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.DagRunTriggerKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class DagRunTriggerKeyRepositoryImpl implements DagRunTriggerKeyRepositoryCustom {
+
+    // At most 6 bind parameters per row keeps each statement far below PostgreSQL's 65535 parameter limit
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Flux<String> claimTriggerKeys(List<DagRunTriggerKey> keys) {
+        if (keys == null || keys.isEmpty()) {
+            return Flux.empty();
+        }
+        return Flux.fromIterable(chunks(keys))
+            .concatMap(this::claimChunk);
+    }
+
+    @Override
+    public Mono<Void> markTriggered(String username, Map<String, String> dagRunIds) {
+        if (dagRunIds == null || dagRunIds.isEmpty()) {
+            return Mono.empty();
+        }
+        return Flux.fromIterable(chunks(new ArrayList<>(dagRunIds.entrySet())))
+            .concatMap(chunk -> markChunk(username, chunk))
+            .then();
+    }
+
+    private Flux<String> claimChunk(List<DagRunTriggerKey> chunk) {
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO dag_run_trigger_keys (idempotency_key, dag_id, username, status, created_at, expires_at) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:key").append(i)
+                .append(", :dagId").append(i)
+                .append(", :username").append(i)
+                .append(", :status").append(i)
+                .append(", :createdAt").append(i)
+                .append(", :expiresAt").append(i)
+                .append(")");
+        }
+        sql.append(" ON CONFLICT (username, idempotency_key) DO NOTHING RETURNING idempotency_key");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            DagRunTriggerKey key = chunk.get(i);
+            spec = spec.bind("key" + i, key.getIdempotencyKey())
+                .bind("dagId" + i, key.getDagId())
+                .bind("username" + i, key.getUsername())
+                .bind("status" + i, key.getStatus())
+                .bind("createdAt" + i, key.getCreatedAt())
+                .bind("expiresAt" + i, key.getExpiresAt());
+        }
+        return spec.map(row -> row.get("idempotency_key", String.class)).all();
+    }
+
+    private Mono<Long> markChunk(String username, List<Map.Entry<String, String>> chunk) {
+        StringBuilder sql = new StringBuilder("UPDATE dag_run_trigger_keys AS k SET status = :status, dag_run_id = v.dag_run_id FROM (VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:key").append(i).append(", :dagRunId").append(i).append(")");
+        }
+        sql.append(") AS v (idempotency_key, dag_run_id) WHERE k.username = :username AND k.idempotency_key = v.idempotency_key");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString())
+            .bind("status", DagRunTriggerKey.Status.TRIGGERED.name())
+            .bind("username", username);
+        for (int i = 0; i < chunk.size(); i++) {
+            spec = spec.bind("key" + i, chunk.get(i).getKey())
+                .bind("dagRunId" + i, chunk.get(i).getValue());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += MAX_ROWS_PER_STATEMENT) {
+            chunks.add(items.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, items.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,72 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.QueuedDagRunTrigger;
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface QueuedDagRunTriggerRepository extends ReactiveCrudRepository<QueuedDagRunTrigger, Long> {
+
+    /**
+     * Leases up to {@code limit} ready entries in queue order. SKIP LOCKED lets several dispatchers claim disjoint
+     * entries; entries whose lease expired (dispatcher died mid-dispatch) become ready again.
+     */
+    @Query("UPDATE dag_run_trigger_queue q SET status = 'DISPATCHING', locked_until = :leaseUntil, attempts = q.attempts + 1 " +
+           "FROM (SELECT id FROM dag_run_trigger_queue " +
+           "WHERE (status = 'QUEUED' AND next_attempt_at <= :now) OR (status = 'DISPATCHING' AND locked_until < :now) " +
+           "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) ready " +
+           "WHERE q.id = ready.id RETURNING q.*")
+    Flux<QueuedDagRunTrigger> claimReady(
+            @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("limit") int limit);
+
+    @Query("SELECT COUNT(*) FROM dag_run_trigger_queue WHERE status IN ('QUEUED', 'DISPATCHING') AND id < :id")
+    Mono<Long> countAhead(@Param("id") Long id);
+
+    /**
+     * Completes a leased entry. The update, like {@link #markFailed} and {@link #requeue}, only matches while the
+     * entry is still held under the given lease, so it updates no row once another dispatcher re-claimed it.
+     */
+    @Modifying
+    @Query("UPDATE dag_run_trigger_queue SET status = 'TRIGGERED', locked_until = NULL, error = NULL, dispatched_at = :now " +
+           "WHERE id = :id AND status = 'DISPATCHING' AND locked_until = :leaseUntil")
+    Mono<Integer> markTriggered(
+            @Param("id") Long id,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE dag_run_trigger_queue SET status = 'FAILED', locked_until = NULL, error = :error, dispatched_at = :now " +
+           "WHERE id = :id AND status = 'DISPATCHING' AND locked_until = :leaseUntil")
+    Mono<Integer> markFailed(
+            @Param("id") Long id,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("error") String error,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Puts a leased entry back into the queue. Deferred entries (DAG at max_active_runs) do not consume an attempt.
+     */
+    @Modifying
+    @Query("UPDATE dag_run_trigger_queue SET status = 'QUEUED', locked_until = NULL, next_attempt_at = :nextAttemptAt, " +
+           "error = :error, attempts = attempts - CASE WHEN :countAttempt THEN 0 ELSE 1 END " +
+           "WHERE id = :id AND status = 'DISPATCHING' AND locked_until = :leaseUntil")
+    Mono<Integer> requeue(
+            @Param("id") Long id,
+            @Param("leaseUntil") LocalDateTime leaseUntil,
+            @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("error") String error,
+            @Param("countAttempt") boolean countAttempt);
+
+    @Modifying
+    @Query("DELETE FROM dag_run_trigger_queue WHERE status IN ('TRIGGERED', 'FAILED') AND dispatched_at < :before")
+    Mono<Integer> deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,9 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.TaskDurationStats;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TaskDurationStatsRepository extends ReactiveCrudRepository<TaskDurationStats, Long>, TaskDurationStatsRepositoryCustom {
+}
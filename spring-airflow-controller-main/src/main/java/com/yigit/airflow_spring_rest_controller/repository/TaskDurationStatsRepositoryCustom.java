@@ -0,0 +1,17 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.TaskDurationStats;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Custom operations of {@link TaskDurationStatsRepository} that cannot be expressed with derived or annotated queries
+ */
+public interface TaskDurationStatsRepositoryCustom {
+
+    /**
+     * Inserts or replaces the statistics of the given tasks with multi-row INSERT ... ON CONFLICT DO UPDATE statements
+     */
+    Mono<Void> upsertStats(List<TaskDurationStats> stats);
+}
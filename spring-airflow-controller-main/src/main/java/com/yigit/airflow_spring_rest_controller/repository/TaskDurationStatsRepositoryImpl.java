@@ -0,0 +1,86 @@
+package com.yigit.airflow_spring_rest_controller.repository;
+
+import com.yigit.airflow_spring_rest_controller.entity.TaskDurationStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TaskDurationStatsRepositoryImpl implements TaskDurationStatsRepositoryCustom {
+
+    // 14 bind parameters per row keeps each statement below PostgreSQL's 65535 parameter limit
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<Void> upsertStats(List<TaskDurationStats> stats) {
+        if (stats == null || stats.isEmpty()) {
+            return Mono.empty();
+        }
+        List<List<TaskDurationStats>> chunks = new ArrayList<>();
+        for (int from = 0; from < stats.size(); from += MAX_ROWS_PER_STATEMENT) {
+            chunks.add(stats.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, stats.size())));
+        }
+        return Flux.fromIterable(chunks)
+            .concatMap(this::upsertChunk)
+            .then();
+    }
+
+    private Mono<Long> upsertChunk(List<TaskDurationStats> chunk) {
+        StringBuilder sql = new StringBuilder(
+            "INSERT INTO task_duration_stats (dag_id, task_id, instance_count, success_count, failed_count, " +
+            "retried_count, retry_count, p50_seconds, p95_seconds, p99_seconds, ewma_seconds, sketch, last_end_date, " +
+            "updated_at) VALUES ");
+        for (int i = 0; i < chunk.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append("(:dagId").append(i)
+                .append(", :taskId").append(i)
+                .append(", :instances").append(i)
+                .append(", :success").append(i)
+                .append(", :failed").append(i)
+                .append(", :retried").append(i)
+                .append(", :retries").append(i)
+                .append(", :p50").append(i)
+                .append(", :p95").append(i)
+                .append(", :p99").append(i)
+                .append(", :ewma").append(i)
+                .append(", :sketch").append(i)
+                .append(", :lastEndDate").append(i)
+                .append(", :updatedAt").append(i)
+                .append(")");
+        }
+        sql.append(" ON CONFLICT (dag_id, task_id) DO UPDATE SET instance_count = EXCLUDED.instance_count, " +
+            "success_count = EXCLUDED.success_count, failed_count = EXCLUDED.failed_count, " +
+            "retried_count = EXCLUDED.retried_count, retry_count = EXCLUDED.retry_count, " +
+            "p50_seconds = EXCLUDED.p50_seconds, p95_seconds = EXCLUDED.p95_seconds, p99_seconds = EXCLUDED.p99_seconds, " +
+            "ewma_seconds = EXCLUDED.ewma_seconds, sketch = EXCLUDED.sketch, last_end_date = EXCLUDED.last_end_date, " +
+            "updated_at = EXCLUDED.updated_at");
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (int i = 0; i < chunk.size(); i++) {
+            TaskDurationStats row = chunk.get(i);
+            spec = spec.bind("dagId" + i, row.getDagId())
+                .bind("taskId" + i, row.getTaskId())
+                .bind("instances" + i, row.getInstanceCount())
+                .bind("success" + i, row.getSuccessCount())
+                .bind("failed" + i, row.getFailedCount())
+                .bind("retried" + i, row.getRetriedCount())
+                .bind("retries" + i, row.getRetryCount());
+            spec = row.getP50Seconds() != null ? spec.bind("p50" + i, row.getP50Seconds()) : spec.bindNull("p50" + i, Double.class);
+            spec = row.getP95Seconds() != null ? spec.bind("p95" + i, row.getP95Seconds()) : spec.bindNull("p95" + i, Double.class);
+            spec = row.getP99Seconds() != null ? spec.bind("p99" + i, row.getP99Seconds()) : spec.bindNull("p99" + i, Double.class);
+            spec = row.getEwmaSeconds() != null ? spec.bind("ewma" + i, row.getEwmaSeconds()) : spec.bindNull("ewma" + i, Double.class);
+            spec = spec.bind("sketch" + i, row.getSketch())
+                .bind("lastEndDate" + i, row.getLastEndDate())
+                .bind("updatedAt" + i, row.getUpdatedAt());
+        }
+        return spec.fetch().rowsUpdated();
+    }
+}
@@ -0,0 +1,155 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.config.AirflowServiceAccount;
+import com.yigit.airflow_spring_rest_controller.util.QuantileSketch;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Base of the services keeping duration statistics of finished Airflow work in PostgreSQL.
+ * <p>
+ * After the stored statistics are loaded, a background refresh periodically reads what finished between the
+ * watermark and the settle delay ago, and advances the watermark once that was saved. Only work that ended at least
+ * the settle delay ago is read, so that rows committed late by Airflow cannot fall behind the watermark. The refresh
+ * reads Airflow without a logged-in user and is therefore only started with the service account configured.
+ * <p>
+ * Settings are read below the subclass's property prefix: {@code enabled}, {@code refresh-interval},
+ * {@code settle-delay}, {@code backfill} and {@code relative-accuracy}.
+ */
+@Slf4j
+public abstract class AbstractDurationStatsService {
+
+    private final AirflowServiceAccount serviceAccount;
+    private final String description;
+    private final boolean enabled;
+    private final Duration refreshInterval;
+    private final Duration settleDelay;
+    private final Duration backfill;
+    private final double relativeAccuracy;
+
+    private volatile LocalDateTime watermark;
+    private Disposable subscription;
+
+    /**
+     * @param serviceAccount The account the refresh reads Airflow with
+     * @param environment The environment holding the settings
+     * @param prefix The property prefix of the settings, e.g. {@code airflow.run-stats}
+     * @param description What the statistics are called in log messages, e.g. {@code run-duration statistics}
+     */
+    protected AbstractDurationStatsService(AirflowServiceAccount serviceAccount, Environment environment,
+                                           String prefix, String description) {
+        this.serviceAccount = serviceAccount;
+        this.description = description;
+        this.enabled = environment.getRequiredProperty(prefix + ".enabled", Boolean.class);
+        this.refreshInterval = DurationStyle.detectAndParse(environment.getRequiredProperty(prefix + ".refresh-interval"));
+        this.settleDelay = DurationStyle.detectAndParse(environment.getRequiredProperty(prefix + ".settle-delay"));
+        this.backfill = DurationStyle.detectAndParse(environment.getRequiredProperty(prefix + ".backfill"));
+        this.relativeAccuracy = environment.getRequiredProperty(prefix + ".relative-accuracy", Double.class);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("{} are disabled", StringUtils.capitalize(description));
+            return;
+        }
+        if (!serviceAccount.isConfigured()) {
+            log.warn("{} not refreshed: airflow.api.service-username/password are not set", StringUtils.capitalize(description));
+            return;
+        }
+        log.info("Starting {} refresh, interval: {}", description, refreshInterval);
+        subscription = loadStats()
+            .switchIfEmpty(Mono.fromSupplier(() -> LocalDateTime.now(ZoneOffset.UTC).minus(backfill)))
+            .doOnNext(lastEndDate -> {
+                watermark = lastEndDate;
+                log.info("Resuming {} after {}", description, lastEndDate);
+            })
+            .thenMany(Flux.interval(Duration.ZERO, refreshInterval))
+            .onBackpressureDrop()
+            .concatMap(tick -> refresh()
+                .onErrorResume(e -> {
+                    log.warn("{} refresh failed: {}", StringUtils.capitalize(description), e.getMessage());
+                    return Mono.empty();
+                }), 1)
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Loads the stored statistics into memory
+     *
+     * @return A Mono containing the latest end date covered by the stored statistics, empty if nothing is stored
+     */
+    protected abstract Mono<LocalDateTime> loadStats();
+
+    /**
+     * Adds the work that finished in the given range to the statistics and saves them
+     *
+     * @param from The watermark; work up to it was added before
+     * @param to The end of the range, the settle delay ago
+     * @return A Mono completing once the changed statistics are saved
+     */
+    protected abstract Mono<Void> refresh(LocalDateTime from, LocalDateTime to);
+
+    protected double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Creates an empty sketch for a refresh batch
+     */
+    protected QuantileSketch newSketch() {
+        return new QuantileSketch(relativeAccuracy);
+    }
+
+    /**
+     * Merges a refresh batch into a stored sketch
+     *
+     * @param storedSketch The encoded stored sketch
+     * @param batch The sketch of the refresh batch
+     * @param subject What the sketch belongs to, for the log message
+     * @return The merged sketch, or null if the stored sketch has another accuracy and its statistics restart
+     */
+    protected QuantileSketch mergeStored(String storedSketch, QuantileSketch batch, String subject) {
+        QuantileSketch merged = QuantileSketch.decode(storedSketch);
+        if (merged.getRelativeAccuracy() != relativeAccuracy) {
+            log.info("Relative accuracy changed, restarting {} of {}", description, subject);
+            return null;
+        }
+        merged.merge(batch);
+        return merged;
+    }
+
+    protected static LocalDateTime toUtc(ZonedDateTime dateTime) {
+        return dateTime.withZoneSameInstant(ZoneOffset.UTC).toLocalDateTime();
+    }
+
+    private Mono<Void> refresh() {
+        LocalDateTime from = watermark;
+        LocalDateTime to = LocalDateTime.now(ZoneOffset.UTC).minus(settleDelay);
+        if (!to.isAfter(from)) {
+            return Mono.empty();
+        }
+        return refresh(from, to)
+            .doOnSuccess(done -> watermark = to);
+    }
+}
@@ -85,6 +85,41 @@ public class DagActionLogService {
             });
     }
 
+    /**
+     * Logs several DAG actions with a single multi-row insert.
+     * Missing usernames are filled with the currently authenticated user, missing timestamps with the current time.
+     * 
+     * @param entries The log entries to write
+     * @return A Mono that completes when all entries are written
+     */
+    public Mono<Void> logDagActions(List<DagActionLog> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return Mono.empty();
+        }
+        log.info("Logging {} DAG actions in batch", entries.size());
+        
+        return getCurrentUsername()
+            .flatMap(username -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<DagActionLog> safeEntries = new ArrayList<>(entries.size());
+                for (DagActionLog entry : entries) {
+                    safeEntries.add(DagActionLog.builder()
+                        .username(entry.getUsername() != null ? entry.getUsername() : username)
+                        .dagId(entry.getDagId() != null ? entry.getDagId() : "")
+                        .actionType(entry.getActionType() != null ? entry.getActionType() : ActionType.OTHER.getValue())
+                        .actionDetails(entry.getActionDetails() != null ? entry.getActionDetails() : "")
+                        .timestamp(entry.getTimestamp() != null ? entry.getTimestamp() : now)
+                        .success(entry.getSuccess() != null ? entry.getSuccess() : false)
+                        .runId(entry.getRunId())
+                        .build());
+                }
+                
+                return dagActionLogRepository.insertDagActionLogs(safeEntries)
+                    .doOnSuccess(ignored -> log.info("Successfully logged {} DAG actions for user: {}", 
+                        safeEntries.size(), username));
+            });
+    }
+
     /**
      * Checks if the current user has admin privileges
      * 
@@ -0,0 +1,219 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.dag.Dag;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCollection;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunListRequest;
+import com.yigit.airflow_spring_rest_controller.dto.dashboard.DagDashboardEntry;
+import com.yigit.airflow_spring_rest_controller.dto.dashboard.DagDashboardResponse;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import com.yigit.airflow_spring_rest_controller.util.PagingUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Service assembling the DAG dashboard: a page of DAGs with their latest run and recent run states.
+ * Runs are fetched for the whole page through Airflow's batch list endpoint instead of one request per DAG; the
+ * latest runs of DAGs without runs in the window come from one more batch listing of older runs.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagDashboardService {
+
+    private final DagService dagService;
+    private final DagRunService dagRunService;
+
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+
+    @Value("${airflow.api.page-limit}")
+    private int pageLimit;
+
+    @Value("${airflow.dashboard.max-runs}")
+    private int maxRuns;
+
+    @Value("${airflow.dashboard.max-size}")
+    private int maxSize;
+
+    @Value("${airflow.dashboard.max-recent-days}")
+    private int maxRecentDays;
+
+    /**
+     * Retrieves a page of DAGs together with their latest run and recent run-state counts
+     *
+     * @param isActive Optional active status filter
+     * @param isPaused Optional paused status filter
+     * @param search Optional search term
+     * @param page Page number (0-based)
+     * @param size Page size
+     * @param recentDays Size of the window, in days, used for the recent run-state counts
+     * @return A Mono containing the dashboard page
+     */
+    public Mono<DagDashboardResponse> getDashboard(
+            Boolean isActive, Boolean isPaused, String search, int page, int size, int recentDays) {
+        if (page < 0) {
+            return Mono.error(new AirflowBadRequestException("page must not be negative"));
+        }
+        if (size < 1 || size > maxSize) {
+            return Mono.error(new AirflowBadRequestException("size must be between 1 and " + maxSize));
+        }
+        if (recentDays < 1 || recentDays > maxRecentDays) {
+            return Mono.error(new AirflowBadRequestException("recentDays must be between 1 and " + maxRecentDays));
+        }
+        log.info("Building DAG dashboard, page: {}, size: {}, recentDays: {}", page, size, recentDays);
+        ZonedDateTime since = ZonedDateTime.now(ZoneOffset.UTC).minusDays(recentDays).truncatedTo(ChronoUnit.SECONDS);
+
+        return dagService.getDags(isActive, isPaused, search, page, size)
+            .flatMap(dagPage -> {
+                List<Dag> dags = dagPage.getDags();
+                if (dags.isEmpty()) {
+                    return Mono.just(new DagDashboardResponse(
+                        Collections.emptyList(), dagPage.getTotalEntries(), page, size, recentDays, false));
+                }
+                List<String> dagIds = dags.stream().map(Dag::getDagId).collect(Collectors.toList());
+
+                return fetchRecentRuns(dagIds, since)
+                    .onErrorResume(e -> {
+                        log.warn("Batch DAG run listing failed, falling back to per-DAG requests: {}", e.getMessage());
+                        return Flux.fromIterable(dagIds)
+                            .flatMapSequential(dagId -> fetchRecentRunsForDag(dagId, since), maxConcurrency)
+                            .flatMapIterable(runs -> runs)
+                            .collect(Collectors.groupingBy(DagRun::getDagId, LinkedHashMap::new, Collectors.toList()))
+                            .map(runsByDag -> new RecentRuns(runsByDag, false));
+                    })
+                    .flatMap(recent -> {
+                        List<String> withoutRecentRuns = dagIds.stream()
+                            .filter(dagId -> !recent.runsByDag().containsKey(dagId))
+                            .toList();
+                        return fetchLatestRuns(withoutRecentRuns, since)
+                            .map(latestRuns -> new DagDashboardResponse(
+                                dags.stream().map(dag -> buildEntry(dag,
+                                    recent.runsByDag().getOrDefault(dag.getDagId(), Collections.emptyList()),
+                                    latestRuns.get(dag.getDagId()))).toList(),
+                                dagPage.getTotalEntries(), page, size, recentDays, recent.truncated()));
+                    });
+            })
+            .doOnSuccess(dashboard -> log.info("Successfully built DAG dashboard with {} entries",
+                dashboard.getDags().size()));
+    }
+
+    /**
+     * Fetches the runs of all given DAGs within the window, newest first, grouped by DAG.
+     * The first page reveals the total, the remaining pages are fetched concurrently.
+     */
+    private Mono<RecentRuns> fetchRecentRuns(List<String> dagIds, ZonedDateTime since) {
+        DagRunListRequest firstPage = DagRunListRequest.builder()
+            .dagIds(dagIds)
+            .executionDateGte(since)
+            .orderBy("-execution_date")
+            .pageOffset(0)
+            .pageLimit(pageLimit)
+            .build();
+
+        return dagRunService.listDagRuns(firstPage)
+            .flatMap(first -> {
+                int total = Math.min(first.getTotalEntries() != null ? first.getTotalEntries() : 0, maxRuns);
+                boolean truncated = first.getTotalEntries() != null && first.getTotalEntries() > maxRuns;
+                if (truncated) {
+                    log.warn("Recent runs for dashboard capped at {} of {} runs", maxRuns, first.getTotalEntries());
+                }
+
+                return PagingUtil.withRemainingPages(first, total,
+                        offset -> dagRunService.listDagRuns(firstPage.toBuilder().pageOffset(offset).build()),
+                        pageLimit, maxConcurrency)
+                    .map(this::runsOf)
+                    .flatMapIterable(runs -> runs)
+                    .take(maxRuns)
+                    .collect(Collectors.groupingBy(DagRun::getDagId, LinkedHashMap::new, Collectors.toList()))
+                    .map(runsByDag -> new RecentRuns(runsByDag, truncated));
+            });
+    }
+
+    /**
+     * Finds the latest run of each given DAG among the runs before the window, newest first, in one batch listing.
+     * Further pages are only read while some DAG's latest run is still missing, up to the run cap.
+     */
+    private Mono<Map<String, DagRun>> fetchLatestRuns(List<String> dagIds, ZonedDateTime before) {
+        if (dagIds.isEmpty()) {
+            return Mono.just(Collections.emptyMap());
+        }
+        DagRunListRequest request = DagRunListRequest.builder()
+            .dagIds(dagIds)
+            .executionDateLte(before)
+            .orderBy("-execution_date")
+            .pageLimit(pageLimit)
+            .build();
+        Map<String, DagRun> latestRuns = new HashMap<>();
+        return Flux.range(0, Math.max((maxRuns + pageLimit - 1) / pageLimit, 1))
+            .concatMap(index -> dagRunService.listDagRuns(request.toBuilder().pageOffset(index * pageLimit).build()))
+            .takeUntil(collection -> {
+                runsOf(collection).forEach(run -> latestRuns.putIfAbsent(run.getDagId(), run));
+                return latestRuns.size() == dagIds.size() || runsOf(collection).size() < pageLimit;
+            })
+            .then(Mono.fromCallable(() -> (Map<String, DagRun>) latestRuns))
+            .onErrorResume(e -> {
+                log.warn("Could not retrieve latest runs for {} DAGs, error: {}", dagIds.size(), e.getMessage());
+                return Mono.just(latestRuns);
+            });
+    }
+
+    /**
+     * Fallback used when the batch endpoint is unavailable: fetches the window for a single DAG
+     */
+    private Mono<List<DagRun>> fetchRecentRunsForDag(String dagId, ZonedDateTime since) {
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("execution_date_gte", since.format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        queryParams.put("order_by", "-execution_date");
+        queryParams.put("limit", String.valueOf(pageLimit));
+        return dagRunService.getDagRuns(dagId, queryParams)
+            .map(this::runsOf)
+            .onErrorResume(e -> {
+                log.warn("Could not retrieve recent runs for DAG: {}, error: {}", dagId, e.getMessage());
+                return Mono.just(Collections.emptyList());
+            });
+    }
+
+    /**
+     * Builds the entry of a DAG; the latest run is the newest recent run, or the older run found for DAGs
+     * without runs in the window
+     */
+    private DagDashboardEntry buildEntry(Dag dag, List<DagRun> recentRuns, DagRun olderRun) {
+        Map<String, Integer> stateCounts = new HashMap<>();
+        recentRuns.forEach(run -> stateCounts.merge(run.getState() != null ? run.getState() : "none", 1, Integer::sum));
+
+        DagRun latestRun = !recentRuns.isEmpty() ? recentRuns.get(0) : olderRun;
+        DagDashboardEntry.DagDashboardEntryBuilder entry = DagDashboardEntry.builder()
+            .dag(dag)
+            .recentRunStates(stateCounts);
+        if (latestRun != null) {
+            entry.latestRunId(latestRun.getDagRunId())
+                .latestRunState(latestRun.getState())
+                .latestRunExecutionDate(latestRun.getExecutionDate());
+        }
+        return entry.build();
+    }
+
+    private List<DagRun> runsOf(DagRunCollection collection) {
+        return collection.getDagRuns() != null ? collection.getDagRuns() : new ArrayList<>();
+    }
+
+    private record RecentRuns(Map<String, List<DagRun>> runsByDag, boolean truncated) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagOverview;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCollection;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskCollection;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Service assembling the DAG detail view from several Airflow and audit log calls executed concurrently
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagOverviewService {
+
+    private final DagService dagService;
+    private final DagRunService dagRunService;
+    private final DagActionLogService dagActionLogService;
+
+    @Value("${airflow.overview.part-timeout}")
+    private Duration partTimeout;
+
+    @Value("${airflow.overview.max-run-limit}")
+    private int maxRunLimit;
+
+    @Value("${airflow.overview.max-log-limit}")
+    private int maxLogLimit;
+
+    /**
+     * Retrieves the DAG, its details, tasks, recent runs and audit logs in parallel.
+     * Each part has its own timeout; a failing part is reported in the errors map instead of failing the whole document,
+     * except when the DAG itself does not exist.
+     *
+     * @param dagId The DAG identifier
+     * @param runLimit Number of most recent DAG Runs to include
+     * @param logLimit Number of most recent audit log entries to include
+     * @return A Mono containing the assembled overview
+     */
+    public Mono<DagOverview> getDagOverview(String dagId, int runLimit, int logLimit) {
+        if (runLimit < 1 || runLimit > maxRunLimit) {
+            return Mono.error(new AirflowBadRequestException("runLimit must be between 1 and " + maxRunLimit));
+        }
+        if (logLimit < 1 || logLimit > maxLogLimit) {
+            return Mono.error(new AirflowBadRequestException("logLimit must be between 1 and " + maxLogLimit));
+        }
+        log.info("Assembling overview for DAG: {}, runLimit: {}, logLimit: {}", dagId, runLimit, logLimit);
+        Map<String, String> errors = new ConcurrentHashMap<>();
+
+        Map<String, String> runQueryParams = new HashMap<>();
+        runQueryParams.put("limit", String.valueOf(runLimit));
+        runQueryParams.put("order_by", "-execution_date");
+
+        return Mono.zip(
+                part("dag", dagService.getDag(dagId), errors),
+                part("details", dagService.getDagDetails(dagId), errors),
+                part("tasks", dagService.getDagTasks(dagId).map(TaskCollection::getTasks), errors),
+                part("recentRuns", dagRunService.getDagRuns(dagId, runQueryParams).map(DagRunCollection::getDagRuns), errors),
+                part("actionLogs", dagActionLogService.getLogsByDagId(dagId).take(logLimit).collectList(), errors))
+            .map(parts -> DagOverview.builder()
+                .dag(parts.getT1().orElse(null))
+                .details(parts.getT2().orElse(null))
+                .tasks(parts.getT3().orElse(null))
+                .recentRuns(parts.getT4().orElse(null))
+                .actionLogs(parts.getT5().orElse(null))
+                .errors(errors)
+                .build())
+            .doOnSuccess(overview -> log.info("Successfully assembled overview for DAG: {}, failed parts: {}",
+                dagId, errors.keySet()));
+    }
+
+    /**
+     * Wraps one part of the overview with its timeout and converts failures into an entry of the errors map.
+     * A missing DAG is still propagated so that the endpoint answers 404.
+     */
+    private <T> Mono<Optional<T>> part(String name, Mono<T> source, Map<String, String> errors) {
+        return source
+            .timeout(partTimeout)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .onErrorResume(e -> !(name.equals("dag") && e instanceof AirflowResourceNotFoundException), e -> {
+                String message = e instanceof TimeoutException ?
+                    "Timed out after " + partTimeout.toMillis() + " ms" : e.getMessage();
+                log.warn("Overview part '{}' failed: {}", name, message);
+                errors.put(name, message != null ? message : e.getClass().getSimpleName());
+                return Mono.just(Optional.empty());
+            });
+    }
+}
@@ -0,0 +1,249 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunBulkClear;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunBulkClearProgress;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunListRequest;
+import com.yigit.airflow_spring_rest_controller.dto.task.ClearTaskInstances;
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog;
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog.ActionType;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Service clearing many DAG Runs selected by a filter.
+ * <p>
+ * The selected runs of each DAG are split into batches of runs that are adjacent in execution date order, i.e. with
+ * no unselected run of the DAG between them. Each batch is cleared with one clearTaskInstances call over its
+ * execution date range, and the batches run with bounded concurrency. The operation continues when the client
+ * disconnects and is audited with one aggregated entry per DAG.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagRunBulkClearService {
+
+    private static final List<String> DEFAULT_STATES = List.of("failed");
+
+    private final DagRunService dagRunService;
+    private final TaskInstanceService taskInstanceService;
+    private final DagActionLogService dagActionLogService;
+
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+
+    @Value("${airflow.bulk-clear.max-runs}")
+    private int maxRuns;
+
+    /**
+     * Clears the task instances of all DAG Runs matching the selection
+     *
+     * @param bulkClear The run selection and clear options
+     * @return A Flux of progress events, ending with a summary
+     */
+    public Flux<DagRunBulkClearProgress> clearDagRuns(DagRunBulkClear bulkClear) {
+        boolean dryRun = Boolean.TRUE.equals(bulkClear.getDryRun());
+        boolean onlyFailed = !Boolean.FALSE.equals(bulkClear.getOnlyFailed());
+        DagRunListRequest selection = DagRunListRequest.builder()
+            .dagIds(bulkClear.getDagIds())
+            .states(bulkClear.getStates() != null && !bulkClear.getStates().isEmpty() ? bulkClear.getStates() : DEFAULT_STATES)
+            .executionDateGte(bulkClear.getExecutionDateGte())
+            .executionDateLte(bulkClear.getExecutionDateLte())
+            .startDateGte(bulkClear.getStartDateGte())
+            .startDateLte(bulkClear.getStartDateLte())
+            .endDateGte(bulkClear.getEndDateGte())
+            .endDateLte(bulkClear.getEndDateLte())
+            .orderBy("execution_date")
+            .build();
+
+        return Flux.deferContextual(context -> dagRunService.listAllDagRuns(selection)
+            .take(maxRuns + 1L)
+            .collectList()
+            .flatMapMany(runs -> {
+                if (runs.size() > maxRuns) {
+                    return Flux.error(new AirflowBadRequestException(
+                        "The selection matches more than " + maxRuns + " DAG Runs, narrow it down"));
+                }
+                log.info("Bulk clearing {} DAG runs, dry run: {}, only failed: {}", runs.size(), dryRun, onlyFailed);
+                return clearSelected(runs, dryRun, onlyFailed);
+            })
+            // Keeps clearing and auditing when the client goes away; late subscribers get every event
+            .contextWrite(context)
+            .replay()
+            .autoConnect(0));
+    }
+
+    private Flux<DagRunBulkClearProgress> clearSelected(List<DagRun> runs, boolean dryRun, boolean onlyFailed) {
+        Map<String, List<DagRun>> runsByDag = runs.stream()
+            .collect(Collectors.groupingBy(DagRun::getDagId, LinkedHashMap::new, Collectors.toList()));
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        Map<String, DagTally> tallies = new ConcurrentHashMap<>();
+
+        DagRunBulkClearProgress selected = DagRunBulkClearProgress.builder()
+            .type(DagRunBulkClearProgress.SELECTED)
+            .completedRuns(0)
+            .failedRuns(0)
+            .totalRuns(runs.size())
+            .build();
+
+        Flux<DagRunBulkClearProgress> batches = Flux.fromIterable(runsByDag.entrySet())
+            .flatMap(entry -> batchesOf(entry.getKey(), entry.getValue())
+                .onErrorResume(e -> {
+                    log.warn("Splitting {} runs of DAG: {} into batches failed: {}", entry.getValue().size(), entry.getKey(), e.getMessage());
+                    return Mono.just(new Batch(entry.getKey(), entry.getValue(), e));
+                }), maxConcurrency)
+            .flatMap(batch -> (batch.error() != null ? Mono.<Integer>error(batch.error()) : clearBatch(batch, dryRun, onlyFailed))
+                .map(cleared -> {
+                    tallies.computeIfAbsent(batch.dagId(), dagId -> new DagTally()).succeeded(batch.runs().size(), cleared);
+                    return progress(batch, true, null, cleared, completed.addAndGet(batch.runs().size()), failed.get(), runs.size());
+                })
+                .onErrorResume(e -> {
+                    log.warn("Clearing {} runs of DAG: {} failed: {}", batch.runs().size(), batch.dagId(), e.getMessage());
+                    tallies.computeIfAbsent(batch.dagId(), dagId -> new DagTally()).failed(batch.runs().size(), e.getMessage());
+                    int failedRuns = failed.addAndGet(batch.runs().size());
+                    return Mono.just(progress(batch, false, e.getMessage(), 0, completed.addAndGet(batch.runs().size()), failedRuns, runs.size()));
+                }), maxConcurrency);
+
+        Mono<DagRunBulkClearProgress> done = Mono.defer(() -> audit(tallies, dryRun)
+            .thenReturn(DagRunBulkClearProgress.builder()
+                .type(DagRunBulkClearProgress.DONE)
+                .success(failed.get() == 0)
+                .clearedTaskInstances(tallies.values().stream().mapToInt(tally -> tally.clearedTaskInstances).sum())
+                .completedRuns(completed.get())
+                .failedRuns(failed.get())
+                .totalRuns(runs.size())
+                .build()));
+
+        return Flux.concat(Mono.just(selected), batches, done);
+    }
+
+    /**
+     * Splits the selected runs of a DAG into batches without unselected runs of the DAG in between
+     */
+    private Flux<Batch> batchesOf(String dagId, List<DagRun> selected) {
+        if (selected.size() == 1) {
+            return Flux.just(new Batch(dagId, selected));
+        }
+        Set<String> selectedIds = selected.stream().map(DagRun::getDagRunId).collect(Collectors.toSet());
+        DagRunListRequest range = DagRunListRequest.builder()
+            .dagIds(List.of(dagId))
+            .executionDateGte(selected.get(0).getExecutionDate())
+            .executionDateLte(selected.get(selected.size() - 1).getExecutionDate())
+            .orderBy("execution_date")
+            .build();
+
+        return dagRunService.listAllDagRuns(range)
+            .collectList()
+            .flatMapIterable(all -> {
+                List<Batch> batches = new ArrayList<>();
+                List<DagRun> current = new ArrayList<>();
+                for (DagRun dagRun : all) {
+                    if (selectedIds.contains(dagRun.getDagRunId())) {
+                        current.add(dagRun);
+                    } else if (!current.isEmpty()) {
+                        batches.add(new Batch(dagId, current));
+                        current = new ArrayList<>();
+                    }
+                }
+                if (!current.isEmpty()) {
+                    batches.add(new Batch(dagId, current));
+                }
+                log.info("Clearing {} runs of DAG: {} in {} batches", selected.size(), dagId, batches.size());
+                return batches;
+            });
+    }
+
+    private Mono<Integer> clearBatch(Batch batch, boolean dryRun, boolean onlyFailed) {
+        List<DagRun> runs = batch.runs();
+        return taskInstanceService.clearTaskInstances(batch.dagId(), ClearTaskInstances.builder()
+                .dryRun(dryRun)
+                .onlyFailed(onlyFailed)
+                .resetDagRuns(true)
+                .startDate(runs.get(0).getExecutionDate())
+                .endDate(runs.get(runs.size() - 1).getExecutionDate())
+                .build())
+            .map(cleared -> cleared.getTaskInstances() != null ? cleared.getTaskInstances().size() : 0);
+    }
+
+    private DagRunBulkClearProgress progress(Batch batch, boolean success, String error, int cleared,
+                                             int completedRuns, int failedRuns, int totalRuns) {
+        return DagRunBulkClearProgress.builder()
+            .type(DagRunBulkClearProgress.BATCH)
+            .dagId(batch.dagId())
+            .dagRunIds(batch.runs().stream().map(DagRun::getDagRunId).toList())
+            .success(success)
+            .error(error)
+            .clearedTaskInstances(cleared)
+            .completedRuns(completedRuns)
+            .failedRuns(failedRuns)
+            .totalRuns(totalRuns)
+            .build();
+    }
+
+    /**
+     * Writes one audit entry per DAG, in a single batch
+     */
+    private Mono<Void> audit(Map<String, DagTally> tallies, boolean dryRun) {
+        if (dryRun) {
+            return Mono.empty();
+        }
+        List<DagActionLog> entries = tallies.entrySet().stream()
+            .map(entry -> {
+                DagTally tally = entry.getValue();
+                String details = "Bulk clear of " + (tally.clearedRuns + tally.failedRuns) + " DAG Runs: " +
+                    tally.clearedTaskInstances + " task instances cleared";
+                if (tally.failedRuns > 0) {
+                    details += ", " + tally.failedRuns + " runs failed: " + tally.lastError;
+                }
+                return DagActionLog.builder()
+                    .dagId(entry.getKey())
+                    .actionType(ActionType.CLEARED.getValue())
+                    .actionDetails(details)
+                    .success(tally.failedRuns == 0)
+                    .build();
+            })
+            .toList();
+        return dagActionLogService.logDagActions(entries);
+    }
+
+    /**
+     * Runs cleared together; a batch with an error stands for runs of a DAG that could not be split and are failed
+     */
+    private record Batch(String dagId, List<DagRun> runs, Throwable error) {
+        private Batch(String dagId, List<DagRun> runs) {
+            this(dagId, runs, null);
+        }
+    }
+
+    private static final class DagTally {
+        private int clearedRuns;
+        private int failedRuns;
+        private int clearedTaskInstances;
+        private String lastError;
+
+        private synchronized void succeeded(int runs, int taskInstances) {
+            clearedRuns += runs;
+            clearedTaskInstances += taskInstances;
+        }
+
+        private synchronized void failed(int runs, String error) {
+            failedRuns += runs;
+            lastError = error;
+        }
+    }
+}
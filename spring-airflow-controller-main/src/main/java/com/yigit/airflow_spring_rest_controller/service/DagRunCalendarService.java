@@ -0,0 +1,280 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagRunCalendar;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunListRequest;
+import com.yigit.airflow_spring_rest_controller.entity.DagRunCalendarDay;
+import com.yigit.airflow_spring_rest_controller.entity.DagRunCalendarSync;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import com.yigit.airflow_spring_rest_controller.repository.DagRunCalendarDayRepository;
+import com.yigit.airflow_spring_rest_controller.repository.DagRunCalendarSyncRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service serving per-day run-state counts of a DAG for calendar heatmaps.
+ * <p>
+ * Daily counts are aggregated server-side while streaming the runs page by page, and stored in PostgreSQL together
+ * with the time of the last synchronization. Later requests ask Airflow only for the runs updated since then
+ * (updated_at_gte, Airflow 2.6+) and recount just the days those runs belong to; days before the stored range are
+ * aggregated once when they are first requested.
+ * <p>
+ * Runs deleted from Airflow never show up among the updated runs. After each synchronization the stored counts are
+ * therefore compared with the number of runs Airflow lists for the stored range, and the whole range is recounted
+ * when more runs are stored than Airflow still has.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagRunCalendarService {
+
+    public static final List<String> STATES = List.of("success", "failed", "running", "queued");
+
+    private final DagRunService dagRunService;
+    private final DagRunCalendarDayRepository dayRepository;
+    private final DagRunCalendarSyncRepository syncRepository;
+
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+
+    @Value("${airflow.run-calendar.max-days}")
+    private int maxDays;
+
+    // Runs updated shortly before the previous synchronization are looked at again, absorbing clock differences
+    @Value("${airflow.run-calendar.sync-overlap}")
+    private Duration syncOverlap;
+
+    private final Map<String, Mono<Void>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the daily run counts of a DAG
+     *
+     * @param dagId The DAG identifier
+     * @param from The first day (UTC), or null for one year before the last day
+     * @param to The last day (UTC), or null for today
+     * @return A Mono containing the compact calendar
+     */
+    public Mono<DagRunCalendar> getCalendar(String dagId, LocalDate from, LocalDate to) {
+        LocalDate last = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate first = from != null ? from : last.minusYears(1).plusDays(1);
+        long days = ChronoUnit.DAYS.between(first, last) + 1;
+        if (days < 1 || days > maxDays) {
+            return Mono.error(new AirflowBadRequestException("The calendar must span between 1 and " + maxDays + " days"));
+        }
+
+        return syncOnce(dagId, first)
+            .thenMany(dayRepository.findByDagIdAndDayBetweenOrderByDay(dagId, first, last))
+            .collectList()
+            .map(stored -> {
+                int[] counts = new int[(int) days * STATES.size()];
+                for (DagRunCalendarDay day : stored) {
+                    int offset = (int) ChronoUnit.DAYS.between(first, day.getDay()) * STATES.size();
+                    counts[offset] = day.getSuccessCount();
+                    counts[offset + 1] = day.getFailedCount();
+                    counts[offset + 2] = day.getRunningCount();
+                    counts[offset + 3] = day.getQueuedCount();
+                }
+                return DagRunCalendar.builder()
+                    .dagId(dagId)
+                    .from(first)
+                    .to(last)
+                    .states(STATES)
+                    .counts(counts)
+                    .build();
+            });
+    }
+
+    /**
+     * Synchronizes a DAG's calendar at most once at a time; a request arriving during a synchronization
+     * waits for it and then synchronizes again, which only costs the check for updated runs
+     */
+    private Mono<Void> syncOnce(String dagId, LocalDate from) {
+        return Mono.defer(() -> {
+            Mono<Void> candidate = sync(dagId, from)
+                .doFinally(signal -> inFlight.remove(dagId))
+                .cache();
+            Mono<Void> current = inFlight.putIfAbsent(dagId, candidate);
+            if (current == null) {
+                return candidate;
+            }
+            return current.onErrorResume(e -> Mono.empty())
+                .then(syncOnce(dagId, from));
+        });
+    }
+
+    private Mono<Void> sync(String dagId, LocalDate from) {
+        LocalDateTime startedAt = LocalDateTime.now(ZoneOffset.UTC);
+        return syncRepository.findById(dagId)
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .flatMap(existing -> {
+                LocalDate syncedFrom = existing.map(DagRunCalendarSync::getSyncedFrom).orElse(null);
+
+                // Days not aggregated yet: everything from the first requested day, or the gap before the stored range
+                Mono<Map<LocalDate, int[]>> backfill;
+                if (syncedFrom == null) {
+                    backfill = aggregate(dagId, from, null);
+                } else if (from.isBefore(syncedFrom)) {
+                    backfill = aggregate(dagId, from, syncedFrom.minusDays(1));
+                } else {
+                    backfill = Mono.just(new TreeMap<>());
+                }
+
+                Mono<Map<LocalDate, int[]>> recounted = existing
+                    .map(sync -> changedDays(dagId, sync.getSyncedAt().minus(syncOverlap), sync.getSyncedFrom())
+                        .flatMap(changed -> recount(dagId, changed)))
+                    .orElse(Mono.just(new TreeMap<>()));
+
+                return Mono.zip(backfill, recounted)
+                    .flatMap(parts -> {
+                        Map<LocalDate, int[]> counts = new TreeMap<>(parts.getT1());
+                        counts.putAll(parts.getT2());
+                        LocalDateTime now = LocalDateTime.now();
+                        List<DagRunCalendarDay> rows = counts.entrySet().stream()
+                            .map(entry -> DagRunCalendarDay.builder()
+                                .dagId(dagId)
+                                .day(entry.getKey())
+                                .successCount(entry.getValue()[0])
+                                .failedCount(entry.getValue()[1])
+                                .runningCount(entry.getValue()[2])
+                                .queuedCount(entry.getValue()[3])
+                                .updatedAt(now)
+                                .build())
+                            .toList();
+                        if (!rows.isEmpty()) {
+                            log.info("Updating {} calendar days of DAG: {}", rows.size(), dagId);
+                        }
+                        DagRunCalendarSync sync = DagRunCalendarSync.builder()
+                            .dagId(dagId)
+                            .syncedFrom(syncedFrom == null || from.isBefore(syncedFrom) ? from : syncedFrom)
+                            .syncedAt(startedAt)
+                            .newSync(existing.isEmpty())
+                            .build();
+                        return dayRepository.upsertDays(rows)
+                            .then(existing.isPresent() ? recountIfRunsDeleted(dagId, sync.getSyncedFrom()) : Mono.empty())
+                            .then(syncRepository.save(sync))
+                            .then();
+                    });
+            });
+    }
+
+    /**
+     * Recounts every stored day from the given day on when the stored counts hold more runs than Airflow lists for
+     * that range, which happens when runs were deleted. Runs created meanwhile only raise Airflow's number and are
+     * picked up by the next synchronization.
+     */
+    private Mono<Void> recountIfRunsDeleted(String dagId, LocalDate syncedFrom) {
+        Mono<Integer> airflowRuns = dagRunService.listDagRuns(DagRunListRequest.builder()
+                .dagIds(List.of(dagId))
+                .executionDateGte(syncedFrom.atStartOfDay(ZoneOffset.UTC))
+                .pageLimit(1)
+                .build())
+            .map(collection -> collection.getTotalEntries() != null ? collection.getTotalEntries() : 0);
+        return Mono.zip(dayRepository.sumRunCounts(dagId, syncedFrom), airflowRuns)
+            .filter(totals -> totals.getT1() > totals.getT2())
+            .flatMap(totals -> {
+                log.info("Calendar of DAG: {} counts {} runs but Airflow lists {}, recounting from {}",
+                    dagId, totals.getT1(), totals.getT2(), syncedFrom);
+                return Mono.zip(aggregate(dagId, syncedFrom, null),
+                    dayRepository.findByDagIdAndDayGreaterThanEqual(dagId, syncedFrom).collectList());
+            })
+            .flatMap(parts -> {
+                Map<LocalDate, int[]> counts = parts.getT1();
+                // Days that lost all their runs are stored as zero counts
+                parts.getT2().forEach(day -> counts.putIfAbsent(day.getDay(), new int[STATES.size()]));
+                LocalDateTime now = LocalDateTime.now();
+                return dayRepository.upsertDays(counts.entrySet().stream()
+                    .map(entry -> DagRunCalendarDay.builder()
+                        .dagId(dagId)
+                        .day(entry.getKey())
+                        .successCount(entry.getValue()[0])
+                        .failedCount(entry.getValue()[1])
+                        .runningCount(entry.getValue()[2])
+                        .queuedCount(entry.getValue()[3])
+                        .updatedAt(now)
+                        .build())
+                    .toList());
+            })
+            .then();
+    }
+
+    /**
+     * Days within the stored range that have runs updated since the given time
+     */
+    private Mono<TreeSet<LocalDate>> changedDays(String dagId, LocalDateTime updatedSince, LocalDate syncedFrom) {
+        return dagRunService.getAllDagRuns(dagId, Map.of(
+                "updated_at_gte", DateTimeFormatter.ISO_INSTANT.format(updatedSince.toInstant(ZoneOffset.UTC))))
+            .map(this::dayOf)
+            .filter(day -> !day.isBefore(syncedFrom))
+            .collect(TreeSet::new, TreeSet::add);
+    }
+
+    /**
+     * Recounts the given days, fetching each run of consecutive days with one listing
+     */
+    private Mono<Map<LocalDate, int[]>> recount(String dagId, TreeSet<LocalDate> days) {
+        List<LocalDate[]> ranges = new ArrayList<>();
+        for (LocalDate day : days) {
+            LocalDate[] last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+            if (last != null && last[1].plusDays(1).equals(day)) {
+                last[1] = day;
+            } else {
+                ranges.add(new LocalDate[] {day, day});
+            }
+        }
+        return Flux.fromIterable(ranges)
+            .flatMap(range -> aggregate(dagId, range[0], range[1])
+                .map(counts -> {
+                    // Days that lost all their runs are stored as zero counts
+                    for (LocalDate day = range[0]; !day.isAfter(range[1]); day = day.plusDays(1)) {
+                        counts.putIfAbsent(day, new int[STATES.size()]);
+                    }
+                    return counts;
+                }), maxConcurrency)
+            .collect(TreeMap::new, Map::putAll);
+    }
+
+    /**
+     * Counts the runs per day and state, streaming the runs page by page
+     *
+     * @param last The last day, or null for no upper bound
+     */
+    private Mono<Map<LocalDate, int[]>> aggregate(String dagId, LocalDate first, LocalDate last) {
+        DagRunListRequest request = DagRunListRequest.builder()
+            .dagIds(List.of(dagId))
+            .executionDateGte(first.atStartOfDay(ZoneOffset.UTC))
+            .executionDateLte(last != null ? last.plusDays(1).atStartOfDay(ZoneOffset.UTC).minusNanos(1000) : null)
+            .build();
+        return dagRunService.listAllDagRuns(request)
+            .collect(TreeMap::new, (Map<LocalDate, int[]> counts, DagRun dagRun) -> {
+                int state = STATES.indexOf(dagRun.getState());
+                if (state >= 0) {
+                    counts.computeIfAbsent(dayOf(dagRun), day -> new int[STATES.size()])[state]++;
+                }
+            });
+    }
+
+    private LocalDate dayOf(DagRun dagRun) {
+        ZonedDateTime executionDate = dagRun.getExecutionDate() != null ? dagRun.getExecutionDate() : dagRun.getLogicalDate();
+        return executionDate.withZoneSameInstant(ZoneOffset.UTC).toLocalDate();
+    }
+}
@@ -0,0 +1,192 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.config.AirflowServiceAccount;
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagRunDurations;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunListRequest;
+import com.yigit.airflow_spring_rest_controller.entity.DagRunDurationStats;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowResourceNotFoundException;
+import com.yigit.airflow_spring_rest_controller.repository.DagRunDurationStatsRepository;
+import com.yigit.airflow_spring_rest_controller.util.QuantileSketch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service maintaining run-duration quantiles per DAG.
+ * <p>
+ * Each refresh reads the runs that reached success or failed since the previous refresh, adds their durations to
+ * the DAG's {@link QuantileSketch} and stores the sketch together with the precomputed p50/p95/p99 in PostgreSQL.
+ * Requests are answered from an in-memory copy of those rows, so they never touch the database; Airflow is only
+ * asked whether the caller may read the DAG, since the statistics are gathered with the service account.
+ */
+@Service
+@Slf4j
+public class DagRunDurationStatsService extends AbstractDurationStatsService {
+
+    private static final List<String> TERMINAL_STATES = List.of("success", "failed");
+
+    private final DagRunService dagRunService;
+    private final DagService dagService;
+    private final DagRunDurationStatsRepository statsRepository;
+
+    private final Map<String, DagRunDurationStats> statsByDag = new ConcurrentHashMap<>();
+
+    public DagRunDurationStatsService(DagRunService dagRunService, DagService dagService,
+                                      DagRunDurationStatsRepository statsRepository,
+                                      AirflowServiceAccount serviceAccount, Environment environment) {
+        super(serviceAccount, environment, "airflow.run-stats", "run-duration statistics");
+        this.dagRunService = dagRunService;
+        this.dagService = dagService;
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * Retrieves the run-duration statistics of a DAG, once the caller's access to it is confirmed by Airflow
+     *
+     * @param dagId The DAG identifier
+     * @return A Mono containing the statistics
+     */
+    public Mono<DagRunDurations> getDurations(String dagId) {
+        return dagService.getDag(dagId)
+            .then(Mono.defer(() -> toDurations(dagId)));
+    }
+
+    private Mono<DagRunDurations> toDurations(String dagId) {
+        DagRunDurationStats stats = statsByDag.get(dagId);
+        if (stats == null) {
+            return Mono.error(new AirflowResourceNotFoundException("No finished runs recorded for DAG: " + dagId));
+        }
+        return Mono.just(DagRunDurations.builder()
+            .dagId(stats.getDagId())
+            .runCount(stats.getRunCount())
+            .successCount(stats.getSuccessCount())
+            .failedCount(stats.getFailedCount())
+            .meanSeconds(stats.getMeanSeconds())
+            .minSeconds(stats.getMinSeconds())
+            .maxSeconds(stats.getMaxSeconds())
+            .p50Seconds(stats.getP50Seconds())
+            .p95Seconds(stats.getP95Seconds())
+            .p99Seconds(stats.getP99Seconds())
+            .relativeAccuracy(getRelativeAccuracy())
+            .lastEndDate(stats.getLastEndDate())
+            .updatedAt(stats.getUpdatedAt())
+            .build());
+    }
+
+    @Override
+    protected Mono<LocalDateTime> loadStats() {
+        return statsRepository.findAll()
+            .doOnNext(stats -> statsByDag.put(stats.getDagId(), stats))
+            .then(Mono.fromCallable(() -> {
+                log.info("Loaded run-duration statistics of {} DAGs", statsByDag.size());
+                return statsByDag.values().stream()
+                    .map(DagRunDurationStats::getLastEndDate)
+                    .max(LocalDateTime::compareTo)
+                    .orElse(null);
+            }));
+    }
+
+    /**
+     * Adds the runs that finished in the range
+     */
+    @Override
+    protected Mono<Void> refresh(LocalDateTime from, LocalDateTime to) {
+        DagRunListRequest request = DagRunListRequest.builder()
+            .states(TERMINAL_STATES)
+            .endDateGte(from.atZone(ZoneOffset.UTC))
+            .endDateLte(to.atZone(ZoneOffset.UTC))
+            .orderBy("end_date")
+            .build();
+
+        Map<String, Batch> batches = new HashMap<>();
+        return dagRunService.listAllDagRuns(request)
+            .doOnNext(dagRun -> addRun(batches, dagRun))
+            .then(Flux.fromIterable(batches.entrySet())
+                .concatMap(entry -> save(entry.getKey(), entry.getValue()))
+                .then())
+            .doOnSuccess(done -> {
+                if (!batches.isEmpty()) {
+                    log.info("Added finished runs of {} DAGs to run-duration statistics", batches.size());
+                }
+            });
+    }
+
+    private void addRun(Map<String, Batch> batches, DagRun dagRun) {
+        if (dagRun.getStartDate() == null || dagRun.getEndDate() == null) {
+            return;
+        }
+        LocalDateTime endDate = toUtc(dagRun.getEndDate());
+        DagRunDurationStats stored = statsByDag.get(dagRun.getDagId());
+        // Runs up to the DAG's own watermark were added by an earlier refresh
+        if (stored != null && !endDate.isAfter(stored.getLastEndDate())) {
+            return;
+        }
+        Batch batch = batches.computeIfAbsent(dagRun.getDagId(), dagId -> new Batch(newSketch()));
+        batch.durations.add(Duration.between(dagRun.getStartDate(), dagRun.getEndDate()).toMillis() / 1000.0);
+        if ("success".equals(dagRun.getState())) {
+            batch.successes++;
+        } else {
+            batch.failures++;
+        }
+        if (batch.lastEndDate == null || endDate.isAfter(batch.lastEndDate)) {
+            batch.lastEndDate = endDate;
+        }
+    }
+
+    /**
+     * Merges a refresh batch into the DAG's stored sketch and persists the result
+     */
+    private Mono<DagRunDurationStats> save(String dagId, Batch batch) {
+        DagRunDurationStats stored = statsByDag.get(dagId);
+        QuantileSketch sketch = batch.durations;
+        if (stored != null) {
+            QuantileSketch merged = mergeStored(stored.getSketch(), sketch, "DAG: " + dagId);
+            if (merged != null) {
+                sketch = merged;
+            } else {
+                stored = null;
+            }
+        }
+
+        DagRunDurationStats stats = DagRunDurationStats.builder()
+            .dagId(dagId)
+            .runCount(sketch.getCount())
+            .successCount((stored != null ? stored.getSuccessCount() : 0) + batch.successes)
+            .failedCount((stored != null ? stored.getFailedCount() : 0) + batch.failures)
+            .meanSeconds(sketch.getSum() / sketch.getCount())
+            .minSeconds(sketch.getMin())
+            .maxSeconds(sketch.getMax())
+            .p50Seconds(sketch.quantile(0.5))
+            .p95Seconds(sketch.quantile(0.95))
+            .p99Seconds(sketch.quantile(0.99))
+            .sketch(sketch.encode())
+            .lastEndDate(batch.lastEndDate)
+            .updatedAt(LocalDateTime.now())
+            .newStats(!statsByDag.containsKey(dagId))
+            .build();
+        return statsRepository.save(stats)
+            .doOnNext(saved -> statsByDag.put(dagId, saved.toBuilder().newStats(false).build()));
+    }
+
+    private static final class Batch {
+        private final QuantileSketch durations;
+        private long successes;
+        private long failures;
+        private LocalDateTime lastEndDate;
+
+        private Batch(QuantileSketch durations) {
+            this.durations = durations;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunStateSnapshot;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service pushing DAG run and task instance state transitions to Server-Sent Events clients.
+ * <p>
+ * Each watched run has one channel per poller loop, fed by {@link DagRunStatePoller}; every connection passes the
+ * poller's access check before it joins a channel. The channel turns consecutive snapshots into
+ * deltas ({@code dag_run} and {@code task_instance} events) and keeps the most recent events in a bounded ring buffer,
+ * so a client reconnecting with Last-Event-ID receives only what it missed; when the ID is no longer buffered the
+ * client gets a full {@code snapshot} event instead. Every connection has its own bounded buffer: a client too slow
+ * to keep up is disconnected and resumes from its Last-Event-ID.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagRunEventService {
+
+    public static final String SNAPSHOT_EVENT = "snapshot";
+    public static final String DAG_RUN_EVENT = "dag_run";
+    public static final String TASK_INSTANCE_EVENT = "task_instance";
+    public static final String ERROR_EVENT = "error";
+
+    private final DagRunStatePoller dagRunStatePoller;
+
+    @Value("${airflow.events.heartbeat-interval}")
+    private Duration heartbeatInterval;
+
+    @Value("${airflow.events.buffer-size}")
+    private int bufferSize;
+
+    // Live events a connection may lag behind, on top of a full replay of the ring buffer
+    @Value("${airflow.events.connection-buffer}")
+    private int connectionBuffer;
+
+    // Event IDs are unique across channels and restarts, so a stale Last-Event-ID never matches a new event
+    private final AtomicLong eventIds = new AtomicLong(System.currentTimeMillis());
+
+    private final Map<ChannelKey, RunChannel> channels = new ConcurrentHashMap<>();
+
+    /**
+     * Streams the state transitions of a DAG run as Server-Sent Events, interleaved with heartbeat comments
+     *
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @param lastEventId The ID of the last event the client received, if it is resuming
+     * @return A Flux of Server-Sent Events
+     */
+    public Flux<ServerSentEvent<Object>> streamEvents(String dagId, String dagRunId, String lastEventId) {
+        Long resumeAfter = parseEventId(lastEventId);
+
+        Flux<ServerSentEvent<Object>> events = dagRunStatePoller.authorize(dagId, dagRunId)
+            .flatMapMany(owner -> Flux.deferContextual(context -> {
+                ChannelKey key = new ChannelKey(dagId, dagRunId, owner);
+                Connection connection = new Connection();
+                RunChannel channel = channels.compute(key, (k, existing) -> {
+                    RunChannel current = existing != null ? existing : new RunChannel(k);
+                    current.register(connection, resumeAfter);
+                    return current;
+                });
+                channel.start(context);
+                return connection.sink.asFlux()
+                    .doFinally(signal -> release(channel, connection));
+            }))
+            .map(event -> ServerSentEvent.builder(event.data())
+                .id(String.valueOf(event.id()))
+                .event(event.type())
+                .build());
+
+        Flux<ServerSentEvent<Object>> heartbeats = Flux.interval(heartbeatInterval)
+            .onBackpressureDrop()
+            .map(tick -> ServerSentEvent.builder().comment("heartbeat").build());
+
+        // Heartbeats stop together with the event stream
+        return events.publish(shared -> Flux.merge(shared, heartbeats.takeUntilOther(shared.then())));
+    }
+
+    private void release(RunChannel channel, Connection connection) {
+        channels.compute(channel.key, (k, existing) -> {
+            if (!channel.unregister(connection) || existing != channel) {
+                return existing;
+            }
+            log.info("Last event stream closed for DAG: {}, run: {}", k.dagId(), k.dagRunId());
+            channel.stop();
+            return null;
+        });
+    }
+
+    private static Long parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private record ChannelKey(String dagId, String dagRunId, String owner) {
+    }
+
+    private record RunEvent(long id, String type, Object data) {
+    }
+
+    private final class Connection {
+        private final Sinks.Many<RunEvent> sink =
+            Sinks.many().unicast().onBackpressureBuffer(Queues.<RunEvent>get(bufferSize + connectionBuffer).get());
+
+        /**
+         * Delivers an event; a full buffer ends the connection so that the client resumes from its last event
+         *
+         * @return false if the connection was closed
+         */
+        private boolean deliver(RunEvent event) {
+            Sinks.EmitResult result = sink.tryEmitNext(event);
+            if (result == Sinks.EmitResult.FAIL_OVERFLOW) {
+                log.info("Event stream client too slow, closing connection to let it resume");
+                sink.tryEmitComplete();
+                return false;
+            }
+            return result.isSuccess();
+        }
+    }
+
+    private final class RunChannel {
+        private final ChannelKey key;
+        private final Deque<RunEvent> buffer = new ArrayDeque<>();
+        private final Set<Connection> connections = new HashSet<>();
+        private DagRunStateSnapshot latest;
+        private RunEvent latestSnapshotEvent;
+        private Disposable upstream;
+
+        private RunChannel(ChannelKey key) {
+            this.key = key;
+        }
+
+        /**
+         * Replays what the connection missed and registers it for live events, atomically with respect to publishing
+         */
+        private synchronized void register(Connection connection, Long resumeAfter) {
+            connections.add(connection);
+            boolean resumable = resumeAfter != null && buffer.stream().anyMatch(event -> event.id() == resumeAfter);
+            if (resumable) {
+                buffer.stream()
+                    .filter(event -> event.id() > resumeAfter)
+                    .forEach(connection::deliver);
+            } else if (latest != null) {
+                connection.deliver(snapshotEvent());
+            }
+        }
+
+        /**
+         * @return true if no connection is left
+         */
+        private synchronized boolean unregister(Connection connection) {
+            connections.remove(connection);
+            return connections.isEmpty();
+        }
+
+        private synchronized void start(ContextView context) {
+            if (upstream != null) {
+                return;
+            }
+            log.info("Opening event channel for DAG: {}, run: {}", key.dagId(), key.dagRunId());
+            // Connections of a user-owned channel all belong to that user, so the first one's context is theirs too
+            upstream = dagRunStatePoller.watch(key.dagId(), key.dagRunId(), key.owner())
+                .contextWrite(context)
+                .subscribe(this::onSnapshot, this::onError, this::onComplete);
+        }
+
+        private synchronized void stop() {
+            if (upstream != null) {
+                upstream.dispose();
+            }
+            connections.forEach(connection -> connection.sink.tryEmitComplete());
+            connections.clear();
+        }
+
+        private synchronized void onSnapshot(DagRunStateSnapshot snapshot) {
+            DagRunStateSnapshot previous = latest;
+            latest = snapshot;
+            latestSnapshotEvent = null;
+            if (previous == null) {
+                publish(snapshotEvent());
+                return;
+            }
+            if (!Objects.equals(previous.getDagRun(), snapshot.getDagRun())) {
+                publish(new RunEvent(eventIds.incrementAndGet(), DAG_RUN_EVENT, snapshot.getDagRun()));
+            }
+            Map<String, TaskInstance> before = new HashMap<>();
+            previous.getTaskInstances().forEach(instance -> before.put(instanceKey(instance), instance));
+            for (TaskInstance instance : snapshot.getTaskInstances()) {
+                if (!instance.equals(before.get(instanceKey(instance)))) {
+                    publish(new RunEvent(eventIds.incrementAndGet(), TASK_INSTANCE_EVENT, instance));
+                }
+            }
+        }
+
+        // The channel map is only touched outside the channel's monitor; release() locks them in the opposite order
+        private void onError(Throwable e) {
+            synchronized (this) {
+                publish(new RunEvent(eventIds.incrementAndGet(), ERROR_EVENT, Map.of("message", String.valueOf(e.getMessage()))));
+            }
+            onComplete();
+        }
+
+        private void onComplete() {
+            synchronized (this) {
+                connections.forEach(connection -> connection.sink.tryEmitComplete());
+                connections.clear();
+            }
+            channels.remove(key, this);
+        }
+
+        private void publish(RunEvent event) {
+            buffer.addLast(event);
+            while (buffer.size() > bufferSize) {
+                buffer.removeFirst();
+            }
+            List<Connection> closed = new ArrayList<>();
+            for (Connection connection : connections) {
+                if (!connection.deliver(event)) {
+                    closed.add(connection);
+                }
+            }
+            closed.forEach(connections::remove);
+        }
+
+        /**
+         * Full-state event for clients that cannot resume; created once per snapshot and shared by all of them
+         */
+        private RunEvent snapshotEvent() {
+            if (latestSnapshotEvent == null) {
+                latestSnapshotEvent = new RunEvent(eventIds.incrementAndGet(), SNAPSHOT_EVENT, latest);
+            }
+            return latestSnapshotEvent;
+        }
+
+        private String instanceKey(TaskInstance instance) {
+            return instance.getTaskId() + "#" + (instance.getMapIndex() != null ? instance.getMapIndex() : -1);
+        }
+    }
+}
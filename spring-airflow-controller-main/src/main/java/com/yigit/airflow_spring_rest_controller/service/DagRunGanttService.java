@@ -0,0 +1,93 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunGantt;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskGraph;
+import com.yigit.airflow_spring_rest_controller.util.DagRunGanttBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Service computing the Gantt layout and critical path of DAG Runs.
+ * Results of runs that reached a terminal state, with all their task instances finished, are kept in a bounded
+ * least-recently-used cache. Every request still reads the run and the DAG's graph with the caller's credentials,
+ * and the cached layout is only reused while the run's state and end date and the DAG file are unchanged, so a
+ * cleared or re-run run and a changed DAG are laid out again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagRunGanttService {
+
+    private static final Set<String> TERMINAL_RUN_STATES = Set.of("success", "failed");
+    private static final Set<String> UNFINISHED_TASK_STATES = Set.of(
+        "scheduled", "queued", "running", "restarting", "up_for_retry", "up_for_reschedule", "deferred");
+
+    private final DagRunService dagRunService;
+    private final TaskInstanceService taskInstanceService;
+    private final TaskGraphService taskGraphService;
+
+    @Value("${airflow.gantt.cache-size}")
+    private int cacheSize;
+
+    private final Map<String, Cached> cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Cached> eldest) {
+            return size() > cacheSize;
+        }
+    });
+
+    /**
+     * Retrieves the Gantt layout and critical path of a DAG Run
+     *
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @return A Mono containing the Gantt layout
+     */
+    public Mono<DagRunGantt> getGantt(String dagId, String dagRunId) {
+        String key = dagId + "/" + dagRunId;
+        return Mono.zip(
+                dagRunService.getDagRun(dagId, dagRunId),
+                taskGraphService.getTaskGraph(dagId))
+            .flatMap(parts -> {
+                DagRun dagRun = parts.getT1();
+                TaskGraph graph = parts.getT2();
+                Cached cached = cache.get(key);
+                if (cached != null && cached.isValidFor(dagRun, graph)) {
+                    return Mono.just(cached.gantt());
+                }
+                return taskInstanceService.getAllTaskInstances(dagId, dagRunId)
+                    .map(taskInstances -> {
+                        DagRunGantt gantt = DagRunGanttBuilder.build(dagRun, taskInstances, graph,
+                            ZonedDateTime.now(ZoneOffset.UTC));
+                        if (TERMINAL_RUN_STATES.contains(dagRun.getState()) && taskInstances.stream()
+                                .noneMatch(instance -> instance.getState() != null
+                                    && UNFINISHED_TASK_STATES.contains(instance.getState()))) {
+                            cache.put(key, new Cached(dagRun.getState(), dagRun.getEndDate(), graph.getFileToken(), gantt));
+                        }
+                        log.info("Computed Gantt layout of DAG run: {}, DAG: {}, critical path: {} tasks",
+                            dagRunId, dagId, gantt.getCriticalPath().size());
+                        return gantt;
+                    });
+            });
+    }
+
+    private record Cached(String state, ZonedDateTime endDate, String fileToken, DagRunGantt gantt) {
+        private boolean isValidFor(DagRun dagRun, TaskGraph graph) {
+            return Objects.equals(state, dagRun.getState())
+                && Objects.equals(endDate, dagRun.getEndDate())
+                && Objects.equals(fileToken, graph.getFileToken());
+        }
+    }
+}
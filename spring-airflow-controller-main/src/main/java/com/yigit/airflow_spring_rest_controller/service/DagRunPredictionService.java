@@ -0,0 +1,115 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunPrediction;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskGraph;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+import com.yigit.airflow_spring_rest_controller.util.DagRunPredictor;
+import com.yigit.airflow_spring_rest_controller.util.HashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service predicting when DAG Runs complete from the per-task duration estimates of
+ * {@link TaskDurationStatsService} and the DAG's task graph.
+ * <p>
+ * Each prediction is cached per run together with a fingerprint of the run's state and its task instances' states,
+ * tries and start dates. Requests still read the run and its task instances, but the prediction is only recomputed
+ * when the fingerprint changed, when the DAG's graph changed, or when a running run passed its predicted end.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagRunPredictionService {
+
+    private final DagRunService dagRunService;
+    private final TaskInstanceService taskInstanceService;
+    private final TaskGraphService taskGraphService;
+    private final TaskDurationStatsService taskDurationStatsService;
+
+    @Value("${airflow.prediction.cache-size}")
+    private int cacheSize;
+
+    private final Map<String, Cached> cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Cached> eldest) {
+            return size() > cacheSize;
+        }
+    });
+
+    /**
+     * Predicts the completion of a DAG Run
+     *
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @return A Mono containing the prediction
+     */
+    public Mono<DagRunPrediction> getPrediction(String dagId, String dagRunId) {
+        String key = dagId + "/" + dagRunId;
+        return Mono.zip(
+                dagRunService.getDagRun(dagId, dagRunId),
+                taskInstanceService.getAllTaskInstances(dagId, dagRunId),
+                taskGraphService.getTaskGraph(dagId))
+            .map(parts -> {
+                DagRun dagRun = parts.getT1();
+                List<TaskInstance> taskInstances = parts.getT2();
+                TaskGraph graph = parts.getT3();
+                ZonedDateTime now = ZonedDateTime.now(ZoneOffset.UTC);
+                long fingerprint = fingerprint(dagRun, taskInstances, graph);
+
+                Cached cached = cache.get(key);
+                DagRunPrediction prediction;
+                if (cached != null && cached.fingerprint() == fingerprint && !elapsed(cached.prediction(), now)) {
+                    prediction = cached.prediction();
+                } else {
+                    prediction = DagRunPredictor.predict(dagRun, taskInstances, graph,
+                        taskDurationStatsService.getDurationEstimates(dagId), now);
+                    cache.put(key, new Cached(fingerprint, prediction));
+                    log.debug("Predicted end of DAG run: {}, DAG: {} at {}", dagRunId, dagId, prediction.getPredictedEndDate());
+                }
+                return withRemaining(prediction, now);
+            });
+    }
+
+    /**
+     * A running run that passed its predicted end has a task that overran its estimate
+     */
+    private static boolean elapsed(DagRunPrediction prediction, ZonedDateTime now) {
+        return !DagRunPredictor.TERMINAL_RUN_STATES.contains(prediction.getState())
+            && prediction.getPredictedEndDate() != null && prediction.getPredictedEndDate().isBefore(now);
+    }
+
+    private static DagRunPrediction withRemaining(DagRunPrediction prediction, ZonedDateTime now) {
+        if (DagRunPredictor.TERMINAL_RUN_STATES.contains(prediction.getState()) || prediction.getPredictedEndDate() == null) {
+            return prediction;
+        }
+        double remaining = Duration.between(now, prediction.getPredictedEndDate()).toMillis() / 1000.0;
+        return prediction.toBuilder().remainingSeconds(Math.max(remaining, 0)).build();
+    }
+
+    /**
+     * Order-independent sum of the 64-bit FNV-1a hashes of the run's and each task instance's prediction inputs
+     */
+    private static long fingerprint(DagRun dagRun, List<TaskInstance> taskInstances, TaskGraph graph) {
+        long fingerprint = HashUtil.fnv1a64(dagRun.getState() + "|" + graph.getFileToken());
+        for (TaskInstance instance : taskInstances) {
+            fingerprint += HashUtil.fnv1a64(instance.getTaskId() + "|" + instance.getMapIndex() + "|" + instance.getState() + "|" +
+                instance.getTryNumber() + "|" + (instance.getStartDate() != null ? instance.getStartDate().toInstant() : null));
+        }
+        return fingerprint;
+    }
+
+    private record Cached(long fingerprint, DagRunPrediction prediction) {
+    }
+}
@@ -0,0 +1,324 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCollection;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCursor;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunListRequest;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunPage;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunSearchRequest;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import com.yigit.airflow_spring_rest_controller.util.PagingUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service for paged DAG Run listings: the cross-DAG search through Airflow's batch list endpoint
+ * and the cursor-paged run history of a single DAG.
+ * <p>
+ * Listings ordered by execution date are addressed by keyset over (execution_date, dag_run_id): a continuation token
+ * carries the execution date of the last returned run, and the next page filters on that date instead of skipping
+ * rows, so every page costs the same however deep it is. Orderings Airflow cannot filter on fall back to offsets
+ * carried in the token. A page larger than Airflow's page limit is fetched as several Airflow pages in parallel.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagRunSearchService {
+
+    public static final String EXECUTION_DATE_ASC = "execution_date";
+    public static final String EXECUTION_DATE_DESC = "-execution_date";
+
+    // Columns accepted by Airflow's order_by for DAG Runs
+    private static final Set<String> ORDER_FIELDS = Set.of(
+        "id", "state", "dag_id", "execution_date", "dag_run_id", "start_date", "end_date",
+        "updated_at", "external_trigger", "conf");
+
+    private final DagRunService dagRunService;
+    private final ObjectMapper objectMapper;
+
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+
+    @Value("${airflow.api.page-limit}")
+    private int pageLimit;
+
+    @Value("${airflow.search.default-limit}")
+    private int defaultLimit;
+
+    @Value("${airflow.search.max-limit}")
+    private int maxLimit;
+
+    /**
+     * Searches DAG Runs of all or selected DAGs by state and date ranges
+     *
+     * @param searchRequest The filters, ordering, page size and continuation token
+     * @return A Mono containing the page of DAG Runs and the token of the next page
+     */
+    public Mono<DagRunPage> searchDagRuns(DagRunSearchRequest searchRequest) {
+        String orderBy = searchRequest.getOrderBy() != null ? searchRequest.getOrderBy() : EXECUTION_DATE_DESC;
+        if (!isKeysetOrder(orderBy)) {
+            return Mono.error(new AirflowBadRequestException(
+                "order_by must be " + EXECUTION_DATE_ASC + " or " + EXECUTION_DATE_DESC));
+        }
+        int limit;
+        DagRunCursor cursor;
+        try {
+            limit = resolveLimit(searchRequest.getLimit());
+            cursor = decodeCursor(searchRequest.getCursor(), orderBy);
+        } catch (AirflowBadRequestException e) {
+            return Mono.error(e);
+        }
+
+        DagRunListRequest filter = DagRunListRequest.builder()
+            .dagIds(searchRequest.getDagIds())
+            .states(searchRequest.getStates())
+            .executionDateGte(searchRequest.getExecutionDateGte())
+            .executionDateLte(searchRequest.getExecutionDateLte())
+            .startDateGte(searchRequest.getStartDateGte())
+            .startDateLte(searchRequest.getStartDateLte())
+            .endDateGte(searchRequest.getEndDateGte())
+            .endDateLte(searchRequest.getEndDateLte())
+            .orderBy(orderBy)
+            .build();
+        boolean descending = EXECUTION_DATE_DESC.equals(orderBy);
+
+        log.info("Searching DAG runs, order: {}, limit: {}, continued: {}", orderBy, limit, cursor != null);
+        return fetchPage((boundary, offset, size) -> {
+            DagRunListRequest.DagRunListRequestBuilder request = filter.toBuilder()
+                .pageOffset(offset)
+                .pageLimit(size);
+            if (boundary != null && descending) {
+                request.executionDateLte(earliest(filter.getExecutionDateLte(), boundary));
+            } else if (boundary != null) {
+                request.executionDateGte(latest(filter.getExecutionDateGte(), boundary));
+            }
+            return dagRunService.listDagRuns(request.build());
+        }, orderBy, limit, cursor);
+    }
+
+    /**
+     * Retrieves one page of a DAG's run history
+     *
+     * @param dagId The DAG identifier
+     * @param filters Airflow query filters such as state
+     * @param orderBy Airflow order_by, optionally prefixed with '-' for descending order; newest first if null
+     * @param limit The page size, or null for the default
+     * @param cursorToken The continuation token of the previous page, or null for the first page
+     * @return A Mono containing the page, with the token of the next page
+     */
+    public Mono<DagRunCollection> getDagRunsPage(String dagId, Map<String, String> filters, String orderBy,
+                                                 Integer limit, String cursorToken) {
+        String order = orderBy != null && !orderBy.isBlank() ? orderBy : EXECUTION_DATE_DESC;
+        if (!ORDER_FIELDS.contains(order.startsWith("-") ? order.substring(1) : order)) {
+            return Mono.error(new AirflowBadRequestException("Unsupported order_by: " + order));
+        }
+        int pageSize;
+        DagRunCursor cursor;
+        try {
+            pageSize = resolveLimit(limit);
+            cursor = decodeCursor(cursorToken, order);
+        } catch (AirflowBadRequestException e) {
+            return Mono.error(e);
+        }
+        boolean descending = EXECUTION_DATE_DESC.equals(order);
+
+        return fetchPage((boundary, offset, size) -> {
+            Map<String, String> queryParams = new HashMap<>(filters);
+            queryParams.put("order_by", order);
+            queryParams.put("offset", String.valueOf(offset));
+            queryParams.put("limit", String.valueOf(size));
+            if (boundary != null) {
+                // Formatted as an instant, a '+' offset would be read as a space in the query string
+                queryParams.put(descending ? "execution_date_lte" : "execution_date_gte",
+                    DateTimeFormatter.ISO_INSTANT.format(boundary));
+            }
+            return dagRunService.getDagRuns(dagId, queryParams);
+        }, order, pageSize, cursor)
+            .map(page -> {
+                DagRunCollection collection = new DagRunCollection();
+                collection.setDagRuns(page.getDagRuns());
+                collection.setTotalEntries(page.getTotalEntries());
+                collection.setNextCursor(page.getNextCursor());
+                return collection;
+            });
+    }
+
+    /**
+     * Fetches the page following the cursor; keyset for execution date orderings, offset for the others
+     */
+    private Mono<DagRunPage> fetchPage(RangeSource source, String orderBy, int limit, DagRunCursor cursor) {
+        if (!isKeysetOrder(orderBy)) {
+            int offset = cursor != null ? cursor.getOffset() : 0;
+            return fetchWindow(source, null, offset, limit)
+                .map(fetched -> DagRunPage.builder()
+                    .dagRuns(fetched.dagRuns())
+                    .totalEntries(cursor == null ? fetched.total() : null)
+                    .nextCursor(fetched.total() > offset + fetched.dagRuns().size() && !fetched.dagRuns().isEmpty() ?
+                        encodeCursor(DagRunCursor.builder()
+                            .orderBy(orderBy)
+                            .offset(offset + fetched.dagRuns().size())
+                            .build()) :
+                        null)
+                    .build());
+        }
+
+        // Runs already returned at the boundary date come back with it and are skipped
+        Set<String> seen = cursor != null && cursor.getSeen() != null ? new HashSet<>(cursor.getSeen()) : Set.of();
+        ZonedDateTime boundary = cursor != null ? cursor.getBoundary() : null;
+        return fetchWindow(source, boundary, 0, limit + seen.size())
+            .map(fetched -> {
+                List<DagRun> dagRuns = new ArrayList<>();
+                Set<String> returned = new HashSet<>(seen);
+                boolean more = fetched.total() > fetched.dagRuns().size();
+                for (DagRun dagRun : fetched.dagRuns()) {
+                    if (returned.contains(runKey(dagRun))) {
+                        continue;
+                    }
+                    if (dagRuns.size() == limit) {
+                        more = true;
+                        break;
+                    }
+                    returned.add(runKey(dagRun));
+                    dagRuns.add(dagRun);
+                }
+                return DagRunPage.builder()
+                    .dagRuns(dagRuns)
+                    .totalEntries(cursor == null ? fetched.total() : null)
+                    .nextCursor(more && !dagRuns.isEmpty() ? encodeCursor(nextCursor(orderBy, dagRuns, cursor)) : null)
+                    .build();
+            });
+    }
+
+    /**
+     * Fetches a range of the ordered listing; when it spans several Airflow pages, the first page
+     * reveals the total and the remaining pages are fetched concurrently
+     */
+    private Mono<Window> fetchWindow(RangeSource source, ZonedDateTime boundary, int start, int size) {
+        // Runs sharing an execution date may be ordered differently by separate page requests;
+        // keyset pages drop repeated runs
+        return PagingUtil.window((offset, limit) -> source.fetch(boundary, offset, limit),
+                DagRunCollection::getTotalEntries, DagRunCollection::getDagRuns, start, size, pageLimit, maxConcurrency)
+            .collectList()
+            .map(pages -> new Window(
+                pages.stream().flatMap(page -> runsOf(page).stream()).toList(),
+                pages.get(0).getTotalEntries() != null ? pages.get(0).getTotalEntries() : 0));
+    }
+
+    private List<DagRun> runsOf(DagRunCollection collection) {
+        return collection.getDagRuns() != null ? collection.getDagRuns() : Collections.emptyList();
+    }
+
+    private DagRunCursor nextCursor(String orderBy, List<DagRun> dagRuns, DagRunCursor previous) {
+        ZonedDateTime boundary = executionDate(dagRuns.get(dagRuns.size() - 1));
+        List<String> seen = new ArrayList<>();
+        if (previous != null && previous.getSeen() != null && previous.getBoundary().isEqual(boundary)) {
+            seen.addAll(previous.getSeen());
+        }
+        dagRuns.stream()
+            .filter(dagRun -> executionDate(dagRun).isEqual(boundary))
+            .map(this::runKey)
+            .forEach(seen::add);
+        return DagRunCursor.builder()
+            .orderBy(orderBy)
+            .boundary(boundary)
+            .seen(seen)
+            .build();
+    }
+
+    /**
+     * Validates the requested page size against the configured maximum
+     *
+     * @param limit The requested page size, or null for the default
+     * @return The page size to use
+     */
+    public int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return defaultLimit;
+        }
+        if (limit < 1 || limit > maxLimit) {
+            throw new AirflowBadRequestException("limit must be between 1 and " + maxLimit);
+        }
+        return limit;
+    }
+
+    /**
+     * Turns a cursor into an opaque continuation token
+     */
+    public String encodeCursor(DagRunCursor cursor) {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(cursor));
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not encode cursor", e);
+        }
+    }
+
+    /**
+     * Reads a continuation token issued for the same ordering
+     *
+     * @param token The token, or null for the first page
+     * @param orderBy The ordering of the requested page
+     * @return The cursor, or null for the first page
+     */
+    public DagRunCursor decodeCursor(String token, String orderBy) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        DagRunCursor cursor;
+        try {
+            cursor = objectMapper.readValue(Base64.getUrlDecoder().decode(token), DagRunCursor.class);
+        } catch (Exception e) {
+            throw new AirflowBadRequestException("Invalid cursor");
+        }
+        boolean positioned = isKeysetOrder(orderBy) ? cursor.getBoundary() != null : cursor.getOffset() != null;
+        if (!orderBy.equals(cursor.getOrderBy()) || !positioned) {
+            throw new AirflowBadRequestException("Cursor does not belong to this ordering");
+        }
+        return cursor;
+    }
+
+    private static boolean isKeysetOrder(String orderBy) {
+        return EXECUTION_DATE_ASC.equals(orderBy) || EXECUTION_DATE_DESC.equals(orderBy);
+    }
+
+    private String runKey(DagRun dagRun) {
+        return dagRun.getDagId() + "/" + dagRun.getDagRunId();
+    }
+
+    private static ZonedDateTime executionDate(DagRun dagRun) {
+        return dagRun.getExecutionDate() != null ? dagRun.getExecutionDate() : dagRun.getLogicalDate();
+    }
+
+    private static ZonedDateTime earliest(ZonedDateTime a, ZonedDateTime b) {
+        return a == null || b.isBefore(a) ? b : a;
+    }
+
+    private static ZonedDateTime latest(ZonedDateTime a, ZonedDateTime b) {
+        return a == null || b.isAfter(a) ? b : a;
+    }
+
+    /**
+     * One Airflow page of a listing, restricted to runs at or past the boundary in listing order
+     */
+    @FunctionalInterface
+    private interface RangeSource {
+        Mono<DagRunCollection> fetch(ZonedDateTime boundary, int offset, int limit);
+    }
+
+    private record Window(List<DagRun> dagRuns, int total) {
+    }
+}
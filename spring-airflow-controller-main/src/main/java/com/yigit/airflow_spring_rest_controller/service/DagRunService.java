@@ -3,16 +3,20 @@ package com.yigit.airflow_spring_rest_controller.service;
 import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
 import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCollection;
 import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCreate;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunListRequest;
 import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunStateUpdate;
 import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunClear;
 import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunNoteUpdate;
 import com.yigit.airflow_spring_rest_controller.dto.dataset.DatasetEventCollection;
 import com.yigit.airflow_spring_rest_controller.entity.DagActionLog.ActionType;
+import com.yigit.airflow_spring_rest_controller.util.PagingUtil;
 import com.yigit.airflow_spring_rest_controller.util.WebClientUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Collections;
@@ -31,8 +35,15 @@ public class DagRunService {
     private final DagActionLogService dagActionLogService;
     
     private static final String DAG_BASE_PATH = "/dags/{dagId}/dagRuns";
+    private static final String BATCH_LIST_PATH = "/dags/~/dagRuns/list";
     private static final String DAG_RUN_RESOURCE_NAME = "DAG Run";
     
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+    
+    @Value("${airflow.api.page-limit}")
+    private int pageLimit;
+    
     /**
      * Retrieves a collection of DAG Runs for a specific DAG
      * 
@@ -54,6 +65,66 @@ public class DagRunService {
             result.getDagRuns() != null ? result.getDagRuns().size() : 0, dagId));
     }
 
+    /**
+     * Retrieves DAG Runs across multiple DAGs in a single call using Airflow's batch list endpoint
+     * 
+     * @param listRequest The batch filter, ordering and paging parameters
+     * @return A Mono containing the matching DAG Runs
+     */
+    public Mono<DagRunCollection> listDagRuns(DagRunListRequest listRequest) {
+        log.info("Retrieving DAG runs in batch, filters: {}", listRequest);
+        return WebClientUtil.post(
+            airflowWebClient,
+            BATCH_LIST_PATH,
+            null,
+            listRequest,
+            DagRunCollection.class,
+            DAG_RUN_RESOURCE_NAME
+        ).doOnSuccess(result -> log.info("Successfully retrieved {} of {} DAG runs in batch", 
+            result.getDagRuns() != null ? result.getDagRuns().size() : 0, result.getTotalEntries()));
+    }
+
+    /**
+     * Retrieves all DAG Runs of a DAG matching the query filters.
+     * The first page reveals the total, the remaining pages are fetched concurrently.
+     * 
+     * @param dagId The DAG identifier
+     * @param queryParams Airflow query filters and ordering; limit and offset are overwritten
+     * @return A Flux of the matching DAG Runs in the requested order
+     */
+    public Flux<DagRun> getAllDagRuns(String dagId, Map<String, String> queryParams) {
+        return PagingUtil.allPages(offset -> getDagRunsPage(dagId, queryParams, offset),
+                DagRunCollection::getTotalEntries, pageLimit, maxConcurrency)
+            .flatMapIterable(page -> page.getDagRuns() != null ? page.getDagRuns() : Collections.<DagRun>emptyList());
+    }
+    
+    private Mono<DagRunCollection> getDagRunsPage(String dagId, Map<String, String> queryParams, int offset) {
+        Map<String, String> pageParams = new HashMap<>(queryParams);
+        pageParams.put("limit", String.valueOf(pageLimit));
+        pageParams.put("offset", String.valueOf(offset));
+        return getDagRuns(dagId, pageParams);
+    }
+
+    /**
+     * Retrieves all DAG Runs matching a batch filter.
+     * The first page reveals the total, the remaining pages are fetched concurrently.
+     * 
+     * @param listRequest The batch filter and ordering; paging fields are overwritten
+     * @return A Flux of the matching DAG Runs in the requested order
+     */
+    public Flux<DagRun> listAllDagRuns(DagRunListRequest listRequest) {
+        return PagingUtil.allPages(offset -> listDagRunsPage(listRequest, offset),
+                DagRunCollection::getTotalEntries, pageLimit, maxConcurrency)
+            .flatMapIterable(page -> page.getDagRuns() != null ? page.getDagRuns() : Collections.<DagRun>emptyList());
+    }
+    
+    private Mono<DagRunCollection> listDagRunsPage(DagRunListRequest listRequest, int offset) {
+        return listDagRuns(listRequest.toBuilder()
+            .pageOffset(offset)
+            .pageLimit(pageLimit)
+            .build());
+    }
+
     /**
      * Creates a new DAG Run
      * 
@@ -62,16 +133,7 @@ public class DagRunService {
      * @return A Mono containing the created DAG Run
      */
     public Mono<DagRun> createDagRun(String dagId, DagRunCreate dagRunCreate) {
-        log.info("Creating DAG run for DAG: {}, configuration: {}", dagId, dagRunCreate);
-        Map<String, Object> pathVars = Collections.singletonMap("dagId", dagId);
-        return WebClientUtil.post(
-            airflowWebClient,
-            DAG_BASE_PATH,
-            pathVars,
-            dagRunCreate,
-            DagRun.class,
-            DAG_RUN_RESOURCE_NAME
-        ).flatMap(dagRun -> {
+        return submitDagRun(dagId, dagRunCreate).flatMap(dagRun -> {
             String actionDetails = "DAG Run triggered";
             if (dagRunCreate.getNote() != null && !dagRunCreate.getNote().isEmpty()) {
                 actionDetails += " with note: " + dagRunCreate.getNote();
@@ -85,6 +147,27 @@ public class DagRunService {
         });
     }
     
+    /**
+     * Creates a new DAG Run without writing an audit log entry.
+     * Used by batch operations that audit all their runs with a single insert.
+     * 
+     * @param dagId The DAG identifier
+     * @param dagRunCreate The creation parameters
+     * @return A Mono containing the created DAG Run
+     */
+    public Mono<DagRun> submitDagRun(String dagId, DagRunCreate dagRunCreate) {
+        log.info("Creating DAG run for DAG: {}, configuration: {}", dagId, dagRunCreate);
+        Map<String, Object> pathVars = Collections.singletonMap("dagId", dagId);
+        return WebClientUtil.post(
+            airflowWebClient,
+            DAG_BASE_PATH,
+            pathVars,
+            dagRunCreate,
+            DagRun.class,
+            DAG_RUN_RESOURCE_NAME
+        );
+    }
+    
     /**
      * Retrieves a specific DAG Run
      * 
@@ -0,0 +1,320 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.config.AirflowServiceAccount;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunStateSnapshot;
+import com.yigit.airflow_spring_rest_controller.dto.monitoring.PollerMetrics;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Shared server-side poller of DAG run and task instance state.
+ * <p>
+ * Exactly one polling loop runs per watched (dagId, dagRunId), however many subscribers watch it. Snapshots are
+ * fanned out through a multicast sink that replays the latest snapshot to late subscribers, and the loop is stopped
+ * when the last subscriber leaves.
+ * <p>
+ * With the Airflow service account configured, one loop per run is shared by all users and polls with the service
+ * account; every subscriber first reads the run once with its own credentials, so it only joins a loop for a run it
+ * may see. Without the service account, loops are kept per user and poll with that user's credentials.
+ * <p>
+ * The cadence adapts to the run: queued and running runs are polled at the active interval until they stop changing,
+ * idle and finished runs back off exponentially up to the maximum interval, and every delay is jittered so that
+ * loops started together do not stay synchronized. Task instances of a finished, unchanged run are not re-fetched.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagRunStatePoller {
+
+    private static final Set<String> ACTIVE_STATES = Set.of("queued", "running");
+
+    private final DagRunService dagRunService;
+    private final TaskInstanceService taskInstanceService;
+    private final AirflowServiceAccount serviceAccount;
+
+    @Value("${airflow.poller.active-interval}")
+    private Duration activeInterval;
+
+    @Value("${airflow.poller.max-interval}")
+    private Duration maxInterval;
+
+    @Value("${airflow.poller.idle-polls}")
+    private int idlePolls;
+
+    @Value("${airflow.poller.jitter}")
+    private double jitter;
+
+    @Value("${airflow.poller.baseline-interval}")
+    private Duration baselineInterval;
+
+    @Value("#{${airflow.poller.dag-active-intervals}}")
+    private Map<String, String> dagActiveIntervals;
+
+    @Value("#{${airflow.poller.dag-max-intervals}}")
+    private Map<String, String> dagMaxIntervals;
+
+    private final Map<RunKey, RunWatch> watches = new ConcurrentHashMap<>();
+
+    private final AtomicLong upstreamCalls = new AtomicLong();
+    private final AtomicLong skippedTaskFetches = new AtomicLong();
+    private final DoubleAdder baselineCalls = new DoubleAdder();
+
+    /**
+     * Watches the state of a DAG run. Emits the latest known snapshot first, then every changed snapshot.
+     * The stream fails with {@link AirflowResourceNotFoundException} when the run disappears, and with the
+     * access check's error when the current user may not see the run.
+     *
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @return A Flux of state snapshots
+     */
+    public Flux<DagRunStateSnapshot> watch(String dagId, String dagRunId) {
+        return authorize(dagId, dagRunId)
+            .flatMapMany(owner -> watch(dagId, dagRunId, owner));
+    }
+
+    /**
+     * Checks that the current user may watch a DAG run and resolves the loop it joins
+     *
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @return A Mono containing the user owning the loop, or an empty string for the loop shared by all users
+     */
+    public Mono<String> authorize(String dagId, String dagRunId) {
+        if (!serviceAccount.isConfigured()) {
+            return getCurrentUsername()
+                .defaultIfEmpty("");
+        }
+        return dagRunService.getDagRun(dagId, dagRunId)
+            .doOnNext(dagRun -> upstreamCalls.incrementAndGet())
+            .thenReturn("");
+    }
+
+    /**
+     * Watches the state of a DAG run through the loop resolved by {@link #authorize(String, String)}.
+     * A loop owned by a user polls with the subscriber's security context, which must be that user's.
+     *
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @param owner The user owning the loop, or an empty string for the shared loop
+     * @return A Flux of state snapshots
+     */
+    public Flux<DagRunStateSnapshot> watch(String dagId, String dagRunId, String owner) {
+        RunKey key = new RunKey(dagId, dagRunId, owner);
+        return Flux.deferContextual(context -> {
+            RunWatch watch = watches.compute(key, (k, existing) -> {
+                RunWatch current = existing != null ? existing : new RunWatch(k);
+                current.subscribers.incrementAndGet();
+                return current;
+            });
+            // The shared loop must not carry any user's credentials, so it falls back to the service account
+            watch.start(owner.isEmpty() ? Context.empty() : context);
+            return watch.sink.asFlux()
+                .doFinally(signal -> release(watch));
+        });
+    }
+
+    /**
+     * Number of runs currently polled
+     */
+    public int getActiveWatchCount() {
+        return watches.size();
+    }
+
+    /**
+     * Upstream calls made by the loops and access checks, compared with an estimate of the calls every subscriber
+     * would have made polling run and task instances on its own at the baseline interval. The baseline is derived
+     * from the subscriber count and the configured interval, not measured, so the savings are an estimate too.
+     */
+    public PollerMetrics getMetrics() {
+        long actual = upstreamCalls.get();
+        long baseline = Math.round(baselineCalls.sum());
+        return PollerMetrics.builder()
+            .activeWatches(watches.size())
+            .subscribers(watches.values().stream().mapToInt(watch -> watch.subscribers.get()).sum())
+            .upstreamCalls(actual)
+            .estimatedBaselineCalls(baseline)
+            .estimatedCallsSaved(Math.max(baseline - actual, 0))
+            .skippedTaskInstanceFetches(skippedTaskFetches.get())
+            .build();
+    }
+
+    private void release(RunWatch watch) {
+        watches.compute(watch.key, (k, existing) -> {
+            if (watch.subscribers.decrementAndGet() > 0 || existing != watch) {
+                return existing;
+            }
+            log.info("Last subscriber left, stopping poller for DAG: {}, run: {}", k.dagId(), k.dagRunId());
+            watch.stop();
+            return null;
+        });
+    }
+
+    private Mono<Void> poll(RunWatch watch) {
+        RunKey key = watch.key;
+        watch.accountBaseline();
+        return dagRunService.getDagRun(key.dagId(), key.dagRunId())
+            .flatMap(dagRun -> {
+                upstreamCalls.incrementAndGet();
+                if (watch.isSettled(dagRun)) {
+                    skippedTaskFetches.incrementAndGet();
+                    watch.update(dagRun, null);
+                    return Mono.empty();
+                }
+                return taskInstanceService.getAllTaskInstances(key.dagId(), key.dagRunId())
+                    .doOnNext(taskInstances -> {
+                        upstreamCalls.incrementAndGet();
+                        watch.update(dagRun, taskInstances);
+                    });
+            })
+            .onErrorResume(e -> {
+                if (e instanceof AirflowResourceNotFoundException) {
+                    log.info("DAG run disappeared, stopping poller for DAG: {}, run: {}", key.dagId(), key.dagRunId());
+                    watches.remove(key, watch);
+                    watch.sink.tryEmitError(e);
+                    watch.stop();
+                } else {
+                    log.warn("Polling DAG: {}, run: {} failed: {}", key.dagId(), key.dagRunId(), e.getMessage());
+                }
+                return Mono.empty();
+            })
+            .then();
+    }
+
+    /**
+     * Delay before the next poll: the active interval while the run is queued or running and still changing,
+     * doubled for every further unchanged poll (immediately for finished runs), capped and jittered
+     */
+    private Duration nextDelay(RunWatch watch) {
+        Duration fast = override(dagActiveIntervals, watch.key.dagId(), activeInterval);
+        Duration slow = override(dagMaxIntervals, watch.key.dagId(), maxInterval);
+        int exponent = watch.active ? Math.max(watch.unchangedPolls - idlePolls, 0) : watch.unchangedPolls + 1;
+
+        long millis = Math.min(fast.toMillis() << Math.min(exponent, 20), slow.toMillis());
+        double factor = 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+        return Duration.ofMillis(Math.max((long) (millis * factor), 1));
+    }
+
+    private static Mono<String> getCurrentUsername() {
+        return ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .filter(Objects::nonNull)
+            .map(Authentication::getName);
+    }
+
+    private static Duration override(Map<String, String> overrides, String dagId, Duration defaultValue) {
+        String value = overrides.get(dagId);
+        return value != null ? DurationStyle.detectAndParse(value) : defaultValue;
+    }
+
+    private record RunKey(String dagId, String dagRunId, String owner) {
+    }
+
+    private final class RunWatch {
+        private final RunKey key;
+        private final Sinks.Many<DagRunStateSnapshot> sink = Sinks.many().replay().latest();
+        private final AtomicInteger subscribers = new AtomicInteger();
+        private Disposable loop;
+        private DagRunStateSnapshot latest;
+        private boolean active = true;
+        private int unchangedPolls;
+        private long lastPollNanos;
+
+        private RunWatch(RunKey key) {
+            this.key = key;
+        }
+
+        private synchronized void start(ContextView context) {
+            if (loop != null) {
+                return;
+            }
+            log.info("Starting poller for DAG: {}, run: {}{}", key.dagId(), key.dagRunId(),
+                key.owner().isEmpty() ? "" : ", user: " + key.owner());
+            loop = Mono.defer(() -> poll(this))
+                .then(Mono.defer(() -> Mono.delay(nextDelay(this))))
+                .repeat()
+                .contextWrite(context)
+                .subscribe();
+        }
+
+        private synchronized void stop() {
+            if (loop != null) {
+                loop.dispose();
+            }
+            sink.tryEmitComplete();
+        }
+
+        /**
+         * Adds the calls the current subscribers would have made since the previous poll at the baseline interval
+         */
+        private void accountBaseline() {
+            long now = System.nanoTime();
+            if (lastPollNanos != 0) {
+                double intervals = (double) (now - lastPollNanos) / baselineInterval.toNanos();
+                baselineCalls.add(2 * intervals * subscribers.get());
+            }
+            lastPollNanos = now;
+        }
+
+        /**
+         * A finished run whose state did not change since the last poll cannot have changing task instances
+         */
+        private boolean isSettled(DagRun dagRun) {
+            return latest != null && !ACTIVE_STATES.contains(dagRun.getState()) && latest.getDagRun().equals(dagRun);
+        }
+
+        /**
+         * Records a poll result and emits a new snapshot if the run or any task instance changed.
+         * A null task instance list means the previous one is still valid.
+         */
+        private void update(DagRun dagRun, List<TaskInstance> taskInstances) {
+            active = ACTIVE_STATES.contains(dagRun.getState());
+            List<TaskInstance> current = taskInstances != null ? taskInstances : latest.getTaskInstances();
+            if (latest != null && latest.getDagRun().equals(dagRun) && latest.getTaskInstances().equals(current)) {
+                unchangedPolls++;
+                return;
+            }
+            unchangedPolls = 0;
+            latest = DagRunStateSnapshot.builder()
+                .dagId(key.dagId())
+                .dagRunId(key.dagRunId())
+                .version(latest != null ? latest.getVersion() + 1 : 1)
+                .dagRun(dagRun)
+                .taskInstances(current)
+                .polledAt(ZonedDateTime.now(ZoneOffset.UTC))
+                .build();
+            Sinks.EmitResult result = sink.tryEmitNext(latest);
+            if (result.isFailure()) {
+                log.debug("Could not emit snapshot for DAG: {}, run: {}: {}", key.dagId(), key.dagRunId(), result);
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yigit.airflow_spring_rest_controller.config.AirflowServiceAccount;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCreate;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunListRequest;
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog;
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog.ActionType;
+import com.yigit.airflow_spring_rest_controller.entity.QueuedDagRunTrigger;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowConflictException;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowResourceNotFoundException;
+import com.yigit.airflow_spring_rest_controller.repository.QueuedDagRunTriggerRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Background dispatcher draining the trigger queue into Airflow.
+ * <p>
+ * Each tick leases at most as many entries as the current dispatch window allows. The window follows an
+ * additive-increase/multiplicative-decrease rule: it grows by one per fully successful tick and is halved
+ * whenever Airflow answers with 5xx/429 or cannot be reached, so the dispatch rate settles at what Airflow can absorb.
+ * Entries of a DAG that already has max_active_runs queued or running runs are deferred without using an attempt.
+ * Completing an entry only succeeds while this dispatcher still holds its lease, so a dispatch that outlived its
+ * lease cannot overwrite the outcome of the dispatcher that took the entry over.
+ * <p>
+ * Entries are triggered with the service account; {@link DagRunTriggerQueueService} only queues triggers whose DAG
+ * the requesting user could access.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DagRunTriggerDispatcher {
+
+    private static final List<String> ACTIVE_STATES = List.of("queued", "running");
+
+    private final QueuedDagRunTriggerRepository queueRepository;
+    private final DagService dagService;
+    private final DagRunService dagRunService;
+    private final DagActionLogService dagActionLogService;
+    private final ObjectMapper objectMapper;
+    private final AirflowServiceAccount serviceAccount;
+
+    @Value("${airflow.trigger-queue.enabled}")
+    private boolean enabled;
+
+    @Value("${airflow.trigger-queue.poll-interval}")
+    private Duration pollInterval;
+
+    @Value("${airflow.trigger-queue.lease}")
+    private Duration lease;
+
+    @Value("${airflow.trigger-queue.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${airflow.trigger-queue.retry-backoff}")
+    private Duration retryBackoff;
+
+    @Value("${airflow.trigger-queue.defer-delay}")
+    private Duration deferDelay;
+
+    @Value("${airflow.trigger-queue.retention}")
+    private Duration retention;
+
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+
+    private double window = 1;
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            log.info("Trigger queue dispatcher is disabled");
+            return;
+        }
+        if (!serviceAccount.isConfigured()) {
+            log.warn("Trigger queue dispatcher not started: airflow.api.service-username/password are not set");
+            return;
+        }
+        log.info("Starting trigger queue dispatcher, poll interval: {}, max window: {}", pollInterval, maxConcurrency);
+        subscription = Flux.interval(pollInterval)
+            .onBackpressureDrop()
+            .concatMap(tick -> dispatchOnce(tick)
+                .onErrorResume(e -> {
+                    log.warn("Trigger queue dispatch failed: {}", e.getMessage());
+                    return Mono.empty();
+                }), 1)
+            .subscribe();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Whether queued triggers are being dispatched
+     */
+    public boolean isRunning() {
+        return subscription != null && !subscription.isDisposed();
+    }
+
+    /**
+     * Current number of entries leased and dispatched concurrently per tick
+     */
+    public synchronized int currentWindow() {
+        return (int) Math.floor(window);
+    }
+
+    private Mono<Void> dispatchOnce(long tick) {
+        LocalDateTime now = LocalDateTime.now();
+        Mono<Void> cleanup = tick % 300 == 0 ?
+            queueRepository.deleteFinishedBefore(now.minus(retention))
+                .doOnNext(deleted -> log.debug("Removed {} finished trigger queue entries", deleted))
+                .then() :
+            Mono.empty();
+
+        return cleanup.then(queueRepository.claimReady(now, now.plus(lease), currentWindow())
+            .sort(Comparator.comparing(QueuedDagRunTrigger::getId))
+            .collectList()
+            .flatMap(claimed -> {
+                if (claimed.isEmpty()) {
+                    return Mono.empty();
+                }
+                log.info("Dispatching {} queued triggers, window: {}", claimed.size(), currentWindow());
+                Map<String, List<QueuedDagRunTrigger>> byDag = claimed.stream()
+                    .collect(Collectors.groupingBy(QueuedDagRunTrigger::getDagId, LinkedHashMap::new, Collectors.toList()));
+
+                return Flux.fromIterable(byDag.entrySet())
+                    .flatMap(entry -> dispatchDag(entry.getKey(), entry.getValue()), maxConcurrency)
+                    .collectList()
+                    .flatMap(this::completeTick);
+            }));
+    }
+
+    /**
+     * Dispatches the leased entries of one DAG up to the DAG's free run slots and defers the rest
+     */
+    private Flux<Result> dispatchDag(String dagId, List<QueuedDagRunTrigger> entries) {
+        return freeRunSlots(dagId)
+            .map(free -> {
+                List<QueuedDagRunTrigger> now = entries.subList(0, Math.min(free, entries.size()));
+                List<QueuedDagRunTrigger> later = entries.subList(now.size(), entries.size());
+                if (!later.isEmpty()) {
+                    log.debug("DAG {} is at max_active_runs, deferring {} triggers", dagId, later.size());
+                }
+                return Flux.concat(
+                    Flux.fromIterable(now).flatMap(this::dispatch),
+                    Flux.fromIterable(later).concatMap(entry -> requeue(entry, deferDelay, null, false, false)));
+            })
+            // Failing capacity checks are handled like failed dispatches of every entry of the DAG
+            .onErrorResume(e -> Mono.just(Flux.fromIterable(entries).concatMap(entry -> handleFailure(entry, e))))
+            .flatMapMany(Function.identity());
+    }
+
+    /**
+     * Number of runs the DAG can still start before reaching max_active_runs
+     */
+    private Mono<Integer> freeRunSlots(String dagId) {
+        Mono<Optional<Integer>> maxActiveRuns = dagService.getDagDetails(dagId)
+            .map(details -> Optional.ofNullable(details.getMaxActiveRuns()));
+        Mono<Integer> activeRuns = dagRunService.listDagRuns(DagRunListRequest.builder()
+                .dagIds(List.of(dagId))
+                .states(ACTIVE_STATES)
+                .pageLimit(1)
+                .build())
+            .map(collection -> collection.getTotalEntries() != null ? collection.getTotalEntries() : 0);
+
+        return Mono.zip(maxActiveRuns, activeRuns)
+            .map(parts -> parts.getT1()
+                .map(max -> Math.max(max - parts.getT2(), 0))
+                .orElse(Integer.MAX_VALUE));
+    }
+
+    private Mono<Result> dispatch(QueuedDagRunTrigger entry) {
+        DagRunCreate dagRunCreate;
+        try {
+            dagRunCreate = objectMapper.readValue(entry.getRequestBody(), DagRunCreate.class);
+        } catch (Exception e) {
+            return fail(entry, "Unreadable request: " + e.getMessage(), false);
+        }
+        return dagRunService.submitDagRun(entry.getDagId(), dagRunCreate)
+            .flatMap(dagRun -> triggered(entry))
+            .onErrorResume(e -> handleFailure(entry, e));
+    }
+
+    private Mono<Result> handleFailure(QueuedDagRunTrigger entry, Throwable e) {
+        if (e instanceof AirflowConflictException) {
+            // A conflict on a repeated attempt means an earlier attempt created the run before its response was lost
+            return entry.getAttempts() > 1 ? triggered(entry) : fail(entry, "DAG Run already exists", false);
+        }
+        if (isPermanent(e)) {
+            return fail(entry, e.getMessage(), false);
+        }
+        log.warn("Airflow could not take trigger {} for DAG: {}, attempt {}: {}",
+            entry.getId(), entry.getDagId(), entry.getAttempts(), e.getMessage());
+        if (entry.getAttempts() >= maxAttempts) {
+            return fail(entry, e.getMessage(), true);
+        }
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(entry.getAttempts() - 1, 10));
+        return requeue(entry, backoff, e.getMessage(), true, true);
+    }
+
+    /**
+     * Rejections of the request itself are permanent. 401/403 are not: they come from the service account's
+     * credentials or permissions, which can be fixed without touching the queued request.
+     */
+    private boolean isPermanent(Throwable e) {
+        if (e instanceof AirflowBadRequestException || e instanceof AirflowResourceNotFoundException) {
+            return true;
+        }
+        if (!(e instanceof WebClientResponseException response)) {
+            return false;
+        }
+        int status = response.getStatusCode().value();
+        return response.getStatusCode().is4xxClientError()
+            && status != HttpStatus.TOO_MANY_REQUESTS.value()
+            && status != HttpStatus.UNAUTHORIZED.value()
+            && status != HttpStatus.FORBIDDEN.value();
+    }
+
+    private Mono<Result> triggered(QueuedDagRunTrigger entry) {
+        return queueRepository.markTriggered(entry.getId(), entry.getLockedUntil(), LocalDateTime.now())
+            .map(updated -> updated > 0 ? new Result(entry, Outcome.TRIGGERED, null, false) : leaseLost(entry));
+    }
+
+    private Mono<Result> fail(QueuedDagRunTrigger entry, String error, boolean overloaded) {
+        log.warn("Trigger {} for DAG: {} failed: {}", entry.getId(), entry.getDagId(), error);
+        return queueRepository.markFailed(entry.getId(), entry.getLockedUntil(), error, LocalDateTime.now())
+            .map(updated -> updated > 0 ? new Result(entry, Outcome.FAILED, error, overloaded) : leaseLost(entry));
+    }
+
+    private Mono<Result> requeue(QueuedDagRunTrigger entry, Duration delay, String error,
+                                 boolean countAttempt, boolean overloaded) {
+        return queueRepository.requeue(entry.getId(), entry.getLockedUntil(), LocalDateTime.now().plus(delay), error, countAttempt)
+            .map(updated -> updated > 0 ?
+                new Result(entry, countAttempt ? Outcome.RETRY : Outcome.DEFERRED, error, overloaded) : leaseLost(entry));
+    }
+
+    /**
+     * The lease expired and another dispatcher took the entry over; its outcome is left to that dispatcher
+     */
+    private Result leaseLost(QueuedDagRunTrigger entry) {
+        log.warn("Lease of trigger {} for DAG: {} expired before it was completed", entry.getId(), entry.getDagId());
+        return new Result(entry, Outcome.LEASE_LOST, null, false);
+    }
+
+    /**
+     * Adapts the dispatch window and writes the audit entries of all finished triggers in one batch
+     */
+    private Mono<Void> completeTick(List<Result> results) {
+        long succeeded = results.stream().filter(result -> result.outcome() == Outcome.TRIGGERED).count();
+        boolean overloaded = results.stream().anyMatch(Result::overloaded);
+        adaptWindow(succeeded, overloaded);
+
+        List<DagActionLog> entries = new ArrayList<>();
+        for (Result result : results) {
+            if (result.outcome() == Outcome.TRIGGERED || result.outcome() == Outcome.FAILED) {
+                entries.add(DagActionLog.builder()
+                    .username(result.entry().getUsername())
+                    .dagId(result.entry().getDagId())
+                    .actionType(ActionType.TRIGGERED.getValue())
+                    .actionDetails(result.outcome() == Outcome.TRIGGERED ?
+                        "DAG Run triggered (queued request " + result.entry().getId() + ")" :
+                        "DAG Run trigger failed (queued request " + result.entry().getId() + "): " + result.error())
+                    .success(result.outcome() == Outcome.TRIGGERED)
+                    .runId(result.entry().getDagRunId())
+                    .build());
+            }
+        }
+        long leaseLost = results.stream().filter(result -> result.outcome() == Outcome.LEASE_LOST).count();
+        log.info("Trigger queue tick finished, triggered: {}, failed: {}, requeued: {}, lease lost: {}, window: {}",
+            succeeded, entries.size() - succeeded, results.size() - entries.size() - leaseLost, leaseLost, currentWindow());
+        return dagActionLogService.logDagActions(entries);
+    }
+
+    private synchronized void adaptWindow(long succeeded, boolean overloaded) {
+        if (overloaded) {
+            window = Math.max(1, window / 2);
+        } else if (succeeded > 0) {
+            window = Math.min(maxConcurrency, window + (double) succeeded / window);
+        }
+    }
+
+    private enum Outcome {
+        TRIGGERED,
+        FAILED,
+        RETRY,
+        DEFERRED,
+        LEASE_LOST
+    }
+
+    private record Result(QueuedDagRunTrigger entry, Outcome outcome, String error, boolean overloaded) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCreate;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunQueueRequest;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunQueueStatus;
+import com.yigit.airflow_spring_rest_controller.entity.QueuedDagRunTrigger;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowResourceNotFoundException;
+import com.yigit.airflow_spring_rest_controller.repository.QueuedDagRunTriggerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Service accepting DAG Run triggers into the PostgreSQL-backed trigger queue and reporting their progress.
+ * The queue is drained by {@link DagRunTriggerDispatcher}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagRunTriggerQueueService {
+
+    private static final String UNKNOWN_USER = "unknown";
+    private static final String QUEUED_RUN_ID_PREFIX = "queued__";
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    private final QueuedDagRunTriggerRepository queueRepository;
+    private final ObjectMapper objectMapper;
+    private final DagRunTriggerDispatcher dispatcher;
+    private final DagService dagService;
+
+    /**
+     * Adds a DAG Run trigger to the queue.
+     * A dag_run_id is assigned up front when the client did not provide one, so that a dispatch repeated after
+     * a lost response is recognized by Airflow as the same run.
+     * The DAG is read with the caller's credentials before the entry is saved, because the dispatcher triggers it
+     * with the service account; a DAG the caller cannot access is rejected with Airflow's 403 or 404.
+     *
+     * @param queueRequest The DAG and run parameters
+     * @return A Mono containing the queued request with its position
+     */
+    public Mono<DagRunQueueStatus> enqueue(DagRunQueueRequest queueRequest) {
+        if (queueRequest.getDagId() == null || queueRequest.getDagId().isBlank()) {
+            return Mono.error(new AirflowBadRequestException("dag_id is required"));
+        }
+        if (!dispatcher.isRunning()) {
+            return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "The trigger queue is not being dispatched; trigger the DAG Run directly"));
+        }
+        DagRunCreate dagRunCreate = queueRequest.getDagRun() != null ? queueRequest.getDagRun() : new DagRunCreate();
+        if (dagRunCreate.getDagRunId() == null || dagRunCreate.getDagRunId().isBlank()) {
+            dagRunCreate.setDagRunId(QUEUED_RUN_ID_PREFIX + UUID.randomUUID());
+        }
+
+        String requestBody;
+        try {
+            requestBody = objectMapper.writeValueAsString(dagRunCreate);
+        } catch (JsonProcessingException e) {
+            return Mono.error(new AirflowBadRequestException("Invalid dag_run: " + e.getOriginalMessage()));
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        return dagService.getDag(queueRequest.getDagId())
+            .then(getCurrentUsername())
+            .flatMap(username -> queueRepository.save(QueuedDagRunTrigger.builder()
+                .dagId(queueRequest.getDagId())
+                .dagRunId(dagRunCreate.getDagRunId())
+                .requestBody(requestBody)
+                .username(username)
+                .status(QueuedDagRunTrigger.Status.QUEUED.name())
+                .attempts(0)
+                .enqueuedAt(now)
+                .nextAttemptAt(now)
+                .build()))
+            .doOnSuccess(queued -> log.info("Queued trigger {} for DAG: {}, run ID: {}",
+                queued.getId(), queued.getDagId(), queued.getDagRunId()))
+            .flatMap(this::toStatus);
+    }
+
+    /**
+     * Retrieves the status of a queued trigger, including its position while it is still pending.
+     * Users only see their own entries; admins see all.
+     *
+     * @param requestId The queue entry identifier
+     * @return A Mono containing the status
+     */
+    public Mono<DagRunQueueStatus> getStatus(Long requestId) {
+        // Entries of other users are reported as missing so that sequential IDs reveal nothing
+        return Mono.zip(queueRepository.findById(requestId), getCurrentUser())
+            .filter(found -> found.getT2().admin() || found.getT2().username().equals(found.getT1().getUsername()))
+            .map(Tuple2::getT1)
+            .switchIfEmpty(Mono.error(new AirflowResourceNotFoundException("Queued trigger not found")))
+            .flatMap(this::toStatus);
+    }
+
+    private Mono<DagRunQueueStatus> toStatus(QueuedDagRunTrigger queued) {
+        boolean pending = QueuedDagRunTrigger.Status.QUEUED.name().equals(queued.getStatus())
+            || QueuedDagRunTrigger.Status.DISPATCHING.name().equals(queued.getStatus());
+        Mono<Long> position = pending ? queueRepository.countAhead(queued.getId()) : Mono.empty();
+
+        return position
+            .map(ahead -> buildStatus(queued, ahead))
+            .defaultIfEmpty(buildStatus(queued, null));
+    }
+
+    private DagRunQueueStatus buildStatus(QueuedDagRunTrigger queued, Long position) {
+        return DagRunQueueStatus.builder()
+            .requestId(queued.getId())
+            .dagId(queued.getDagId())
+            .dagRunId(queued.getDagRunId())
+            .status(queued.getStatus())
+            .position(position)
+            .attempts(queued.getAttempts())
+            .error(queued.getError())
+            .enqueuedAt(queued.getEnqueuedAt())
+            .nextAttemptAt(queued.getNextAttemptAt())
+            .dispatchedAt(queued.getDispatchedAt())
+            .build();
+    }
+
+    private Mono<CurrentUser> getCurrentUser() {
+        return ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .filter(Objects::nonNull)
+            .map(auth -> new CurrentUser(auth.getName(), auth.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()))));
+    }
+
+    private record CurrentUser(String username, boolean admin) {
+    }
+
+    private Mono<String> getCurrentUsername() {
+        return ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .filter(Objects::nonNull)
+            .map(Authentication::getName)
+            .defaultIfEmpty(UNKNOWN_USER);
+    }
+}
@@ -0,0 +1,246 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunBulkTrigger;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunBulkTriggerResponse;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunBulkTriggerResult;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunBulkTriggerResult.Outcome;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCreate;
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog;
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog.ActionType;
+import com.yigit.airflow_spring_rest_controller.entity.DagRunTriggerKey;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import com.yigit.airflow_spring_rest_controller.repository.DagRunTriggerKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service triggering many DAG Runs in one request.
+ * Every item is guarded by an idempotency key persisted in PostgreSQL (unique per user, TTL), so a retried request
+ * reports the runs created by the first attempt instead of creating them again. A key reused for another DAG is
+ * reported as failed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DagRunTriggerService {
+
+    private static final String UNKNOWN_USER = "unknown";
+
+    private final DagRunService dagRunService;
+    private final DagActionLogService dagActionLogService;
+    private final DagRunTriggerKeyRepository triggerKeyRepository;
+
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+
+    @Value("${airflow.trigger.idempotency-ttl}")
+    private Duration idempotencyTtl;
+
+    @Value("${airflow.trigger.max-batch-size}")
+    private int maxBatchSize;
+
+    /**
+     * Triggers the DAG Runs of all items whose idempotency key has not been used within the TTL.
+     * Keys are claimed with a single multi-row insert, runs are created with bounded concurrency,
+     * and the TRIGGERED audit entries are written in one batch.
+     *
+     * @param bulkTrigger The items to trigger
+     * @return A Mono containing the outcome of every item, in request order
+     */
+    public Mono<DagRunBulkTriggerResponse> triggerDagRuns(DagRunBulkTrigger bulkTrigger) {
+        List<DagRunBulkTrigger.Item> items = bulkTrigger.getItems();
+        if (items == null || items.isEmpty()) {
+            return Mono.error(new AirflowBadRequestException("items must not be empty"));
+        }
+        if (items.size() > maxBatchSize) {
+            return Mono.error(new AirflowBadRequestException("At most " + maxBatchSize + " items can be triggered at once"));
+        }
+        Set<String> seenKeys = new HashSet<>();
+        for (DagRunBulkTrigger.Item item : items) {
+            if (item.getIdempotencyKey() == null || item.getIdempotencyKey().isBlank()) {
+                return Mono.error(new AirflowBadRequestException("idempotency_key is required for every item"));
+            }
+            if (item.getDagId() == null || item.getDagId().isBlank()) {
+                return Mono.error(new AirflowBadRequestException("dag_id is required for every item"));
+            }
+            if (!seenKeys.add(item.getIdempotencyKey())) {
+                return Mono.error(new AirflowBadRequestException("Duplicate idempotency_key in request: " + item.getIdempotencyKey()));
+            }
+        }
+
+        log.info("Bulk triggering {} DAG runs", items.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        return getCurrentUsername()
+            .flatMap(username -> triggerKeyRepository.deleteExpired(now)
+                .doOnNext(expired -> {
+                    if (expired > 0) {
+                        log.debug("Removed {} expired idempotency keys", expired);
+                    }
+                })
+                .thenMany(triggerKeyRepository.claimTriggerKeys(items.stream()
+                    .map(item -> DagRunTriggerKey.builder()
+                        .idempotencyKey(item.getIdempotencyKey())
+                        .dagId(item.getDagId())
+                        .username(username)
+                        .status(DagRunTriggerKey.Status.PENDING.name())
+                        .createdAt(now)
+                        .expiresAt(now.plus(idempotencyTtl))
+                        .build())
+                    .collect(Collectors.toList())))
+                .collect(Collectors.toSet())
+                .flatMap(claimed -> triggerClaimed(username, items, claimed)))
+            .doOnSuccess(response -> log.info("Bulk trigger finished, triggered: {}, duplicates: {}, failed: {}",
+                response.getTriggered(), response.getDuplicates(), response.getFailed()));
+    }
+
+    private Mono<DagRunBulkTriggerResponse> triggerClaimed(String username, List<DagRunBulkTrigger.Item> items,
+                                                           Set<String> claimed) {
+        List<DagRunBulkTrigger.Item> toDispatch = items.stream()
+            .filter(item -> claimed.contains(item.getIdempotencyKey()))
+            .collect(Collectors.toList());
+        List<String> alreadyUsed = items.stream()
+            .map(DagRunBulkTrigger.Item::getIdempotencyKey)
+            .filter(key -> !claimed.contains(key))
+            .collect(Collectors.toList());
+        log.info("Claimed {} idempotency keys, {} already used", toDispatch.size(), alreadyUsed.size());
+
+        Mono<Map<String, DagRunTriggerKey>> existing = alreadyUsed.isEmpty() ?
+            Mono.just(Map.of()) :
+            triggerKeyRepository.findByUsernameAndIdempotencyKeyIn(username, alreadyUsed)
+                .collectMap(DagRunTriggerKey::getIdempotencyKey, Function.identity());
+
+        Mono<List<DagRunBulkTriggerResult>> dispatched = Flux.fromIterable(toDispatch)
+            .flatMapSequential(this::dispatch, maxConcurrency)
+            .collectList()
+            .flatMap(results -> recordResults(username, results).thenReturn(results));
+
+        return Mono.zip(dispatched, existing)
+            .map(parts -> buildResponse(items, parts.getT1(), parts.getT2()));
+    }
+
+    private Mono<DagRunBulkTriggerResult> dispatch(DagRunBulkTrigger.Item item) {
+        DagRunCreate dagRunCreate = item.getDagRun() != null ? item.getDagRun() : new DagRunCreate();
+        return dagRunService.submitDagRun(item.getDagId(), dagRunCreate)
+            .map(dagRun -> DagRunBulkTriggerResult.builder()
+                .idempotencyKey(item.getIdempotencyKey())
+                .dagId(item.getDagId())
+                .outcome(Outcome.TRIGGERED)
+                .dagRunId(dagRun.getDagRunId())
+                .build())
+            .onErrorResume(e -> {
+                log.warn("Could not trigger DAG: {}, idempotency key: {}, error: {}",
+                    item.getDagId(), item.getIdempotencyKey(), e.getMessage());
+                return Mono.just(DagRunBulkTriggerResult.builder()
+                    .idempotencyKey(item.getIdempotencyKey())
+                    .dagId(item.getDagId())
+                    .outcome(Outcome.FAILED)
+                    .error(e.getMessage())
+                    .build());
+            });
+    }
+
+    /**
+     * Stores the created run IDs, releases the keys of failed items and writes the audit entries.
+     * The runs already exist at this point, so bookkeeping failures are logged instead of failing the request.
+     */
+    private Mono<Void> recordResults(String username, List<DagRunBulkTriggerResult> results) {
+        Map<String, String> triggered = results.stream()
+            .filter(result -> result.getOutcome() == Outcome.TRIGGERED)
+            .collect(Collectors.toMap(DagRunBulkTriggerResult::getIdempotencyKey,
+                result -> Objects.toString(result.getDagRunId(), "")));
+        List<String> failed = results.stream()
+            .filter(result -> result.getOutcome() == Outcome.FAILED)
+            .map(DagRunBulkTriggerResult::getIdempotencyKey)
+            .collect(Collectors.toList());
+
+        List<DagActionLog> entries = results.stream()
+            .map(result -> DagActionLog.builder()
+                .dagId(result.getDagId())
+                .actionType(ActionType.TRIGGERED.getValue())
+                .actionDetails(result.getOutcome() == Outcome.TRIGGERED ?
+                    "DAG Run triggered (bulk, idempotency key: " + result.getIdempotencyKey() + ")" :
+                    "DAG Run trigger failed (bulk): " + result.getError())
+                .success(result.getOutcome() == Outcome.TRIGGERED)
+                .runId(result.getDagRunId())
+                .build())
+            .collect(Collectors.toList());
+
+        return triggerKeyRepository.markTriggered(username, triggered)
+            .then(failed.isEmpty() ? Mono.empty() : triggerKeyRepository.deleteByIdempotencyKeys(username, failed).then())
+            .onErrorResume(e -> {
+                log.error("Could not update idempotency keys after bulk trigger: {}", e.getMessage());
+                return Mono.empty();
+            })
+            .then(dagActionLogService.logDagActions(entries))
+            .onErrorResume(e -> {
+                log.error("Could not write audit entries for bulk trigger: {}", e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private DagRunBulkTriggerResponse buildResponse(List<DagRunBulkTrigger.Item> items,
+                                                    List<DagRunBulkTriggerResult> dispatched,
+                                                    Map<String, DagRunTriggerKey> existing) {
+        Map<String, DagRunBulkTriggerResult> byKey = new LinkedHashMap<>();
+        dispatched.forEach(result -> byKey.put(result.getIdempotencyKey(), result));
+
+        List<DagRunBulkTriggerResult> results = items.stream()
+            .map(item -> {
+                DagRunBulkTriggerResult result = byKey.get(item.getIdempotencyKey());
+                if (result != null) {
+                    return result;
+                }
+                DagRunTriggerKey previous = existing.get(item.getIdempotencyKey());
+                if (previous != null && !item.getDagId().equals(previous.getDagId())) {
+                    return DagRunBulkTriggerResult.builder()
+                        .idempotencyKey(item.getIdempotencyKey())
+                        .dagId(item.getDagId())
+                        .outcome(Outcome.FAILED)
+                        .error("idempotency_key was already used for DAG " + previous.getDagId())
+                        .build();
+                }
+                boolean done = previous != null && DagRunTriggerKey.Status.TRIGGERED.name().equals(previous.getStatus());
+                return DagRunBulkTriggerResult.builder()
+                    .idempotencyKey(item.getIdempotencyKey())
+                    .dagId(item.getDagId())
+                    .outcome(done ? Outcome.DUPLICATE : Outcome.IN_PROGRESS)
+                    .dagRunId(previous != null ? previous.getDagRunId() : null)
+                    .build();
+            })
+            .collect(Collectors.toList());
+
+        return new DagRunBulkTriggerResponse(
+            results,
+            (int) results.stream().filter(result -> result.getOutcome() == Outcome.TRIGGERED).count(),
+            (int) results.stream().filter(result -> result.getOutcome() == Outcome.DUPLICATE
+                || result.getOutcome() == Outcome.IN_PROGRESS).count(),
+            (int) results.stream().filter(result -> result.getOutcome() == Outcome.FAILED).count());
+    }
+
+    private Mono<String> getCurrentUsername() {
+        return ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .filter(Objects::nonNull)
+            .map(Authentication::getName)
+            .defaultIfEmpty(UNKNOWN_USER);
+    }
+}
@@ -1,20 +1,31 @@
 package com.yigit.airflow_spring_rest_controller.service;
 
 import com.yigit.airflow_spring_rest_controller.dto.dag.Dag;
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagBulkUpdate;
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagBulkUpdateResponse;
+import com.yigit.airflow_spring_rest_controller.dto.dag.DagBulkUpdateResult;
 import com.yigit.airflow_spring_rest_controller.dto.dag.DagCollection;
 import com.yigit.airflow_spring_rest_controller.dto.dag.DagDetail;
 import com.yigit.airflow_spring_rest_controller.dto.dag.DagUpdate;
 import com.yigit.airflow_spring_rest_controller.dto.task.TaskCollection;
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog;
 import com.yigit.airflow_spring_rest_controller.entity.DagActionLog.ActionType;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
 import com.yigit.airflow_spring_rest_controller.util.WebClientUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Service for interacting with Airflow DAGs
@@ -29,6 +40,13 @@ public class DagService {
     
     private static final String DAG_BASE_PATH = "/dags";
     private static final String DAG_RESOURCE_NAME = "DAG";
+    private static final String IS_PAUSED_UPDATE_MASK = "is_paused";
+    
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+    
+    @Value("${airflow.api.page-limit}")
+    private int pageLimit;
     
     /**
      * Retrieves a collection of all DAGs
@@ -48,6 +66,94 @@ public class DagService {
             result.getDags() != null ? result.getDags().size() : 0));
     }
 
+    /**
+     * Retrieves a filtered page of DAGs
+     * 
+     * @param isActive Optional active status filter
+     * @param isPaused Optional paused status filter
+     * @param search Optional case-insensitive search term matched against ID and description
+     * @param page Page number (0-based)
+     * @param size Page size
+     * @return A Mono containing the requested page and the total number of matching DAGs
+     */
+    public Mono<DagCollection> getDags(Boolean isActive, Boolean isPaused, String search, int page, int size) {
+        return getDags()
+            .map(dagCollection -> {
+                List<Dag> filteredDags = dagCollection.getDags().stream()
+                    .filter(dag -> isActive == null || dag.getIsActive() == isActive)
+                    .filter(dag -> isPaused == null || dag.getIsPaused() == isPaused)
+                    .filter(dag -> search == null || 
+                        dag.getDagId().toLowerCase().contains(search.toLowerCase()) || 
+                        (dag.getDescription() != null && dag.getDescription().toLowerCase().contains(search.toLowerCase())))
+                    .collect(Collectors.toList());
+
+                int totalElements = filteredDags.size();
+                int fromIndex = page * size;
+                int toIndex = Math.min(fromIndex + size, totalElements);
+
+                DagCollection paginatedCollection = new DagCollection();
+                paginatedCollection.setDags(fromIndex < totalElements ? 
+                    filteredDags.subList(fromIndex, toIndex) : 
+                    new ArrayList<>());
+                paginatedCollection.setTotalEntries(totalElements);
+                return paginatedCollection;
+            });
+    }
+
+    /**
+     * Streams all DAGs page by page as the pages arrive from Airflow.
+     * The next page is only requested once the previous one is being consumed, so a slow client
+     * holds back upstream fetches, and cancelling the stream cancels the in-flight page request.
+     * 
+     * @param isActive Optional active status filter
+     * @param isPaused Optional paused status filter
+     * @param search Optional DAG ID pattern, passed to Airflow as dag_id_pattern
+     * @return A Flux emitting the DAGs in Airflow's order
+     */
+    public Flux<Dag> streamDags(Boolean isActive, Boolean isPaused, String search) {
+        log.info("Streaming DAGs, isActive: {}, isPaused: {}, search: {}", isActive, isPaused, search);
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("limit", String.valueOf(pageLimit));
+        queryParams.put("only_active", String.valueOf(isActive == null || isActive));
+        if (isPaused != null) {
+            queryParams.put("paused", String.valueOf(isPaused));
+        }
+        if (search != null && !search.isEmpty()) {
+            queryParams.put("dag_id_pattern", search);
+        }
+        
+        return Flux.range(0, Integer.MAX_VALUE)
+            .concatMap(page -> getDagsPage(queryParams, page * pageLimit), 1)
+            .takeUntil(page -> page.isLast(pageLimit))
+            .concatMapIterable(DagPage::dags, 1)
+            .filter(dag -> isActive == null || isActive || !Boolean.TRUE.equals(dag.getIsActive()))
+            .doOnComplete(() -> log.info("Completed streaming DAGs"))
+            .doOnCancel(() -> log.info("DAG stream cancelled by client"));
+    }
+    
+    private Mono<DagPage> getDagsPage(Map<String, String> queryParams, int offset) {
+        Map<String, String> pageParams = new HashMap<>(queryParams);
+        pageParams.put("offset", String.valueOf(offset));
+        log.debug("Retrieving DAG page at offset: {}", offset);
+        return WebClientUtil.get(
+            airflowWebClient, 
+            DAG_BASE_PATH, 
+            Collections.emptyMap(), 
+            pageParams, 
+            DagCollection.class,
+            DAG_RESOURCE_NAME
+        ).map(collection -> new DagPage(
+            offset, 
+            collection.getDags() != null ? collection.getDags() : Collections.emptyList(), 
+            collection.getTotalEntries()));
+    }
+    
+    private record DagPage(int offset, List<Dag> dags, Integer totalEntries) {
+        boolean isLast(int limit) {
+            return dags.size() < limit || (totalEntries != null && offset + dags.size() >= totalEntries);
+        }
+    }
+
     /**
      * Retrieves a specific DAG by ID
      * 
@@ -107,6 +213,116 @@ public class DagService {
             .thenReturn(dag);
     }
 
+    /**
+     * Pauses or unpauses several DAGs at once.
+     * A dag_id_pattern is applied with multi-DAG PATCHes, one page of matching DAGs at a time until the total is
+     * covered; an explicit list of IDs is updated with bounded concurrency. All audit entries are written with
+     * one multi-row insert.
+     * 
+     * @param bulkUpdate The DAGs to update and the requested paused state
+     * @return A Mono containing the result for each DAG
+     */
+    public Mono<DagBulkUpdateResponse> updateDags(DagBulkUpdate bulkUpdate) {
+        boolean hasIds = bulkUpdate.getDagIds() != null && !bulkUpdate.getDagIds().isEmpty();
+        boolean hasPattern = bulkUpdate.getDagIdPattern() != null && !bulkUpdate.getDagIdPattern().isBlank();
+        if (bulkUpdate.getIsPaused() == null) {
+            return Mono.error(new AirflowBadRequestException("is_paused is required"));
+        }
+        if (hasIds == hasPattern) {
+            return Mono.error(new AirflowBadRequestException("Provide either dag_ids or dag_id_pattern"));
+        }
+        
+        DagUpdate dagUpdate = new DagUpdate();
+        dagUpdate.setIsPaused(bulkUpdate.getIsPaused());
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("update_mask", IS_PAUSED_UPDATE_MASK);
+        
+        Mono<List<DagBulkUpdateResult>> results;
+        if (hasPattern) {
+            log.info("Bulk updating DAGs matching pattern: {}, update: {}", bulkUpdate.getDagIdPattern(), dagUpdate);
+            queryParams.put("dag_id_pattern", bulkUpdate.getDagIdPattern());
+            queryParams.put("limit", String.valueOf(pageLimit));
+            // Airflow updates one page of matches per PATCH; matching does not depend on is_paused, so offsets are stable
+            results = Flux.range(0, Integer.MAX_VALUE)
+                .concatMap(page -> patchDagsPage(queryParams, dagUpdate, page * pageLimit), 1)
+                .takeUntil(page -> page.isLast(pageLimit))
+                .concatMapIterable(DagPage::dags, 1)
+                .map(dag -> DagBulkUpdateResult.builder()
+                    .dagId(dag.getDagId())
+                    .success(true)
+                    .isPaused(dag.getIsPaused())
+                    .build())
+                .collectList();
+        } else {
+            log.info("Bulk updating {} DAGs, update: {}", bulkUpdate.getDagIds().size(), dagUpdate);
+            results = Flux.fromIterable(bulkUpdate.getDagIds())
+                .distinct()
+                .flatMapSequential(dagId -> WebClientUtil.patch(
+                        airflowWebClient, 
+                        DAG_BASE_PATH + "/{dagId}", 
+                        Collections.singletonMap("dagId", dagId), 
+                        queryParams, 
+                        dagUpdate, 
+                        Dag.class,
+                        DAG_RESOURCE_NAME
+                    )
+                    .map(dag -> DagBulkUpdateResult.builder()
+                        .dagId(dagId)
+                        .success(true)
+                        .isPaused(dag.getIsPaused())
+                        .build())
+                    .onErrorResume(e -> Mono.just(DagBulkUpdateResult.builder()
+                        .dagId(dagId)
+                        .success(false)
+                        .error(e.getMessage())
+                        .build())), maxConcurrency)
+                .collectList();
+        }
+        
+        return results.flatMap(list -> logBulkDagActions(list, dagUpdate)
+            .thenReturn(new DagBulkUpdateResponse(
+                list,
+                (int) list.stream().filter(DagBulkUpdateResult::getSuccess).count(),
+                (int) list.stream().filter(result -> !result.getSuccess()).count())))
+            .doOnSuccess(response -> log.info("Bulk DAG update finished, succeeded: {}, failed: {}", 
+                response.getSucceeded(), response.getFailed()));
+    }
+    
+    private Mono<DagPage> patchDagsPage(Map<String, String> queryParams, DagUpdate dagUpdate, int offset) {
+        Map<String, String> pageParams = new HashMap<>(queryParams);
+        pageParams.put("offset", String.valueOf(offset));
+        return WebClientUtil.patch(
+            airflowWebClient,
+            DAG_BASE_PATH,
+            null,
+            pageParams,
+            dagUpdate,
+            DagCollection.class,
+            DAG_RESOURCE_NAME
+        ).map(collection -> new DagPage(
+            offset,
+            collection.getDags() != null ? collection.getDags() : Collections.emptyList(),
+            collection.getTotalEntries()));
+    }
+
+    /**
+     * Writes one audit entry per DAG of a bulk update in a single batch
+     */
+    private Mono<Void> logBulkDagActions(List<DagBulkUpdateResult> results, DagUpdate dagUpdate) {
+        ActionType actionType = dagUpdate.getIsPaused() ? ActionType.PAUSED : ActionType.UNPAUSED;
+        String actionDetails = dagUpdate.getIsPaused() ? "DAG paused (bulk)" : "DAG unpaused (bulk)";
+        
+        List<DagActionLog> entries = results.stream()
+            .map(result -> DagActionLog.builder()
+                .dagId(result.getDagId())
+                .actionType(actionType.getValue())
+                .actionDetails(result.getSuccess() ? actionDetails : actionDetails + " failed: " + result.getError())
+                .success(result.getSuccess())
+                .build())
+            .collect(Collectors.toList());
+        return dagActionLogService.logDagActions(entries);
+    }
+
     /**
      * Deletes a specific DAG
      * 
@@ -0,0 +1,381 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.config.AirflowServiceAccount;
+import com.yigit.airflow_spring_rest_controller.dto.dag.Dag;
+import com.yigit.airflow_spring_rest_controller.dto.dataset.DagLineage;
+import com.yigit.airflow_spring_rest_controller.dto.dataset.DagScheduleDatasetReference;
+import com.yigit.airflow_spring_rest_controller.dto.dataset.Dataset;
+import com.yigit.airflow_spring_rest_controller.dto.dataset.DatasetCollection;
+import com.yigit.airflow_spring_rest_controller.dto.dataset.DatasetUsage;
+import com.yigit.airflow_spring_rest_controller.dto.dataset.TaskOutletDatasetReference;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowResourceNotFoundException;
+import com.yigit.airflow_spring_rest_controller.util.PagingUtil;
+import com.yigit.airflow_spring_rest_controller.util.WebClientUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * Service maintaining an in-memory, catalog-wide dataset lineage graph: which DAGs produce and which consume each dataset.
+ * The index is refreshed at most once per refresh interval, and only DAGs whose file_token changed are re-read.
+ * Transitive upstream/downstream closures are memoized until the next change of the index.
+ * <p>
+ * The index is built with the service account, so that it does not depend on who triggered a refresh, and answers
+ * are limited to the DAGs the caller can list in Airflow.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DatasetLineageService {
+
+    public static final String UPSTREAM = "upstream";
+    public static final String DOWNSTREAM = "downstream";
+
+    private static final String DATASET_PATH = "/datasets";
+    private static final String DATASET_RESOURCE_NAME = "Dataset";
+
+    private final WebClient airflowWebClient;
+    private final DagService dagService;
+    private final AirflowServiceAccount serviceAccount;
+
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+
+    @Value("${airflow.api.page-limit}")
+    private int pageLimit;
+
+    @Value("${airflow.lineage.refresh-interval}")
+    private Duration refreshInterval;
+
+    private volatile LineageIndex index = LineageIndex.empty();
+    private volatile Instant lastRefresh = Instant.EPOCH;
+    private final AtomicReference<Mono<LineageIndex>> refreshInProgress = new AtomicReference<>();
+
+    /**
+     * Retrieves the DAGs connected to a DAG through datasets
+     *
+     * @param dagId The DAG identifier
+     * @param direction Either {@code upstream} (DAGs producing datasets this DAG consumes) or {@code downstream}
+     * @param transitive Whether to follow the dependencies transitively
+     * @return A Mono containing the connected DAGs and the datasets involved
+     */
+    public Mono<DagLineage> getDagLineage(String dagId, String direction, boolean transitive) {
+        if (!UPSTREAM.equals(direction) && !DOWNSTREAM.equals(direction)) {
+            return Mono.error(new AirflowBadRequestException("Direction must be 'upstream' or 'downstream'"));
+        }
+        log.info("Retrieving {} dataset lineage for DAG: {}, transitive: {}", direction, dagId, transitive);
+        return Mono.zip(currentIndex(), visibleDagIds())
+            .map(parts -> {
+                LineageIndex lineage = parts.getT1();
+                Set<String> visible = parts.getT2();
+                if (!visible.contains(dagId) || !lineage.fileTokens().containsKey(dagId)) {
+                    throw new AirflowResourceNotFoundException("DAG not found");
+                }
+                boolean upstream = UPSTREAM.equals(direction);
+                Set<String> dagIds = (transitive ? lineage.closure(dagId, upstream) : lineage.neighbours(dagId, upstream))
+                    .stream()
+                    .filter(visible::contains)
+                    .collect(Collectors.toSet());
+
+                Map<String, Set<String>> datasetsByDag = upstream ? lineage.consumes() : lineage.produces();
+                Set<String> datasetUris = new TreeSet<>(datasetsByDag.getOrDefault(dagId, Collections.emptySet()));
+                if (transitive) {
+                    dagIds.forEach(connected -> datasetUris.addAll(datasetsByDag.getOrDefault(connected, Collections.emptySet())));
+                }
+
+                return DagLineage.builder()
+                    .dagId(dagId)
+                    .direction(direction)
+                    .transitive(transitive)
+                    .dagIds(dagIds.stream().sorted().collect(Collectors.toList()))
+                    .datasetUris(List.copyOf(datasetUris))
+                    .build();
+            });
+    }
+
+    /**
+     * Retrieves the DAGs producing and consuming a dataset
+     *
+     * @param uri The dataset URI
+     * @return A Mono containing the producers and consumers of the dataset
+     */
+    public Mono<DatasetUsage> getDatasetUsage(String uri) {
+        log.info("Retrieving dataset usage for URI: {}", uri);
+        return Mono.zip(currentIndex(), visibleDagIds())
+            .map(parts -> {
+                Set<String> visible = parts.getT2();
+                List<String> producers = parts.getT1().producersByUri().getOrDefault(uri, Collections.emptySet()).stream()
+                    .filter(visible::contains)
+                    .sorted()
+                    .collect(Collectors.toList());
+                List<String> consumers = parts.getT1().consumersByUri().getOrDefault(uri, Collections.emptySet()).stream()
+                    .filter(visible::contains)
+                    .sorted()
+                    .collect(Collectors.toList());
+                if (producers.isEmpty() && consumers.isEmpty()) {
+                    throw new AirflowResourceNotFoundException("Dataset not found");
+                }
+                return DatasetUsage.builder()
+                    .uri(uri)
+                    .producerDagIds(producers)
+                    .consumerDagIds(consumers)
+                    .build();
+            });
+    }
+
+    /**
+     * Returns the current index, refreshing it first when the refresh interval has elapsed.
+     * Concurrent callers share a single refresh, which runs with the service account rather than the caller's
+     * credentials. A failed refresh keeps serving the previous index and is not retried before the next interval.
+     */
+    private Mono<LineageIndex> currentIndex() {
+        if (!serviceAccount.isConfigured()) {
+            return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Dataset lineage is not available; no Airflow service account is configured"));
+        }
+        if (Instant.now().isBefore(lastRefresh.plus(refreshInterval))) {
+            return Mono.just(index);
+        }
+        Mono<LineageIndex> refresh = refreshIndex()
+            .contextWrite(ReactiveSecurityContextHolder.clearContext())
+            .onErrorResume(e -> {
+                log.warn("Dataset lineage refresh failed, serving previous index: {}", e.getMessage());
+                lastRefresh = Instant.now();
+                return Mono.just(index);
+            })
+            .doFinally(signal -> refreshInProgress.set(null))
+            .cache();
+        return refreshInProgress.compareAndSet(null, refresh) ? refresh :
+            Optional.ofNullable(refreshInProgress.get()).orElseGet(() -> Mono.just(index));
+    }
+
+    /**
+     * Lists the DAGs the current user can see, with the user's credentials
+     */
+    private Mono<Set<String>> visibleDagIds() {
+        return dagService.streamDags(null, null, null)
+            .map(Dag::getDagId)
+            .collect(Collectors.toSet());
+    }
+
+    private Mono<LineageIndex> refreshIndex() {
+        LineageIndex previous = index;
+        return dagService.streamDags(null, null, null)
+            .collectMap(Dag::getDagId, dag -> Objects.toString(dag.getFileToken(), ""))
+            .flatMap(fileTokens -> {
+                Set<String> changed = fileTokens.entrySet().stream()
+                    .filter(entry -> !entry.getValue().equals(previous.fileTokens().get(entry.getKey())))
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toSet());
+                boolean removed = !fileTokens.keySet().containsAll(previous.fileTokens().keySet());
+                if (changed.isEmpty() && !removed) {
+                    log.debug("Dataset lineage index is up to date, {} DAGs", fileTokens.size());
+                    return Mono.just(previous);
+                }
+
+                log.info("Refreshing dataset lineage for {} changed DAGs, removed DAGs: {}", changed.size(), removed);
+                return Mono.zip(fetchDatasetCatalog(changed), fetchConsumedDatasets(changed))
+                    .map(parts -> previous.update(fileTokens, changed, parts.getT1(), parts.getT2()));
+            })
+            .doOnSuccess(updated -> {
+                index = updated;
+                lastRefresh = Instant.now();
+                log.info("Dataset lineage index refreshed, DAGs: {}, datasets: {}",
+                    updated.fileTokens().size(), updated.datasetCount());
+            });
+    }
+
+    /**
+     * Reads the consumed datasets of changed DAGs from the dataset_expression of their details.
+     * DAGs whose details do not carry an expression (Airflow before 2.9) are absent from the result.
+     */
+    private Mono<Map<String, Set<String>>> fetchConsumedDatasets(Set<String> dagIds) {
+        return Flux.fromIterable(dagIds)
+            .flatMap(dagId -> dagService.getDagDetails(dagId)
+                .filter(details -> details.getDatasetExpression() != null)
+                .map(details -> {
+                    Set<String> uris = new HashSet<>();
+                    collectDatasetUris(details.getDatasetExpression(), uris);
+                    return Map.entry(dagId, uris);
+                })
+                .onErrorResume(e -> {
+                    log.warn("Could not read dataset expression of DAG: {}, error: {}", dagId, e.getMessage());
+                    return Mono.empty();
+                }), maxConcurrency)
+            .collectMap(Map.Entry::getKey, Map.Entry::getValue);
+    }
+
+    /**
+     * Reads the dataset catalog, which is the only source of producer (task outlet) references
+     * and the fallback source of consumer references
+     */
+    private Mono<DatasetCatalog> fetchDatasetCatalog(Set<String> dagIds) {
+        if (dagIds.isEmpty()) {
+            return Mono.just(new DatasetCatalog(Collections.emptyMap(), Collections.emptyMap()));
+        }
+        return PagingUtil.allPages(this::getDatasetsPage, DatasetCollection::getTotalEntries, pageLimit, maxConcurrency)
+            .flatMapIterable(page -> page.getDatasets() != null ? page.getDatasets() : Collections.<Dataset>emptyList())
+            .collectList()
+            .map(datasets -> {
+                Map<String, Set<String>> produced = new HashMap<>();
+                Map<String, Set<String>> consumed = new HashMap<>();
+                for (Dataset dataset : datasets) {
+                    if (dataset.getProducingTasks() != null) {
+                        dataset.getProducingTasks().stream()
+                            .map(TaskOutletDatasetReference::getDagId)
+                            .filter(dagIds::contains)
+                            .forEach(dagId -> produced.computeIfAbsent(dagId, id -> new HashSet<>()).add(dataset.getUri()));
+                    }
+                    if (dataset.getConsumingDags() != null) {
+                        dataset.getConsumingDags().stream()
+                            .map(DagScheduleDatasetReference::getDagId)
+                            .filter(dagIds::contains)
+                            .forEach(dagId -> consumed.computeIfAbsent(dagId, id -> new HashSet<>()).add(dataset.getUri()));
+                    }
+                }
+                return new DatasetCatalog(produced, consumed);
+            });
+    }
+
+    private Mono<DatasetCollection> getDatasetsPage(int offset) {
+        Map<String, String> queryParams = new HashMap<>();
+        queryParams.put("limit", String.valueOf(pageLimit));
+        queryParams.put("offset", String.valueOf(offset));
+        return WebClientUtil.get(
+            airflowWebClient,
+            DATASET_PATH,
+            Collections.emptyMap(),
+            queryParams,
+            DatasetCollection.class,
+            DATASET_RESOURCE_NAME
+        );
+    }
+
+    /**
+     * Collects dataset URIs from a dataset_expression such as {"all": ["s3://a", {"any": [...]}]}
+     */
+    private static void collectDatasetUris(Object node, Set<String> uris) {
+        if (node instanceof String uri) {
+            uris.add(uri);
+        } else if (node instanceof Map<?, ?> map) {
+            if (map.get("uri") instanceof String uri) {
+                uris.add(uri);
+                return;
+            }
+            map.forEach((key, value) -> {
+                if (!"alias".equals(key) && !"extra".equals(key)) {
+                    collectDatasetUris(value, uris);
+                }
+            });
+        } else if (node instanceof Collection<?> collection) {
+            collection.forEach(element -> collectDatasetUris(element, uris));
+        }
+    }
+
+    private record DatasetCatalog(Map<String, Set<String>> produced, Map<String, Set<String>> consumed) {
+    }
+
+    /**
+     * Immutable snapshot of the lineage graph; memoized closures live and die with the snapshot
+     */
+    private record LineageIndex(
+            Map<String, String> fileTokens,
+            Map<String, Set<String>> consumes,
+            Map<String, Set<String>> produces,
+            Map<String, Set<String>> producersByUri,
+            Map<String, Set<String>> consumersByUri,
+            Map<String, Set<String>> closures) {
+
+        static LineageIndex empty() {
+            return new LineageIndex(Map.of(), Map.of(), Map.of(), Map.of(), Map.of(), new ConcurrentHashMap<>());
+        }
+
+        LineageIndex update(Map<String, String> newTokens, Set<String> changed,
+                            DatasetCatalog catalog, Map<String, Set<String>> consumedFromDetails) {
+            Map<String, Set<String>> newConsumes = new HashMap<>(consumes);
+            Map<String, Set<String>> newProduces = new HashMap<>(produces);
+            newConsumes.keySet().retainAll(newTokens.keySet());
+            newProduces.keySet().retainAll(newTokens.keySet());
+            for (String dagId : changed) {
+                newConsumes.put(dagId, consumedFromDetails.getOrDefault(dagId,
+                    catalog.consumed().getOrDefault(dagId, Collections.emptySet())));
+                newProduces.put(dagId, catalog.produced().getOrDefault(dagId, Collections.emptySet()));
+            }
+            return new LineageIndex(
+                Map.copyOf(newTokens),
+                newConsumes,
+                newProduces,
+                invert(newProduces),
+                invert(newConsumes),
+                new ConcurrentHashMap<>());
+        }
+
+        int datasetCount() {
+            Set<String> uris = new HashSet<>(producersByUri.keySet());
+            uris.addAll(consumersByUri.keySet());
+            return uris.size();
+        }
+
+        /**
+         * Direct neighbours: producers of the consumed datasets (upstream) or consumers of the produced ones (downstream)
+         */
+        Set<String> neighbours(String dagId, boolean upstream) {
+            Map<String, Set<String>> datasets = upstream ? consumes : produces;
+            Map<String, Set<String>> dagsByUri = upstream ? producersByUri : consumersByUri;
+            Set<String> result = new HashSet<>();
+            for (String uri : datasets.getOrDefault(dagId, Collections.emptySet())) {
+                result.addAll(dagsByUri.getOrDefault(uri, Collections.emptySet()));
+            }
+            result.remove(dagId);
+            return result;
+        }
+
+        Set<String> closure(String dagId, boolean upstream) {
+            return closures.computeIfAbsent((upstream ? UPSTREAM : DOWNSTREAM) + ":" + dagId, key -> {
+                Set<String> visited = new HashSet<>();
+                Deque<String> queue = new ArrayDeque<>(List.of(dagId));
+                while (!queue.isEmpty()) {
+                    for (String next : neighbours(queue.poll(), upstream)) {
+                        if (!next.equals(dagId) && visited.add(next)) {
+                            queue.add(next);
+                        }
+                    }
+                }
+                return Collections.unmodifiableSet(visited);
+            });
+        }
+
+        private static Map<String, Set<String>> invert(Map<String, Set<String>> datasetsByDag) {
+            Map<String, Set<String>> dagsByUri = new HashMap<>();
+            datasetsByDag.forEach((dagId, uris) -> uris.forEach(uri ->
+                dagsByUri.computeIfAbsent(uri, key -> new HashSet<>()).add(dagId)));
+            return dagsByUri;
+        }
+    }
+}
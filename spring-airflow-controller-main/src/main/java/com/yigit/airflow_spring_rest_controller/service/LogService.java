@@ -1,14 +1,28 @@
 package com.yigit.airflow_spring_rest_controller.service;
 
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
 import com.yigit.airflow_spring_rest_controller.util.WebClientUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 /**
  * Service for retrieving logs from Airflow
@@ -19,9 +33,16 @@ import java.util.Map;
 public class LogService {
 
     private final WebClient airflowWebClient;
+    private final TaskInstanceService taskInstanceService;
     
     private static final String LOG_RESOURCE_NAME = "Log";
     
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+
+    @Value("${airflow.log-export.max-logs}")
+    private int maxExportLogs;
+
     /**
      * Retrieves task logs for a specific task instance
      * 
@@ -32,18 +53,36 @@ public class LogService {
      * @return A Mono containing the task logs as string
      */
     public Mono<String> getTaskLogs(String dagId, String dagRunId, String taskId, Integer tryNumber) {
+        return getTaskLogs(dagId, dagRunId, taskId, tryNumber, null);
+    }
+
+    /**
+     * Retrieves task logs for a specific task instance, which may be an instance of a mapped task
+     * 
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @param taskId The task identifier
+     * @param tryNumber The try number
+     * @param mapIndex The map index of a mapped task instance, or null
+     * @return A Mono containing the task logs as string
+     */
+    public Mono<String> getTaskLogs(String dagId, String dagRunId, String taskId, Integer tryNumber, Integer mapIndex) {
         log.info("Retrieving logs for task: {}, run: {}, dag: {}, try: {}", taskId, dagRunId, dagId, tryNumber);
         Map<String, Object> pathVars = new HashMap<>();
         pathVars.put("dagId", dagId);
         pathVars.put("dagRunId", dagRunId);
         pathVars.put("taskId", taskId);
         pathVars.put("tryNumber", tryNumber);
+        Map<String, String> queryParams = new HashMap<>();
+        if (mapIndex != null && mapIndex >= 0) {
+            queryParams.put("map_index", mapIndex.toString());
+        }
         
         return WebClientUtil.get(
             airflowWebClient,
             "/dags/{dagId}/dagRuns/{dagRunId}/taskInstances/{taskId}/logs/{tryNumber}",
             pathVars,
-            null,
+            queryParams,
             String.class,
             LOG_RESOURCE_NAME
         ).doOnSuccess(logs -> {
@@ -52,4 +91,133 @@ public class LogService {
                 taskId, dagRunId, dagId, logSize);
         });
     }
-} 
\ No newline at end of file
+
+    /**
+     * Retrieves the logs of every try of a task instance. Tries are fetched concurrently but emitted in try order,
+     * each preceded by a delimiter line, so the first try is sent as soon as it arrives regardless of slower ones.
+     * Tries whose log cannot be retrieved are reported in place instead of failing the stream.
+     * 
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @param taskId The task identifier
+     * @param mapIndex The map index of a mapped task instance, or null
+     * @return A Flux emitting one chunk per try, in try order
+     */
+    public Flux<String> streamAllTryLogs(String dagId, String dagRunId, String taskId, Integer mapIndex) {
+        Mono<TaskInstance> taskInstance = mapIndex != null && mapIndex >= 0 ?
+            taskInstanceService.getMappedTaskInstance(dagId, dagRunId, taskId, mapIndex) :
+            taskInstanceService.getTaskInstance(dagId, dagRunId, taskId);
+        return taskInstance.flatMapMany(instance -> {
+            int tries = instance.getTryNumber() != null ? Math.max(instance.getTryNumber(), 1) : 1;
+            log.info("Streaming logs of {} tries for task: {}, run: {}, dag: {}", tries, taskId, dagRunId, dagId);
+            return Flux.range(1, tries)
+                .flatMapSequential(tryNumber -> getTaskLogs(dagId, dagRunId, taskId, tryNumber, mapIndex)
+                    .defaultIfEmpty("")
+                    .onErrorResume(e -> Mono.just("Log not available: " + e.getMessage() + "\n"))
+                    .map(logs -> tryDelimiter(tryNumber, tries) + logs + (logs.endsWith("\n") ? "" : "\n")),
+                    maxConcurrency);
+        });
+    }
+
+    /**
+     * Exports the logs of every try of every started task instance of a DAG run as a ZIP archive. Logs are fetched
+     * with bounded concurrency and each is compressed into the archive as soon as it arrives, so only the logs in
+     * flight and one compressed entry are held in memory. Entries are named like Airflow's log folders,
+     * {@code <task_id>[/map_index=<i>]/attempt=<n>.log}; logs that cannot be retrieved get an entry explaining why.
+     * 
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @return A Mono containing the archive's byte stream once the run's task instances are known
+     */
+    public Mono<Flux<DataBuffer>> exportRunLogs(String dagId, String dagRunId) {
+        return taskInstanceService.getAllTaskInstances(dagId, dagRunId)
+            .flatMap(taskInstances -> {
+                List<LogEntry> entries = new ArrayList<>();
+                for (TaskInstance instance : taskInstances) {
+                    if (instance.getStartDate() == null) {
+                        continue;
+                    }
+                    int tries = instance.getTryNumber() != null ? Math.max(instance.getTryNumber(), 1) : 1;
+                    for (int tryNumber = 1; tryNumber <= tries; tryNumber++) {
+                        entries.add(new LogEntry(instance.getTaskId(), instance.getMapIndex(), tryNumber));
+                    }
+                }
+                if (entries.size() > maxExportLogs) {
+                    return Mono.error(new AirflowBadRequestException("DAG run has " + entries.size() +
+                        " logs, at most " + maxExportLogs + " can be exported at once"));
+                }
+                log.info("Exporting {} logs of {} task instances for run: {}, dag: {}",
+                    entries.size(), taskInstances.size(), dagRunId, dagId);
+
+                return Mono.just(Flux.defer(() -> {
+                    ZipChunker zip = new ZipChunker();
+                    return Flux.fromIterable(entries)
+                        .flatMap(entry -> getTaskLogs(dagId, dagRunId, entry.taskId(), entry.tryNumber(), entry.mapIndex())
+                            .defaultIfEmpty("")
+                            .onErrorResume(e -> Mono.just("Log not available: " + e.getMessage() + "\n"))
+                            .map(logs -> new FetchedLog(entry.name(), logs)),
+                            maxConcurrency, 1)
+                        // Entries are written after the merge, one at a time, in arrival order
+                        .map(fetched -> zip.entry(fetched.name(), fetched.content().getBytes(StandardCharsets.UTF_8)))
+                        .concatWith(Mono.fromCallable(zip::finish))
+                        .map(bytes -> (DataBuffer) DefaultDataBufferFactory.sharedInstance.wrap(bytes))
+                        .doOnComplete(() -> log.info("Exported {} logs for run: {}, dag: {}", entries.size(), dagRunId, dagId))
+                        // Releases the Deflater's native memory also when the download is cancelled or fails
+                        .doFinally(signal -> zip.close());
+                }));
+            });
+    }
+
+    private static String tryDelimiter(int tryNumber, int tries) {
+        return "===== Try " + tryNumber + " of " + tries + " =====\n";
+    }
+
+    private record LogEntry(String taskId, Integer mapIndex, int tryNumber) {
+        private String name() {
+            return taskId + (mapIndex != null && mapIndex >= 0 ? "/map_index=" + mapIndex : "") +
+                "/attempt=" + tryNumber + ".log";
+        }
+    }
+
+    private record FetchedLog(String name, String content) {
+    }
+
+    /**
+     * Writes ZIP entries one at a time and hands out the bytes produced by each, so the archive can be streamed
+     * without holding it in memory
+     */
+    private static final class ZipChunker {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final ZipOutputStream zip = new ZipOutputStream(buffer, StandardCharsets.UTF_8);
+
+        private byte[] entry(String name, byte[] content) {
+            try {
+                zip.putNextEntry(new ZipEntry(name));
+                zip.write(content);
+                zip.closeEntry();
+                return drain();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private byte[] finish() throws IOException {
+            zip.finish();
+            return drain();
+        }
+
+        private void close() {
+            try {
+                zip.close();
+            } catch (IOException e) {
+                log.debug("Failed to close log export archive: {}", e.getMessage());
+            }
+        }
+
+        private byte[] drain() {
+            byte[] bytes = buffer.toByteArray();
+            buffer.reset();
+            return bytes;
+        }
+    }
+}
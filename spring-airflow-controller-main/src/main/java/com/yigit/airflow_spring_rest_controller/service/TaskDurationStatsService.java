@@ -0,0 +1,292 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.config.AirflowServiceAccount;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskDurations;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceListRequest;
+import com.yigit.airflow_spring_rest_controller.entity.TaskDurationStats;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowResourceNotFoundException;
+import com.yigit.airflow_spring_rest_controller.repository.TaskDurationStatsRepository;
+import com.yigit.airflow_spring_rest_controller.util.QuantileSketch;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service maintaining duration, retry and failure statistics per (DAG, task).
+ * <p>
+ * A background refresh reads the task instances that reached success or failed since the previous refresh across
+ * all DAGs with the batch task instance query, adds their durations to the task's {@link QuantileSketch} and counts
+ * failures and tries. The changed tasks are stored with one multi-row upsert. Requests are answered from response
+ * objects prepared at refresh time, so they never touch the database; Airflow is only asked whether the caller may
+ * read the DAG, since the statistics are gathered with the service account.
+ * <p>
+ * Next to the sketch each task keeps an exponentially weighted moving average of its successful durations, folded
+ * in end date order, which follows recent behaviour more closely than the quantiles and serves as the duration
+ * estimate for run completion predictions.
+ */
+@Service
+@Slf4j
+public class TaskDurationStatsService extends AbstractDurationStatsService {
+
+    private static final List<String> TERMINAL_STATES = List.of("success", "failed");
+    private static final int HISTOGRAM_BINS = 20;
+
+    private final TaskInstanceService taskInstanceService;
+    private final DagService dagService;
+    private final TaskDurationStatsRepository statsRepository;
+
+    @Value("${airflow.task-stats.ewma-alpha}")
+    private double ewmaAlpha;
+
+    // Stored row and decoded sketch per DAG and task; only touched by the refresh loop
+    private final Map<TaskKey, TaskStats> statsByTask = new HashMap<>();
+    // Prepared responses per DAG, replaced as a whole when one of its tasks changes
+    private final Map<String, List<TaskDurations>> durationsByDag = new ConcurrentHashMap<>();
+    // Duration estimate in seconds per task, per DAG, replaced together with the prepared responses
+    private final Map<String, Map<String, Double>> estimatesByDag = new ConcurrentHashMap<>();
+
+    public TaskDurationStatsService(TaskInstanceService taskInstanceService, DagService dagService,
+                                    TaskDurationStatsRepository statsRepository,
+                                    AirflowServiceAccount serviceAccount, Environment environment) {
+        super(serviceAccount, environment, "airflow.task-stats", "task statistics");
+        this.taskInstanceService = taskInstanceService;
+        this.dagService = dagService;
+        this.statsRepository = statsRepository;
+    }
+
+    /**
+     * Retrieves the statistics of every task of a DAG with finished instances, once the caller's access to the DAG
+     * is confirmed by Airflow
+     *
+     * @param dagId The DAG identifier
+     * @return A Mono containing the statistics, ordered by task ID
+     */
+    public Mono<List<TaskDurations>> getTaskDurations(String dagId) {
+        return dagService.getDag(dagId)
+            .then(Mono.defer(() -> {
+                List<TaskDurations> durations = durationsByDag.get(dagId);
+                if (durations == null) {
+                    return Mono.error(new AirflowResourceNotFoundException("No finished task instances recorded for DAG: " + dagId));
+                }
+                return Mono.just(durations);
+            }));
+    }
+
+    /**
+     * Retrieves the duration estimate of every task of a DAG with finished instances: the moving average of its
+     * successful durations, or the median when none of its instances succeeded
+     *
+     * @param dagId The DAG identifier
+     * @return Estimated seconds per task ID, empty if nothing is recorded for the DAG
+     */
+    public Map<String, Double> getDurationEstimates(String dagId) {
+        return estimatesByDag.getOrDefault(dagId, Map.of());
+    }
+
+    @Override
+    protected Mono<LocalDateTime> loadStats() {
+        return statsRepository.findAll()
+            .doOnNext(stats -> statsByTask.put(new TaskKey(stats.getDagId(), stats.getTaskId()),
+                new TaskStats(stats, QuantileSketch.decode(stats.getSketch()))))
+            .then(Mono.fromCallable(() -> {
+                statsByTask.keySet().stream().map(TaskKey::dagId).distinct().forEach(this::publish);
+                log.info("Loaded statistics of {} tasks", statsByTask.size());
+                return statsByTask.values().stream()
+                    .map(stats -> stats.row.getLastEndDate())
+                    .max(LocalDateTime::compareTo)
+                    .orElse(null);
+            }));
+    }
+
+    /**
+     * Adds the task instances that finished in the range
+     */
+    @Override
+    protected Mono<Void> refresh(LocalDateTime from, LocalDateTime to) {
+        TaskInstanceListRequest request = TaskInstanceListRequest.builder()
+            .state(TERMINAL_STATES)
+            .endDateGte(from.atZone(ZoneOffset.UTC))
+            .endDateLte(to.atZone(ZoneOffset.UTC))
+            .build();
+
+        Map<TaskKey, Batch> batches = new HashMap<>();
+        return taskInstanceService.listAllTaskInstances(request)
+            .doOnNext(instance -> addInstance(batches, instance))
+            .then(Mono.defer(() -> save(batches)))
+            .doOnSuccess(done -> {
+                if (!batches.isEmpty()) {
+                    log.info("Added finished instances of {} tasks to task statistics", batches.size());
+                }
+            });
+    }
+
+    private void addInstance(Map<TaskKey, Batch> batches, TaskInstance instance) {
+        if (instance.getStartDate() == null || instance.getEndDate() == null) {
+            return;
+        }
+        TaskKey key = new TaskKey(instance.getDagId(), instance.getTaskId());
+        LocalDateTime endDate = toUtc(instance.getEndDate());
+        TaskStats stored = statsByTask.get(key);
+        // Instances up to the task's own watermark were added by an earlier refresh
+        if (stored != null && !endDate.isAfter(stored.row.getLastEndDate())) {
+            return;
+        }
+        Batch batch = batches.computeIfAbsent(key, k -> new Batch(newSketch()));
+        double seconds = instance.getDuration() != null ? instance.getDuration() :
+            Duration.between(instance.getStartDate(), instance.getEndDate()).toMillis() / 1000.0;
+        batch.durations.add(seconds);
+        if ("success".equals(instance.getState())) {
+            batch.successes++;
+            batch.successDurations.add(new Sample(endDate, seconds));
+        } else {
+            batch.failures++;
+        }
+        int tries = instance.getTryNumber() != null ? instance.getTryNumber() : 1;
+        if (tries > 1) {
+            batch.retried++;
+            batch.retries += tries - 1;
+        }
+        if (batch.lastEndDate == null || endDate.isAfter(batch.lastEndDate)) {
+            batch.lastEndDate = endDate;
+        }
+    }
+
+    /**
+     * Merges the refresh batches into the stored sketches, upserts the changed rows and republishes their DAGs
+     */
+    private Mono<Void> save(Map<TaskKey, Batch> batches) {
+        if (batches.isEmpty()) {
+            return Mono.empty();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<TaskKey, TaskStats> updated = new HashMap<>();
+        batches.forEach((key, batch) -> {
+            TaskStats stored = statsByTask.get(key);
+            // The moving average survives a restart of the sketch
+            Double ewma = stored != null ? stored.row.getEwmaSeconds() : null;
+            batch.successDurations.sort(Comparator.comparing(Sample::endDate));
+            for (Sample sample : batch.successDurations) {
+                ewma = ewma == null ? sample.seconds() : ewmaAlpha * sample.seconds() + (1 - ewmaAlpha) * ewma;
+            }
+            QuantileSketch sketch = batch.durations;
+            if (stored != null) {
+                // The stored row is decoded again, the cached sketch keeps serving requests until the upsert
+                QuantileSketch merged = mergeStored(stored.row.getSketch(), sketch, "task: " + key.taskId() + ", DAG: " + key.dagId());
+                if (merged != null) {
+                    sketch = merged;
+                } else {
+                    stored = null;
+                }
+            }
+            TaskDurationStats row = TaskDurationStats.builder()
+                .dagId(key.dagId())
+                .taskId(key.taskId())
+                .instanceCount(sketch.getCount())
+                .successCount((stored != null ? stored.row.getSuccessCount() : 0) + batch.successes)
+                .failedCount((stored != null ? stored.row.getFailedCount() : 0) + batch.failures)
+                .retriedCount((stored != null ? stored.row.getRetriedCount() : 0) + batch.retried)
+                .retryCount((stored != null ? stored.row.getRetryCount() : 0) + batch.retries)
+                .p50Seconds(sketch.quantile(0.5))
+                .p95Seconds(sketch.quantile(0.95))
+                .p99Seconds(sketch.quantile(0.99))
+                .ewmaSeconds(ewma)
+                .sketch(sketch.encode())
+                .lastEndDate(batch.lastEndDate)
+                .updatedAt(now)
+                .build();
+            updated.put(key, new TaskStats(row, sketch));
+        });
+
+        return statsRepository.upsertStats(updated.values().stream().map(stats -> stats.row).toList())
+            .then(Mono.fromRunnable(() -> {
+                statsByTask.putAll(updated);
+                updated.keySet().stream().map(TaskKey::dagId).distinct().forEach(this::publish);
+            }));
+    }
+
+    /**
+     * Prepares the responses of a DAG's tasks
+     */
+    private void publish(String dagId) {
+        List<TaskDurations> durations = new ArrayList<>();
+        Map<String, Double> estimates = new HashMap<>();
+        statsByTask.forEach((key, stats) -> {
+            if (key.dagId().equals(dagId)) {
+                durations.add(toDurations(stats));
+                Double estimate = stats.row.getEwmaSeconds() != null ? stats.row.getEwmaSeconds() : stats.row.getP50Seconds();
+                if (estimate != null) {
+                    estimates.put(key.taskId(), estimate);
+                }
+            }
+        });
+        durations.sort(Comparator.comparing(TaskDurations::getTaskId));
+        durationsByDag.put(dagId, List.copyOf(durations));
+        estimatesByDag.put(dagId, Map.copyOf(estimates));
+    }
+
+    private TaskDurations toDurations(TaskStats stats) {
+        TaskDurationStats row = stats.row;
+        QuantileSketch sketch = stats.sketch;
+        long instances = row.getInstanceCount();
+        List<TaskDurations.Bin> histogram = new ArrayList<>();
+        sketch.histogram(HISTOGRAM_BINS).forEach((upper, count) -> histogram.add(new TaskDurations.Bin(upper, count)));
+        return TaskDurations.builder()
+            .dagId(row.getDagId())
+            .taskId(row.getTaskId())
+            .instanceCount(instances)
+            .successCount(row.getSuccessCount())
+            .failedCount(row.getFailedCount())
+            .failureRate(instances > 0 ? (double) row.getFailedCount() / instances : null)
+            .retriedCount(row.getRetriedCount())
+            .retryRate(instances > 0 ? (double) row.getRetriedCount() / instances : null)
+            .meanTries(instances > 0 ? 1 + (double) row.getRetryCount() / instances : null)
+            .meanSeconds(instances > 0 ? sketch.getSum() / instances : null)
+            .minSeconds(sketch.getMin())
+            .maxSeconds(sketch.getMax())
+            .p50Seconds(row.getP50Seconds())
+            .p95Seconds(row.getP95Seconds())
+            .p99Seconds(row.getP99Seconds())
+            .ewmaSeconds(row.getEwmaSeconds())
+            .relativeAccuracy(sketch.getRelativeAccuracy())
+            .histogram(histogram)
+            .lastEndDate(row.getLastEndDate())
+            .updatedAt(row.getUpdatedAt())
+            .build();
+    }
+
+    private record TaskKey(String dagId, String taskId) {
+    }
+
+    private record TaskStats(TaskDurationStats row, QuantileSketch sketch) {
+    }
+
+    private record Sample(LocalDateTime endDate, double seconds) {
+    }
+
+    private static final class Batch {
+        private final QuantileSketch durations;
+        private final List<Sample> successDurations = new ArrayList<>();
+        private long successes;
+        private long failures;
+        private long retried;
+        private long retries;
+        private LocalDateTime lastEndDate;
+
+        private Batch(QuantileSketch durations) {
+            this.durations = durations;
+        }
+    }
+}
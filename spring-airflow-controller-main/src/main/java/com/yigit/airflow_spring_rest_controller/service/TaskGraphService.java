@@ -0,0 +1,69 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskGraph;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowConflictException;
+import com.yigit.airflow_spring_rest_controller.util.TaskGraphBuilder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service providing the static task graph of a DAG.
+ * Graphs are cached per DAG and rebuilt only when the DAG's file_token changes, i.e. when the DAG file was modified.
+ * Tasks containing a dependency cycle are reported as a conflict.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskGraphService {
+
+    private final DagService dagService;
+
+    private final Map<String, CachedGraph> graphs = new ConcurrentHashMap<>();
+
+    /**
+     * Retrieves the task graph of a DAG, building it on the first request for the DAG's current file_token
+     *
+     * @param dagId The DAG identifier
+     * @return A Mono containing the task graph
+     */
+    public Mono<TaskGraph> getTaskGraph(String dagId) {
+        return dagService.getDag(dagId)
+            .flatMap(dag -> getTaskGraph(dagId, dag.getFileToken()));
+    }
+
+    /**
+     * Retrieves the task graph of a DAG for a known file_token
+     *
+     * @param dagId The DAG identifier
+     * @param fileToken The DAG's current file token
+     * @return A Mono containing the task graph
+     */
+    public Mono<TaskGraph> getTaskGraph(String dagId, String fileToken) {
+        // Concurrent requests for the same version share a single build; failed builds are not cached
+        return graphs.compute(dagId, (id, cached) -> {
+            if (cached != null && Objects.equals(cached.fileToken(), fileToken)) {
+                return cached;
+            }
+            log.info("Building task graph for DAG: {}, file token changed: {}", dagId, cached != null);
+            Mono<TaskGraph> graph = dagService.getDagTasks(dagId)
+                .map(tasks -> TaskGraphBuilder.build(dagId, fileToken,
+                    tasks.getTasks() != null ? tasks.getTasks() : Collections.emptyList()))
+                .onErrorMap(IllegalStateException.class, e -> new AirflowConflictException(e.getMessage()))
+                .doOnSuccess(built -> log.info("Built task graph for DAG: {}, tasks: {}, edges: {}, layers: {}",
+                    dagId, built.getTaskIds().size(), built.getEdgeCount(), built.getLayers().length))
+                .cache(built -> Duration.ofMillis(Long.MAX_VALUE), error -> Duration.ZERO, () -> Duration.ZERO);
+            return new CachedGraph(fileToken, graph);
+        }).graph();
+    }
+
+    private record CachedGraph(String fileToken, Mono<TaskGraph> graph) {
+    }
+}
@@ -0,0 +1,204 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceDelta;
+import com.yigit.airflow_spring_rest_controller.util.HashUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Service answering task instance requests of a DAG run with only the instances that changed since the client's
+ * snapshot version.
+ * <p>
+ * A server-side snapshot per run and user keeps a 64-bit hash of each instance's state, try_number and end_date
+ * together with the version at which it last changed. Each refresh fetches the run's instances from Airflow, compares
+ * the hashes and bumps the version once if anything changed. Concurrent requests share one refresh and requests within the
+ * minimum refresh interval are answered from the snapshot. Versions start at the snapshot's creation time in
+ * milliseconds, so versions of an evicted or pre-restart snapshot are recognized and answered with a full list.
+ * Snapshots are not shared between users, since each is fetched with its user's Airflow credentials and would
+ * otherwise serve task instances to users Airflow does not let read them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskInstanceDeltaService {
+
+    private final TaskInstanceService taskInstanceService;
+
+    @Value("${airflow.task-instance-delta.max-runs}")
+    private int maxRuns;
+
+    @Value("${airflow.task-instance-delta.min-refresh}")
+    private Duration minRefresh;
+
+    private final Map<SnapshotKey, RunSnapshot> snapshots = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<SnapshotKey, RunSnapshot> eldest) {
+            return size() > maxRuns;
+        }
+    });
+
+    /**
+     * Retrieves the task instances of a DAG run that changed since the given version
+     *
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @param sinceVersion The version of the client's copy, or null for a full list
+     * @return A Mono containing the changes and the current version
+     */
+    public Mono<TaskInstanceDelta> getDelta(String dagId, String dagRunId, Long sinceVersion) {
+        return getCurrentUsername()
+            .defaultIfEmpty("")
+            .flatMap(username -> {
+                RunSnapshot snapshot = snapshots.computeIfAbsent(new SnapshotKey(username, dagId, dagRunId),
+                    key -> new RunSnapshot(dagId, dagRunId));
+                return snapshot.refresh()
+                    .then(Mono.fromCallable(() -> snapshot.delta(sinceVersion)));
+            });
+    }
+
+    private static Mono<String> getCurrentUsername() {
+        return ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .filter(Objects::nonNull)
+            .map(Authentication::getName);
+    }
+
+    private record SnapshotKey(String username, String dagId, String dagRunId) {
+    }
+
+    private final class RunSnapshot {
+        private final String dagId;
+        private final String dagRunId;
+        private final long baseVersion = System.currentTimeMillis();
+        private final Map<String, Entry> entries = new HashMap<>();
+        private final Map<String, Long> removedAt = new HashMap<>();
+        private long version = baseVersion;
+        private long refreshedNanos;
+        private Mono<Void> inFlight;
+
+        private RunSnapshot(String dagId, String dagRunId) {
+            this.dagId = dagId;
+            this.dagRunId = dagRunId;
+        }
+
+        /**
+         * Refreshes from Airflow unless a refresh is running or the last one is recent enough
+         */
+        private synchronized Mono<Void> refresh() {
+            if (inFlight != null) {
+                return inFlight;
+            }
+            if (refreshedNanos != 0 && System.nanoTime() - refreshedNanos < minRefresh.toNanos()) {
+                return Mono.empty();
+            }
+            Mono<Void> refresh = taskInstanceService.getAllTaskInstances(dagId, dagRunId)
+                .doOnNext(this::apply)
+                .doFinally(signal -> clearInFlight())
+                .then()
+                .cache();
+            inFlight = refresh;
+            return refresh;
+        }
+
+        private synchronized void clearInFlight() {
+            inFlight = null;
+        }
+
+        private synchronized void apply(List<TaskInstance> taskInstances) {
+            long next = version + 1;
+            boolean changed = false;
+            Set<String> present = new HashSet<>(taskInstances.size() * 2);
+            for (TaskInstance instance : taskInstances) {
+                String key = keyOf(instance.getTaskId(), instance.getMapIndex());
+                present.add(key);
+                long hash = hash(instance);
+                Entry entry = entries.get(key);
+                if (entry == null || entry.hash != hash) {
+                    entries.put(key, new Entry(instance, hash, next));
+                    removedAt.remove(key);
+                    changed = true;
+                } else {
+                    entry.instance = instance;
+                }
+            }
+            for (String key : new ArrayList<>(entries.keySet())) {
+                if (!present.contains(key)) {
+                    entries.remove(key);
+                    removedAt.put(key, next);
+                    changed = true;
+                }
+            }
+            if (changed) {
+                version = next;
+                log.debug("Task instance snapshot of DAG run: {}, DAG: {} advanced to version {}", dagRunId, dagId, version);
+            }
+            refreshedNanos = System.nanoTime();
+        }
+
+        private synchronized TaskInstanceDelta delta(Long sinceVersion) {
+            boolean full = sinceVersion == null || sinceVersion < baseVersion || sinceVersion > version;
+            List<TaskInstance> changed = entries.values().stream()
+                .filter(entry -> full || entry.version > sinceVersion)
+                .map(entry -> entry.instance)
+                .toList();
+            List<TaskInstanceDelta.Key> removed = full ? List.of() : removedAt.entrySet().stream()
+                .filter(entry -> entry.getValue() > sinceVersion)
+                .map(entry -> {
+                    int separator = entry.getKey().lastIndexOf('#');
+                    return new TaskInstanceDelta.Key(entry.getKey().substring(0, separator),
+                        Integer.valueOf(entry.getKey().substring(separator + 1)));
+                })
+                .toList();
+            return TaskInstanceDelta.builder()
+                .dagId(dagId)
+                .dagRunId(dagRunId)
+                .version(version)
+                .full(full)
+                .taskInstances(changed)
+                .removed(removed)
+                .build();
+        }
+    }
+
+    private static final class Entry {
+        private TaskInstance instance;
+        private final long hash;
+        private final long version;
+
+        private Entry(TaskInstance instance, long hash, long version) {
+            this.instance = instance;
+            this.hash = hash;
+            this.version = version;
+        }
+    }
+
+    private static String keyOf(String taskId, Integer mapIndex) {
+        return taskId + "#" + (mapIndex != null ? mapIndex : -1);
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the fields whose change is reported to clients
+     */
+    private static long hash(TaskInstance instance) {
+        return HashUtil.fnv1a64(instance.getState() + "|" + instance.getTryNumber() + "|" +
+            (instance.getEndDate() != null ? instance.getEndDate().toInstant() : null));
+    }
+}
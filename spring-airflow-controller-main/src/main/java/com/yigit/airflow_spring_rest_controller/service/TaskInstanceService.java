@@ -1,17 +1,28 @@
 package com.yigit.airflow_spring_rest_controller.service;
 
+import com.yigit.airflow_spring_rest_controller.dto.task.ClearTaskInstances;
+import com.yigit.airflow_spring_rest_controller.dto.task.MappedTaskSummary;
 import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
 import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceCollection;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceListRequest;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceReferenceCollection;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceStateUpdate;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import com.yigit.airflow_spring_rest_controller.util.PagingUtil;
 import com.yigit.airflow_spring_rest_controller.util.WebClientUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 /**
@@ -25,6 +36,19 @@ public class TaskInstanceService {
     private final WebClient airflowWebClient;
     
     private static final String TASK_INSTANCE_RESOURCE_NAME = "Task Instance";
+    private static final String BATCH_LIST_PATH = "/dags/~/dagRuns/~/taskInstances/list";
+    
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+    
+    @Value("${airflow.api.page-limit}")
+    private int pageLimit;
+    
+    @Value("${airflow.task-instance-list.max-entries}")
+    private int maxListEntries;
+    
+    @Value("${airflow.mapped-summary.max-ranges}")
+    private int maxSummaryRanges;
     
     /**
      * Retrieves a specific task instance
@@ -52,6 +76,33 @@ public class TaskInstanceService {
             taskId, task.getState()));
     }
 
+    /**
+     * Retrieves a specific instance of a mapped task
+     *
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @param taskId The task identifier
+     * @param mapIndex The map index of the instance
+     * @return A Mono containing the task instance
+     */
+    public Mono<TaskInstance> getMappedTaskInstance(String dagId, String dagRunId, String taskId, int mapIndex) {
+        log.info("Retrieving mapped task instance: {}[{}], for DAG run: {}, DAG: {}", taskId, mapIndex, dagRunId, dagId);
+        Map<String, Object> pathVars = new HashMap<>();
+        pathVars.put("dagId", dagId);
+        pathVars.put("dagRunId", dagRunId);
+        pathVars.put("taskId", taskId);
+        pathVars.put("mapIndex", mapIndex);
+
+        return WebClientUtil.get(
+            airflowWebClient,
+            "/dags/{dagId}/dagRuns/{dagRunId}/taskInstances/{taskId}/{mapIndex}",
+            pathVars,
+            null,
+            TaskInstance.class,
+            TASK_INSTANCE_RESOURCE_NAME
+        );
+    }
+
     /**
      * Retrieves task instances for a specific DAG run
      * 
@@ -92,4 +143,278 @@ public class TaskInstanceService {
         ).doOnSuccess(tasks -> log.info("Successfully retrieved {} task instances for DAG run: {}, DAG: {}", 
             tasks.getTaskInstances() != null ? tasks.getTaskInstances().size() : 0, dagRunId, dagId));
     }
-} 
\ No newline at end of file
+
+    /**
+     * Retrieves all task instances of a DAG run, including mapped instances.
+     * The first page reveals the total, the remaining pages are fetched concurrently.
+     * 
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @return A Mono containing all task instances of the run
+     */
+    public Mono<List<TaskInstance>> getAllTaskInstances(String dagId, String dagRunId) {
+        return PagingUtil.allPages(offset -> getTaskInstancesPage(dagId, dagRunId, offset),
+                TaskInstanceCollection::getTotalEntries, pageLimit, maxConcurrency)
+            .flatMapIterable(page -> page.getTaskInstances() != null ?
+                page.getTaskInstances() : Collections.<TaskInstance>emptyList())
+            .collectList();
+    }
+    
+    private Mono<TaskInstanceCollection> getTaskInstancesPage(String dagId, String dagRunId, int offset) {
+        Map<String, List<String>> queryParams = new HashMap<>();
+        queryParams.put("limit", List.of(String.valueOf(pageLimit)));
+        queryParams.put("offset", List.of(String.valueOf(offset)));
+        return getTaskInstances(dagId, dagRunId, queryParams);
+    }
+
+    /**
+     * Retrieves mapped instances of a task, passing limit, offset, order_by and filters through to Airflow
+     * 
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @param taskId The task identifier
+     * @param queryParams Optional paging, ordering and filter parameters
+     * @return A Mono containing one page of mapped task instances and their total
+     */
+    public Mono<TaskInstanceCollection> getMappedTaskInstances(
+            String dagId,
+            String dagRunId,
+            String taskId,
+            Map<String, String> queryParams
+    ) {
+        log.info("Retrieving mapped instances of task: {}, DAG run: {}, DAG: {}, filters: {}", taskId, dagRunId, dagId, queryParams);
+        Map<String, Object> pathVars = new HashMap<>();
+        pathVars.put("dagId", dagId);
+        pathVars.put("dagRunId", dagRunId);
+        pathVars.put("taskId", taskId);
+        
+        return WebClientUtil.get(
+            airflowWebClient,
+            "/dags/{dagId}/dagRuns/{dagRunId}/taskInstances/{taskId}/listMapped",
+            pathVars,
+            queryParams,
+            TaskInstanceCollection.class,
+            TASK_INSTANCE_RESOURCE_NAME
+        ).doOnSuccess(tasks -> log.info("Successfully retrieved {} of {} mapped instances of task: {}",
+            tasks.getTaskInstances() != null ? tasks.getTaskInstances().size() : 0, tasks.getTotalEntries(), taskId));
+    }
+
+    /**
+     * Streams all mapped instances of a task matching the filters, in the requested order (map_index by default).
+     * The first page reveals the total, the remaining pages are fetched concurrently and emitted in order,
+     * so only a bounded number of pages is held in memory.
+     * 
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @param taskId The task identifier
+     * @param queryParams Optional ordering and filter parameters; limit and offset are overwritten
+     * @return A Flux of the mapped task instances
+     */
+    public Flux<TaskInstance> streamMappedTaskInstances(
+            String dagId,
+            String dagRunId,
+            String taskId,
+            Map<String, String> queryParams
+    ) {
+        return PagingUtil.allPages(offset -> getMappedTaskInstancesPage(dagId, dagRunId, taskId, queryParams, offset),
+                TaskInstanceCollection::getTotalEntries, pageLimit, maxConcurrency)
+            .flatMapIterable(page -> page.getTaskInstances() != null ?
+                page.getTaskInstances() : Collections.<TaskInstance>emptyList());
+    }
+
+    /**
+     * Counts the states of a mapped task's instances overall and per map_index range, without keeping the instances
+     * 
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @param taskId The task identifier
+     * @param ranges The number of map_index ranges to split the instances into
+     * @return A Mono containing the state counts
+     */
+    public Mono<MappedTaskSummary> getMappedTaskSummary(String dagId, String dagRunId, String taskId, int ranges) {
+        if (ranges < 1 || ranges > maxSummaryRanges) {
+            return Mono.error(new AirflowBadRequestException("ranges must be between 1 and " + maxSummaryRanges));
+        }
+        return getMappedTaskInstancesPage(dagId, dagRunId, taskId, null, 0)
+            .flatMap(first -> {
+                int total = first.getTotalEntries() != null ? first.getTotalEntries() : 0;
+                int rangeSize = Math.max((total + ranges - 1) / ranges, 1);
+                Map<String, Integer> states = new TreeMap<>();
+                TreeMap<Integer, Map<String, Integer>> statesByRange = new TreeMap<>();
+                return PagingUtil.withRemainingPages(first, total,
+                        offset -> getMappedTaskInstancesPage(dagId, dagRunId, taskId, null, offset), pageLimit, maxConcurrency)
+                    .flatMapIterable(page -> page.getTaskInstances() != null ?
+                        page.getTaskInstances() : Collections.<TaskInstance>emptyList())
+                    .doOnNext(instance -> {
+                        String state = instance.getState() != null ? instance.getState() : "none";
+                        int mapIndex = instance.getMapIndex() != null ? Math.max(instance.getMapIndex(), 0) : 0;
+                        states.merge(state, 1, Integer::sum);
+                        statesByRange.computeIfAbsent(mapIndex / rangeSize, range -> new TreeMap<>())
+                            .merge(state, 1, Integer::sum);
+                    })
+                    .then(Mono.fromCallable(() -> MappedTaskSummary.builder()
+                        .dagId(dagId)
+                        .dagRunId(dagRunId)
+                        .taskId(taskId)
+                        .totalInstances(total)
+                        .rangeSize(rangeSize)
+                        .states(states)
+                        .ranges(statesByRange.entrySet().stream()
+                            .map(entry -> MappedTaskSummary.Range.builder()
+                                .fromMapIndex(entry.getKey() * rangeSize)
+                                .toMapIndex((entry.getKey() + 1) * rangeSize - 1)
+                                .states(entry.getValue())
+                                .build())
+                            .toList())
+                        .build()));
+            });
+    }
+
+    private Mono<TaskInstanceCollection> getMappedTaskInstancesPage(
+            String dagId,
+            String dagRunId,
+            String taskId,
+            Map<String, String> queryParams,
+            int offset
+    ) {
+        Map<String, String> pageParams = queryParams != null ? new HashMap<>(queryParams) : new HashMap<>();
+        pageParams.put("limit", String.valueOf(pageLimit));
+        pageParams.put("offset", String.valueOf(offset));
+        return getMappedTaskInstances(dagId, dagRunId, taskId, pageParams);
+    }
+
+    /**
+     * Retrieves one page of task instances across DAGs and runs using Airflow's batch endpoint
+     * 
+     * @param listRequest The filters, page offset and page limit
+     * @return A Mono containing the page and the total number of matches
+     */
+    public Mono<TaskInstanceCollection> listTaskInstances(TaskInstanceListRequest listRequest) {
+        log.info("Retrieving task instances in batch, filters: {}", listRequest);
+        return WebClientUtil.post(
+            airflowWebClient,
+            BATCH_LIST_PATH,
+            null,
+            listRequest,
+            TaskInstanceCollection.class,
+            TASK_INSTANCE_RESOURCE_NAME
+        ).doOnSuccess(result -> log.info("Successfully retrieved {} of {} task instances in batch",
+            result.getTaskInstances() != null ? result.getTaskInstances().size() : 0, result.getTotalEntries()));
+    }
+
+    /**
+     * Retrieves all task instances matching the filters of a batch request.
+     * The first page reveals the total, the remaining pages are fetched concurrently.
+     * 
+     * @param listRequest The filters; page offset and limit are overwritten
+     * @return A Flux of the matching task instances
+     */
+    public Flux<TaskInstance> listAllTaskInstances(TaskInstanceListRequest listRequest) {
+        return PagingUtil.allPages(offset -> listTaskInstancesPage(listRequest, offset),
+                TaskInstanceCollection::getTotalEntries, pageLimit, maxConcurrency)
+            .flatMapIterable(page -> page.getTaskInstances() != null ?
+                page.getTaskInstances() : Collections.<TaskInstance>emptyList());
+    }
+
+    /**
+     * Queries task instances across DAGs and runs. A request with a page limit is answered with that page, fetched
+     * as several Airflow pages when it is larger than Airflow's page limit; otherwise all matches are returned,
+     * fetched from Airflow page by page in parallel.
+     * 
+     * @param listRequest The filters and optional paging
+     * @return A Mono containing the matching task instances and their total
+     * @throws AirflowBadRequestException If the page limit or the number of matches exceeds the configured maximum
+     */
+    public Mono<TaskInstanceCollection> searchTaskInstances(TaskInstanceListRequest listRequest) {
+        if (listRequest.getPageLimit() != null) {
+            if (listRequest.getPageLimit() < 1 || listRequest.getPageLimit() > maxListEntries) {
+                return Mono.error(new AirflowBadRequestException("page_limit must be between 1 and " + maxListEntries));
+            }
+            // Pages larger than Airflow's page limit are fetched as several Airflow pages
+            int start = listRequest.getPageOffset() != null ? Math.max(listRequest.getPageOffset(), 0) : 0;
+            return PagingUtil.window(
+                    (offset, limit) -> listTaskInstances(listRequest.toBuilder().pageOffset(offset).pageLimit(limit).build()),
+                    TaskInstanceCollection::getTotalEntries, TaskInstanceCollection::getTaskInstances,
+                    start, listRequest.getPageLimit(), pageLimit, maxConcurrency)
+                .collectList()
+                .map(pages -> {
+                    TaskInstanceCollection collection = new TaskInstanceCollection();
+                    collection.setTaskInstances(pages.stream()
+                        .filter(page -> page.getTaskInstances() != null)
+                        .flatMap(page -> page.getTaskInstances().stream())
+                        .toList());
+                    collection.setTotalEntries(pages.get(0).getTotalEntries());
+                    return collection;
+                });
+        }
+        return listTaskInstancesPage(listRequest, 0)
+            .flatMap(first -> {
+                int total = first.getTotalEntries() != null ? first.getTotalEntries() : 0;
+                if (total > maxListEntries) {
+                    return Mono.error(new AirflowBadRequestException("The query matches " + total +
+                        " task instances, more than " + maxListEntries + "; narrow the filters or set page_limit"));
+                }
+                return PagingUtil.withRemainingPages(first, total, offset -> listTaskInstancesPage(listRequest, offset),
+                        pageLimit, maxConcurrency)
+                    .flatMapIterable(page -> page.getTaskInstances() != null ?
+                        page.getTaskInstances() : Collections.<TaskInstance>emptyList())
+                    .collectList()
+                    .map(taskInstances -> {
+                        TaskInstanceCollection collection = new TaskInstanceCollection();
+                        collection.setTaskInstances(taskInstances);
+                        collection.setTotalEntries(total);
+                        return collection;
+                    });
+            });
+    }
+
+    private Mono<TaskInstanceCollection> listTaskInstancesPage(TaskInstanceListRequest listRequest, int offset) {
+        return listTaskInstances(listRequest.toBuilder()
+            .pageOffset(offset)
+            .pageLimit(pageLimit)
+            .build());
+    }
+
+    /**
+     * Clears task instances of a DAG, selected by execution date range, run and task filters.
+     * No audit log entry is written; callers audit the operation as a whole.
+     * 
+     * @param dagId The DAG identifier
+     * @param clearRequest The selection of task instances to clear
+     * @return A Mono containing references to the cleared task instances
+     */
+    public Mono<TaskInstanceReferenceCollection> clearTaskInstances(String dagId, ClearTaskInstances clearRequest) {
+        log.info("Clearing task instances of DAG: {}, selection: {}", dagId, clearRequest);
+        return WebClientUtil.post(
+            airflowWebClient,
+            "/dags/{dagId}/clearTaskInstances",
+            Collections.singletonMap("dagId", dagId),
+            clearRequest,
+            TaskInstanceReferenceCollection.class,
+            TASK_INSTANCE_RESOURCE_NAME
+        ).doOnSuccess(cleared -> log.info("Cleared {} task instances of DAG: {}",
+            cleared.getTaskInstances() != null ? cleared.getTaskInstances().size() : 0, dagId));
+    }
+
+    /**
+     * Sets the state of a task instance, optionally including its upstream, downstream, past and future instances.
+     * No audit log entry is written; callers audit the operation.
+     * 
+     * @param dagId The DAG identifier
+     * @param stateUpdate The task, run, new state and scope of the update
+     * @return A Mono containing references to the updated task instances
+     */
+    public Mono<TaskInstanceReferenceCollection> updateTaskInstancesState(String dagId, TaskInstanceStateUpdate stateUpdate) {
+        log.info("Updating state of task: {}, DAG run: {}, DAG: {} to: {}, dry run: {}",
+            stateUpdate.getTaskId(), stateUpdate.getDagRunId(), dagId, stateUpdate.getNewState(), stateUpdate.isDryRun());
+        return WebClientUtil.post(
+            airflowWebClient,
+            "/dags/{dagId}/updateTaskInstancesState",
+            Collections.singletonMap("dagId", dagId),
+            stateUpdate,
+            TaskInstanceReferenceCollection.class,
+            TASK_INSTANCE_RESOURCE_NAME
+        ).doOnSuccess(updated -> log.info("Updated state of {} task instances of DAG: {}",
+            updated.getTaskInstances() != null ? updated.getTaskInstances().size() : 0, dagId));
+    }
+}
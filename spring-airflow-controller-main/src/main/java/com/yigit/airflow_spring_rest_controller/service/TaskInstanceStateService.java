@@ -0,0 +1,220 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceBulkStateUpdate;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceBulkStateUpdateResponse;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceBulkStateUpdateResponse.Result;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceReferenceCollection;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstanceStateUpdate;
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog;
+import com.yigit.airflow_spring_rest_controller.entity.DagActionLog.ActionType;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Service updating task instance states, one at a time or in bulk.
+ * <p>
+ * Bulk items are grouped by DAG and split into batches. Airflow's updateTaskInstancesState takes one task per call,
+ * so the calls of a batch are made one after another while batches run with bounded concurrency. Once a batch is
+ * done its TASK_STATE_CHANGED audit entries are written with one multi-row insert. Dry runs are not audited.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TaskInstanceStateService {
+
+    private static final Set<String> SETTABLE_STATES = Set.of("success", "failed", "skipped");
+
+    private final TaskInstanceService taskInstanceService;
+    private final DagActionLogService dagActionLogService;
+
+    @Value("${airflow.api.max-concurrency}")
+    private int maxConcurrency;
+
+    @Value("${airflow.task-state.max-items}")
+    private int maxItems;
+
+    @Value("${airflow.task-state.batch-size}")
+    private int batchSize;
+
+    /**
+     * Sets the state of a task instance of a DAG run
+     *
+     * @param dagId The DAG identifier
+     * @param dagRunId The DAG run identifier
+     * @param taskId The task identifier
+     * @param stateUpdate The new state and scope of the update
+     * @return A Mono containing references to the updated task instances
+     */
+    public Mono<TaskInstanceReferenceCollection> updateTaskInstanceState(
+            String dagId,
+            String dagRunId,
+            String taskId,
+            TaskInstanceStateUpdate stateUpdate
+    ) {
+        if (!SETTABLE_STATES.contains(stateUpdate.getNewState())) {
+            return Mono.error(new AirflowBadRequestException("new_state must be one of " + SETTABLE_STATES));
+        }
+        TaskInstanceStateUpdate update = stateUpdate.toBuilder()
+            .dagRunId(dagRunId)
+            .taskId(taskId)
+            .executionDate(null)
+            .build();
+        return taskInstanceService.updateTaskInstancesState(dagId, update)
+            .onErrorResume(e -> stateUpdate.isDryRun() ? Mono.error(e) :
+                audit(dagId, dagRunId, "Setting task " + taskId + " to " + stateUpdate.getNewState() + " failed: " +
+                        e.getMessage(), false)
+                    .then(Mono.error(e)))
+            .flatMap(updated -> stateUpdate.isDryRun() ? Mono.just(updated) :
+                audit(dagId, dagRunId, details(taskId, stateUpdate.getNewState(), updated), true)
+                    .thenReturn(updated));
+    }
+
+    /**
+     * Writes the audit entry of a single update. Airflow has already applied or rejected the update at this point,
+     * so a failure to write the entry is logged instead of changing the outcome.
+     */
+    private Mono<Void> audit(String dagId, String dagRunId, String details, boolean success) {
+        return dagActionLogService.logDagAction(dagId, ActionType.TASK_STATE_CHANGED, details, success, dagRunId)
+            .then()
+            .onErrorResume(e -> {
+                log.error("Could not write audit entry for task state update: {}", e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    /**
+     * Sets the states of many task instances across DAGs and runs
+     *
+     * @param bulkUpdate The items to update
+     * @return A Mono containing the outcome of every item, in request order
+     */
+    public Mono<TaskInstanceBulkStateUpdateResponse> updateTaskInstanceStates(TaskInstanceBulkStateUpdate bulkUpdate) {
+        List<TaskInstanceBulkStateUpdate.Item> items = bulkUpdate.getItems();
+        if (items == null || items.isEmpty()) {
+            return Mono.error(new AirflowBadRequestException("items must not be empty"));
+        }
+        if (items.size() > maxItems) {
+            return Mono.error(new AirflowBadRequestException("At most " + maxItems + " task instances can be updated at once"));
+        }
+        for (TaskInstanceBulkStateUpdate.Item item : items) {
+            if (item.getDagId() == null || item.getDagRunId() == null || item.getTaskId() == null) {
+                return Mono.error(new AirflowBadRequestException("dag_id, dag_run_id and task_id are required for every item"));
+            }
+            if (!SETTABLE_STATES.contains(item.getNewState())) {
+                return Mono.error(new AirflowBadRequestException("new_state must be one of " + SETTABLE_STATES));
+            }
+        }
+        boolean dryRun = Boolean.TRUE.equals(bulkUpdate.getDryRun());
+
+        // Batches of item positions, grouped by DAG
+        Map<String, List<Integer>> positionsByDag = new LinkedHashMap<>();
+        for (int position = 0; position < items.size(); position++) {
+            positionsByDag.computeIfAbsent(items.get(position).getDagId(), dagId -> new ArrayList<>()).add(position);
+        }
+        List<List<Integer>> batches = new ArrayList<>();
+        for (List<Integer> positions : positionsByDag.values()) {
+            for (int from = 0; from < positions.size(); from += batchSize) {
+                batches.add(positions.subList(from, Math.min(from + batchSize, positions.size())));
+            }
+        }
+        log.info("Updating {} task instance states in {} batches over {} DAGs, dry run: {}",
+            items.size(), batches.size(), positionsByDag.size(), dryRun);
+
+        Result[] results = new Result[items.size()];
+        return Flux.fromIterable(batches)
+            .flatMap(batch -> Flux.fromIterable(batch)
+                .concatMap(position -> updateItem(items.get(position), dryRun)
+                    .doOnNext(result -> results[position] = result))
+                .collectList()
+                .flatMap(batchResults -> audit(batchResults, dryRun)), maxConcurrency)
+            .then(Mono.fromCallable(() -> {
+                List<Result> ordered = List.of(results);
+                int updated = (int) ordered.stream().filter(Result::isSuccess).count();
+                return TaskInstanceBulkStateUpdateResponse.builder()
+                    .results(ordered)
+                    .dryRun(dryRun)
+                    .updated(updated)
+                    .failed(ordered.size() - updated)
+                    .affectedTaskInstances(ordered.stream().mapToInt(result -> result.getTaskInstances().size()).sum())
+                    .build();
+            }))
+            .doOnSuccess(response -> log.info("Bulk task state update finished, updated: {}, failed: {}",
+                response.getUpdated(), response.getFailed()));
+    }
+
+    private Mono<Result> updateItem(TaskInstanceBulkStateUpdate.Item item, boolean dryRun) {
+        TaskInstanceStateUpdate update = TaskInstanceStateUpdate.builder()
+            .dagRunId(item.getDagRunId())
+            .taskId(item.getTaskId())
+            .newState(item.getNewState())
+            .dryRun(dryRun)
+            .includeUpstream(item.getIncludeUpstream())
+            .includeDownstream(item.getIncludeDownstream())
+            .includeFuture(item.getIncludeFuture())
+            .includePast(item.getIncludePast())
+            .build();
+        Result.ResultBuilder result = Result.builder()
+            .dagId(item.getDagId())
+            .dagRunId(item.getDagRunId())
+            .taskId(item.getTaskId())
+            .newState(item.getNewState());
+        return taskInstanceService.updateTaskInstancesState(item.getDagId(), update)
+            .map(updated -> result
+                .success(true)
+                .taskInstances(updated.getTaskInstances() != null ? updated.getTaskInstances() : Collections.emptyList())
+                .build())
+            .onErrorResume(e -> {
+                log.warn("Could not update state of task: {}, DAG run: {}, DAG: {}, error: {}",
+                    item.getTaskId(), item.getDagRunId(), item.getDagId(), e.getMessage());
+                return Mono.just(result
+                    .success(false)
+                    .error(e.getMessage())
+                    .taskInstances(Collections.emptyList())
+                    .build());
+            });
+    }
+
+    /**
+     * Writes the audit entries of a batch with one insert. The states are already changed at this point,
+     * so audit failures are logged instead of failing the request.
+     */
+    private Mono<Void> audit(List<Result> batchResults, boolean dryRun) {
+        if (dryRun) {
+            return Mono.empty();
+        }
+        List<DagActionLog> entries = batchResults.stream()
+            .map(result -> DagActionLog.builder()
+                .dagId(result.getDagId())
+                .actionType(ActionType.TASK_STATE_CHANGED.getValue())
+                .actionDetails(result.isSuccess() ?
+                    "Task " + result.getTaskId() + " set to " + result.getNewState() + " (bulk): " +
+                        result.getTaskInstances().size() + " task instances updated" :
+                    "Setting task " + result.getTaskId() + " to " + result.getNewState() + " failed (bulk): " + result.getError())
+                .success(result.isSuccess())
+                .runId(result.getDagRunId())
+                .build())
+            .toList();
+        return dagActionLogService.logDagActions(entries)
+            .onErrorResume(e -> {
+                log.error("Could not write audit entries for bulk task state update: {}", e.getMessage());
+                return Mono.empty();
+            });
+    }
+
+    private static String details(String taskId, String newState, TaskInstanceReferenceCollection updated) {
+        return "Task " + taskId + " set to " + newState + ": " +
+            (updated.getTaskInstances() != null ? updated.getTaskInstances().size() : 0) + " task instances updated";
+    }
+}
@@ -0,0 +1,193 @@
+package com.yigit.airflow_spring_rest_controller.util;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunGantt;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskGraph;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds the {@link DagRunGantt} of a DAG Run from its task instances and the DAG's {@link TaskGraph}.
+ * <p>
+ * Mapped instances are merged per task into one interval from the earliest start to the latest end. The critical
+ * path starts at the task that finished last and repeatedly steps to the upstream task that finished last, i.e. the
+ * dependency the task was actually waiting for, until it reaches a task without started upstream tasks.
+ */
+public final class DagRunGanttBuilder {
+
+    private DagRunGanttBuilder() {
+    }
+
+    /**
+     * Builds the Gantt layout and critical path
+     *
+     * @param dagRun The DAG Run
+     * @param taskInstances All task instances of the run
+     * @param graph The DAG's task graph
+     * @param now The end assumed for instances that are still running
+     * @return The Gantt layout
+     */
+    public static DagRunGantt build(DagRun dagRun, List<TaskInstance> taskInstances, TaskGraph graph, ZonedDateTime now) {
+        ZonedDateTime origin = dagRun.getStartDate();
+        for (TaskInstance instance : taskInstances) {
+            origin = earliest(origin, earliest(instance.getQueuedWhen(), instance.getStartDate()));
+        }
+        ZonedDateTime runEnd = dagRun.getEndDate() != null ? dagRun.getEndDate() : now;
+
+        // Interval of each task over all its mapped instances
+        Map<String, ZonedDateTime> taskStarts = new HashMap<>();
+        Map<String, ZonedDateTime> taskEnds = new HashMap<>();
+        Map<String, ZonedDateTime> taskQueued = new HashMap<>();
+        for (TaskInstance instance : taskInstances) {
+            if (instance.getStartDate() == null) {
+                continue;
+            }
+            ZonedDateTime end = instance.getEndDate() != null ? instance.getEndDate() : now;
+            taskStarts.merge(instance.getTaskId(), instance.getStartDate(), DagRunGanttBuilder::earliest);
+            taskEnds.merge(instance.getTaskId(), end, (a, b) -> a.isAfter(b) ? a : b);
+            if (instance.getQueuedWhen() != null) {
+                taskQueued.merge(instance.getTaskId(), instance.getQueuedWhen(), DagRunGanttBuilder::earliest);
+            }
+        }
+
+        List<String> criticalPath = criticalPath(graph, taskEnds);
+        Set<String> critical = new HashSet<>(criticalPath);
+        // Path totals use the merged task intervals, so parallel mapped instances are not counted twice
+        double queueSeconds = 0;
+        double executionSeconds = 0;
+        for (String taskId : criticalPath) {
+            if (taskQueued.containsKey(taskId)) {
+                queueSeconds += Math.max(seconds(taskQueued.get(taskId), taskStarts.get(taskId)), 0);
+            }
+            executionSeconds += seconds(taskStarts.get(taskId), taskEnds.get(taskId));
+        }
+
+        // One row per task, in order of first start; tasks that never started follow in topological order
+        Map<String, Integer> topologicalPosition = new HashMap<>();
+        for (int position = 0; position < graph.getTopologicalOrder().length; position++) {
+            topologicalPosition.put(graph.getTaskIds().get(graph.getTopologicalOrder()[position]), position);
+        }
+        List<String> rowOrder = taskInstances.stream()
+            .map(TaskInstance::getTaskId)
+            .distinct()
+            .sorted(Comparator.comparing((String taskId) -> taskStarts.get(taskId),
+                    Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(taskId -> topologicalPosition.getOrDefault(taskId, Integer.MAX_VALUE))
+                .thenComparing(Comparator.naturalOrder()))
+            .toList();
+        Map<String, Integer> rows = new HashMap<>();
+        for (String taskId : rowOrder) {
+            rows.put(taskId, rows.size());
+        }
+
+        List<DagRunGantt.Bar> bars = new ArrayList<>(taskInstances.size());
+        for (TaskInstance instance : taskInstances) {
+            Double queueWait = instance.getQueuedWhen() != null && instance.getStartDate() != null ?
+                seconds(instance.getQueuedWhen(), instance.getStartDate()) : null;
+            Double execution = instance.getStartDate() != null ?
+                seconds(instance.getStartDate(), instance.getEndDate() != null ? instance.getEndDate() : now) : null;
+            bars.add(DagRunGantt.Bar.builder()
+                .taskId(instance.getTaskId())
+                .mapIndex(instance.getMapIndex())
+                .state(instance.getState())
+                .tryNumber(instance.getTryNumber())
+                .row(rows.get(instance.getTaskId()))
+                .queuedOffsetSeconds(offset(origin, instance.getQueuedWhen()))
+                .startOffsetSeconds(offset(origin, instance.getStartDate()))
+                .endOffsetSeconds(offset(origin, instance.getEndDate()))
+                .queueWaitSeconds(queueWait)
+                .executionSeconds(execution)
+                .critical(critical.contains(instance.getTaskId()))
+                .build());
+        }
+        bars.sort(Comparator.comparing(DagRunGantt.Bar::getRow)
+            .thenComparing(bar -> bar.getMapIndex() != null ? bar.getMapIndex() : -1));
+
+        return DagRunGantt.builder()
+            .dagId(dagRun.getDagId())
+            .dagRunId(dagRun.getDagRunId())
+            .state(dagRun.getState())
+            .origin(origin)
+            .durationSeconds(origin != null ? seconds(origin, runEnd) : null)
+            .criticalPath(criticalPath)
+            .criticalPathQueueSeconds(queueSeconds)
+            .criticalPathExecutionSeconds(executionSeconds)
+            .rowCount(rows.size())
+            .bars(bars)
+            .build();
+    }
+
+    /**
+     * Walks from the task that finished last up through the latest-finishing upstream tasks
+     */
+    private static List<String> criticalPath(TaskGraph graph, Map<String, ZonedDateTime> taskEnds) {
+        List<String> taskIds = graph.getTaskIds();
+        int n = taskIds.size();
+        int[] offsets = graph.getDownstreamOffsets();
+        int[] downstream = graph.getDownstream();
+        List<List<Integer>> upstream = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            upstream.add(new ArrayList<>());
+        }
+        for (int node = 0; node < n; node++) {
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                upstream.get(downstream[e]).add(node);
+            }
+        }
+
+        int current = latest(taskIds, taskEnds, allIndexes(n));
+        List<String> path = new ArrayList<>();
+        while (current >= 0) {
+            path.add(taskIds.get(current));
+            current = latest(taskIds, taskEnds, upstream.get(current));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static int latest(List<String> taskIds, Map<String, ZonedDateTime> taskEnds, List<Integer> candidates) {
+        int latest = -1;
+        ZonedDateTime latestEnd = null;
+        for (int candidate : candidates) {
+            ZonedDateTime end = taskEnds.get(taskIds.get(candidate));
+            if (end != null && (latestEnd == null || end.isAfter(latestEnd))) {
+                latest = candidate;
+                latestEnd = end;
+            }
+        }
+        return latest;
+    }
+
+    private static List<Integer> allIndexes(int n) {
+        List<Integer> indexes = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            indexes.add(i);
+        }
+        return indexes;
+    }
+
+    private static ZonedDateTime earliest(ZonedDateTime a, ZonedDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isBefore(b) ? a : b;
+    }
+
+    private static Double offset(ZonedDateTime origin, ZonedDateTime time) {
+        return origin != null && time != null ? seconds(origin, time) : null;
+    }
+
+    private static double seconds(ZonedDateTime from, ZonedDateTime to) {
+        return Duration.between(from, to).toMillis() / 1000.0;
+    }
+}
@@ -0,0 +1,198 @@
+package com.yigit.airflow_spring_rest_controller.util;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunPrediction;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskGraph;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Predicts when a DAG Run completes from its task instances, the DAG's {@link TaskGraph} and per-task duration
+ * estimates.
+ * <p>
+ * Tasks are visited once in topological order. Finished tasks end at their actual end date. Running tasks end their
+ * estimate after they started, but not before now. Pending tasks start when the last of their upstream tasks is
+ * predicted to end, but not before now, and take their estimate. The run ends with its last task.
+ */
+public final class DagRunPredictor {
+
+    public static final Set<String> TERMINAL_RUN_STATES = Set.of("success", "failed");
+    private static final Set<String> FINISHED_TASK_STATES = Set.of("success", "failed", "skipped", "upstream_failed", "removed");
+    private static final Set<String> RUNNING_TASK_STATES = Set.of("running", "restarting", "deferred");
+
+    private DagRunPredictor() {
+    }
+
+    /**
+     * Predicts the completion of a DAG Run
+     *
+     * @param dagRun The DAG Run
+     * @param taskInstances All task instances of the run
+     * @param graph The DAG's task graph
+     * @param estimates Estimated seconds per task ID; tasks without an estimate are assumed to take no time
+     * @param now The time the prediction is made at
+     * @return The prediction
+     */
+    public static DagRunPrediction predict(
+            DagRun dagRun,
+            List<TaskInstance> taskInstances,
+            TaskGraph graph,
+            Map<String, Double> estimates,
+            ZonedDateTime now
+    ) {
+        Map<String, List<TaskInstance>> instancesByTask = new HashMap<>();
+        for (TaskInstance instance : taskInstances) {
+            instancesByTask.computeIfAbsent(instance.getTaskId(), taskId -> new ArrayList<>()).add(instance);
+        }
+
+        List<String> taskIds = graph.getTaskIds();
+        int n = taskIds.size();
+        int[] offsets = graph.getDownstreamOffsets();
+        int[] downstream = graph.getDownstream();
+        ZonedDateTime[] readyAt = new ZonedDateTime[n];
+        ZonedDateTime[] ends = new ZonedDateTime[n];
+        // Upstream task predicted to end last, i.e. the one each task waits for
+        int[] waitingOn = new int[n];
+        Arrays.fill(waitingOn, -1);
+
+        DagRunPrediction.Task[] tasks = new DagRunPrediction.Task[n];
+        int finished = 0;
+        int running = 0;
+        int pending = 0;
+        int unestimated = 0;
+        for (int node : graph.getTopologicalOrder()) {
+            String taskId = taskIds.get(node);
+            List<TaskInstance> instances = instancesByTask.getOrDefault(taskId, List.of());
+            Double estimate = estimates.get(taskId);
+            double estimateSeconds = estimate != null ? estimate : 0;
+
+            String status;
+            ZonedDateTime start = null;
+            ZonedDateTime end = null;
+            if (!instances.isEmpty() && instances.stream().allMatch(DagRunPredictor::isFinished)) {
+                status = "finished";
+                finished++;
+                for (TaskInstance instance : instances) {
+                    start = earliest(start, instance.getStartDate());
+                    end = latest(end, instance.getEndDate());
+                }
+                if (end == null) {
+                    end = start != null ? start : readyAt[node];
+                }
+            } else if (instances.stream().anyMatch(DagRunPredictor::isRunning)) {
+                status = "running";
+                running++;
+                // Mapped instances run in parallel, so the task ends with its last instance
+                for (TaskInstance instance : instances) {
+                    start = earliest(start, instance.getStartDate());
+                    if (isFinished(instance)) {
+                        end = latest(end, instance.getEndDate());
+                    } else if (isRunning(instance)) {
+                        end = latest(end, latest(plusSeconds(instance.getStartDate(), estimateSeconds), now));
+                    } else {
+                        end = latest(end, plusSeconds(now, estimateSeconds));
+                    }
+                }
+            } else {
+                status = "pending";
+                pending++;
+                start = latest(readyAt[node], now);
+                end = plusSeconds(start, estimateSeconds);
+            }
+            if (estimate == null && !"finished".equals(status)) {
+                unestimated++;
+            }
+            ends[node] = end;
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                int next = downstream[e];
+                if (end != null && (readyAt[next] == null || end.isAfter(readyAt[next]))) {
+                    readyAt[next] = end;
+                    waitingOn[next] = node;
+                }
+            }
+            tasks[node] = DagRunPrediction.Task.builder()
+                .taskId(taskId)
+                .status(status)
+                .estimatedSeconds(estimate)
+                .predictedStartDate(start)
+                .predictedEndDate(end)
+                .build();
+        }
+
+        int last = -1;
+        for (int node = 0; node < n; node++) {
+            if (ends[node] != null && (last < 0 || ends[node].isAfter(ends[last]))) {
+                last = node;
+            }
+        }
+        List<String> criticalPath = new ArrayList<>();
+        for (int node = last; node >= 0; node = waitingOn[node]) {
+            criticalPath.add(taskIds.get(node));
+            tasks[node].setCritical(true);
+        }
+        Collections.reverse(criticalPath);
+
+        boolean done = TERMINAL_RUN_STATES.contains(dagRun.getState()) && dagRun.getEndDate() != null;
+        ZonedDateTime predictedEnd = done ? dagRun.getEndDate() : latest(last >= 0 ? ends[last] : null, now);
+        List<DagRunPrediction.Task> ordered = new ArrayList<>(n);
+        for (int node : graph.getTopologicalOrder()) {
+            ordered.add(tasks[node]);
+        }
+
+        return DagRunPrediction.builder()
+            .dagId(dagRun.getDagId())
+            .dagRunId(dagRun.getDagRunId())
+            .state(dagRun.getState())
+            .predictedEndDate(predictedEnd)
+            .remainingSeconds(done ? 0.0 : Math.max(seconds(now, predictedEnd), 0))
+            .finishedTasks(finished)
+            .runningTasks(running)
+            .pendingTasks(pending)
+            .unestimatedTasks(unestimated)
+            .criticalPath(criticalPath)
+            .tasks(ordered)
+            .computedAt(now)
+            .build();
+    }
+
+    // Instances that were not scheduled yet have no state
+    private static boolean isFinished(TaskInstance instance) {
+        return instance.getState() != null && FINISHED_TASK_STATES.contains(instance.getState());
+    }
+
+    private static boolean isRunning(TaskInstance instance) {
+        return instance.getState() != null && RUNNING_TASK_STATES.contains(instance.getState())
+            && instance.getStartDate() != null;
+    }
+
+    private static ZonedDateTime plusSeconds(ZonedDateTime time, double seconds) {
+        return time.plus(Duration.ofMillis(Math.round(seconds * 1000)));
+    }
+
+    private static ZonedDateTime earliest(ZonedDateTime a, ZonedDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isBefore(b) ? a : b;
+    }
+
+    private static ZonedDateTime latest(ZonedDateTime a, ZonedDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b == null || a.isAfter(b) ? a : b;
+    }
+
+    private static double seconds(ZonedDateTime from, ZonedDateTime to) {
+        return Duration.between(from, to).toMillis() / 1000.0;
+    }
+}
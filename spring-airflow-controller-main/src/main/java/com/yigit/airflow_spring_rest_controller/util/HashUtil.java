@@ -0,0 +1,30 @@
+package com.yigit.airflow_spring_rest_controller.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Cheap, non-cryptographic hashes for detecting changes of cached data
+ */
+public final class HashUtil {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private HashUtil() {
+    }
+
+    /**
+     * 64-bit FNV-1a hash of a string's UTF-8 bytes
+     *
+     * @param value The string to hash
+     * @return The hash
+     */
+    public static long fnv1a64(String value) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
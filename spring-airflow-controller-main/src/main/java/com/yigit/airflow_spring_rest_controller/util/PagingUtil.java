@@ -0,0 +1,99 @@
+package com.yigit.airflow_spring_rest_controller.util;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Reads Airflow listings that span several pages. The first page reveals the total; the remaining pages are then
+ * fetched concurrently and emitted in order, so only a bounded number of pages is held in memory.
+ */
+public final class PagingUtil {
+
+    private PagingUtil() {
+    }
+
+    /**
+     * Fetches every page of a listing
+     *
+     * @param pageAt Fetches the page starting at an offset, with the page limit
+     * @param totalEntries Reads the total number of entries from a page
+     * @param pageLimit The number of entries per page
+     * @param maxConcurrency The number of pages fetched at once
+     * @return A Flux of the pages, in order
+     */
+    public static <P> Flux<P> allPages(IntFunction<Mono<P>> pageAt, Function<P, Integer> totalEntries,
+                                       int pageLimit, int maxConcurrency) {
+        return pageAt.apply(0)
+            .flatMapMany(first -> withRemainingPages(first, total(first, totalEntries), pageAt, pageLimit, maxConcurrency));
+    }
+
+    /**
+     * Emits a first page that was already fetched, followed by the pages after it up to the total
+     *
+     * @param first The page at offset 0
+     * @param total The number of entries to cover, at most the listing's total
+     * @param pageAt Fetches the page starting at an offset, with the page limit
+     * @param pageLimit The number of entries per page
+     * @param maxConcurrency The number of pages fetched at once
+     * @return A Flux of the pages, in order
+     */
+    public static <P> Flux<P> withRemainingPages(P first, int total, IntFunction<Mono<P>> pageAt,
+                                                 int pageLimit, int maxConcurrency) {
+        int pages = (total + pageLimit - 1) / pageLimit;
+        return Flux.concat(
+            Mono.just(first),
+            Flux.range(1, Math.max(pages - 1, 0))
+                .flatMapSequential(page -> pageAt.apply(page * pageLimit), maxConcurrency));
+    }
+
+    /**
+     * Fetches a range of a listing that may be larger than the page limit, as several pages
+     *
+     * @param source Fetches the entries at an offset, up to a limit no larger than the page limit
+     * @param totalEntries Reads the total number of entries from a page
+     * @param entries Reads the entries of a page
+     * @param start The offset of the range
+     * @param size The number of entries in the range
+     * @param pageLimit The number of entries per page
+     * @param maxConcurrency The number of pages fetched at once
+     * @return A Flux of the pages covering the range, in order
+     */
+    public static <P> Flux<P> window(PageSource<P> source, Function<P, Integer> totalEntries,
+                                     Function<P, ? extends Collection<?>> entries,
+                                     int start, int size, int pageLimit, int maxConcurrency) {
+        int firstLimit = Math.min(size, pageLimit);
+        return source.fetch(start, firstLimit)
+            .flatMapMany(first -> {
+                int end = Math.min(start + size, total(first, totalEntries));
+                Collection<?> firstEntries = entries.apply(first);
+                if (end <= start + firstLimit || firstEntries == null || firstEntries.size() < firstLimit) {
+                    return Flux.just(first);
+                }
+                int pages = (end - start - firstLimit + pageLimit - 1) / pageLimit;
+                return Flux.concat(
+                    Mono.just(first),
+                    Flux.range(0, pages)
+                        .flatMapSequential(page -> {
+                            int offset = start + firstLimit + page * pageLimit;
+                            return source.fetch(offset, Math.min(pageLimit, end - offset));
+                        }, maxConcurrency));
+            });
+    }
+
+    private static <P> int total(P page, Function<P, Integer> totalEntries) {
+        Integer total = totalEntries.apply(page);
+        return total != null ? total : 0;
+    }
+
+    /**
+     * One page of a listing
+     */
+    @FunctionalInterface
+    public interface PageSource<P> {
+        Mono<P> fetch(int offset, int limit);
+    }
+}
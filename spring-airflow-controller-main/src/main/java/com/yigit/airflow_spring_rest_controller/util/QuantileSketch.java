@@ -0,0 +1,179 @@
+package com.yigit.airflow_spring_rest_controller.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Mergeable quantile sketch with relative-error guarantees (DDSketch).
+ * <p>
+ * Positive values are counted in logarithmic buckets whose bounds grow by the factor
+ * gamma = (1 + a) / (1 - a), so every reported quantile is within the relative accuracy a of the exact one.
+ * Durations from one millisecond to ten days fit in about a thousand buckets at a = 1%, and two sketches with
+ * the same accuracy merge by adding their bucket counts. Not thread-safe.
+ */
+public final class QuantileSketch {
+
+    private final double relativeAccuracy;
+    private final double logGamma;
+    private final TreeMap<Integer, Long> buckets = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("Relative accuracy must be between 0 and 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.logGamma = Math.log((1 + relativeAccuracy) / (1 - relativeAccuracy));
+    }
+
+    public void add(double value) {
+        if (value <= 0) {
+            zeroCount++;
+        } else {
+            buckets.merge((int) Math.ceil(Math.log(value) / logGamma), 1L, Long::sum);
+        }
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Adds the values counted by another sketch
+     *
+     * @throws IllegalArgumentException If the sketches have different accuracies
+     */
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Cannot merge sketches of different accuracies");
+        }
+        other.buckets.forEach((index, bucketCount) -> buckets.merge(index, bucketCount, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    /**
+     * Estimates the value at the given quantile
+     *
+     * @param quantile The quantile between 0 and 1
+     * @return The estimate, or null if the sketch is empty
+     */
+    public Double quantile(double quantile) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = (long) Math.floor(quantile * (count - 1));
+        if (rank < zeroCount) {
+            return Math.max(min, 0);
+        }
+        long seen = zeroCount;
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                // Midpoint of the bucket in relative terms, clamped to the observed range
+                double estimate = 2 * Math.exp(bucket.getKey() * logGamma) / (1 + Math.exp(logGamma));
+                return Math.min(Math.max(estimate, min), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Coarse histogram: adjacent buckets are merged into at most {@code maxBins} bins of equal logarithmic width
+     *
+     * @return The upper bound of each bin mapped to the number of values in it, in increasing order;
+     * values of zero or less are counted under the bound 0
+     */
+    public Map<Double, Long> histogram(int maxBins) {
+        Map<Double, Long> bins = new LinkedHashMap<>();
+        if (zeroCount > 0) {
+            bins.put(0.0, zeroCount);
+        }
+        if (buckets.isEmpty()) {
+            return bins;
+        }
+        int first = buckets.firstKey();
+        int width = Math.max((buckets.lastKey() - first + maxBins) / Math.max(maxBins, 1), 1);
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            int upperIndex = first + ((bucket.getKey() - first) / width + 1) * width - 1;
+            bins.merge(Math.min(Math.exp(upperIndex * logGamma), max), bucket.getValue(), Long::sum);
+        }
+        return bins;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getSum() {
+        return sum;
+    }
+
+    public Double getMin() {
+        return count > 0 ? min : null;
+    }
+
+    public Double getMax() {
+        return count > 0 ? max : null;
+    }
+
+    public double getRelativeAccuracy() {
+        return relativeAccuracy;
+    }
+
+    /**
+     * Compact text form: accuracy, zero count, sum, min and max, followed by index:count pairs
+     */
+    public String encode() {
+        StringBuilder encoded = new StringBuilder()
+            .append(relativeAccuracy).append(';')
+            .append(zeroCount).append(';')
+            .append(sum).append(';')
+            .append(count > 0 ? min : 0).append(';')
+            .append(count > 0 ? max : 0).append(';');
+        String separator = "";
+        for (Map.Entry<Integer, Long> bucket : buckets.entrySet()) {
+            encoded.append(separator).append(bucket.getKey()).append(':').append(bucket.getValue());
+            separator = ",";
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Reads a sketch written by {@link #encode()}
+     *
+     * @throws IllegalArgumentException If the text is not an encoded sketch
+     */
+    public static QuantileSketch decode(String encoded) {
+        try {
+            String[] parts = encoded.split(";", -1);
+            QuantileSketch sketch = new QuantileSketch(Double.parseDouble(parts[0]));
+            sketch.zeroCount = Long.parseLong(parts[1]);
+            sketch.sum = Double.parseDouble(parts[2]);
+            sketch.count = sketch.zeroCount;
+            if (!parts[5].isEmpty()) {
+                for (String bucket : parts[5].split(",")) {
+                    int colon = bucket.indexOf(':');
+                    long bucketCount = Long.parseLong(bucket.substring(colon + 1));
+                    sketch.buckets.put(Integer.parseInt(bucket.substring(0, colon)), bucketCount);
+                    sketch.count += bucketCount;
+                }
+            }
+            if (sketch.count > 0) {
+                sketch.min = Double.parseDouble(parts[3]);
+                sketch.max = Double.parseDouble(parts[4]);
+            }
+            return sketch;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid quantile sketch: " + encoded, e);
+        }
+    }
+}
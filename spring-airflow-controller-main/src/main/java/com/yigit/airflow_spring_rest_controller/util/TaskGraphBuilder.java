@@ -0,0 +1,181 @@
+package com.yigit.airflow_spring_rest_controller.util;
+
+import com.yigit.airflow_spring_rest_controller.dto.task.Task;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskGraph;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds the compact {@link TaskGraph} of a DAG from the tasks returned by Airflow.
+ * Computes a CSR adjacency, a topological order (Kahn), depth levels (longest path from a root)
+ * and a layered layout whose rows are ordered with a barycenter sweep to reduce edge crossings.
+ */
+public final class TaskGraphBuilder {
+
+    private TaskGraphBuilder() {
+    }
+
+    /**
+     * Builds the task graph
+     * 
+     * @param dagId The DAG identifier
+     * @param fileToken The DAG file token the tasks belong to
+     * @param tasks The DAG's tasks with their downstream_task_ids
+     * @return The graph index
+     * @throws IllegalStateException If the tasks contain a dependency cycle
+     */
+    public static TaskGraph build(String dagId, String fileToken, List<Task> tasks) {
+        int n = tasks.size();
+        List<String> taskIds = new ArrayList<>(n);
+        Map<String, Integer> indexById = new HashMap<>(n * 2);
+        for (Task task : tasks) {
+            indexById.put(task.getTaskId(), taskIds.size());
+            taskIds.add(task.getTaskId());
+        }
+
+        // CSR adjacency, ignoring references to unknown tasks
+        int[] offsets = new int[n + 1];
+        int[] inDegree = new int[n];
+        List<int[]> targetsPerTask = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            List<String> downstreamIds = tasks.get(i).getDownstreamTaskIds();
+            int[] targets = downstreamIds == null ? new int[0] : downstreamIds.stream()
+                .filter(indexById::containsKey)
+                .mapToInt(indexById::get)
+                .distinct()
+                .toArray();
+            targetsPerTask.add(targets);
+            offsets[i + 1] = offsets[i] + targets.length;
+            for (int target : targets) {
+                inDegree[target]++;
+            }
+        }
+        int[] downstream = new int[offsets[n]];
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(targetsPerTask.get(i), 0, downstream, offsets[i], targetsPerTask.get(i).length);
+        }
+
+        // Kahn's algorithm; depth is the longest distance from a root
+        int[] order = new int[n];
+        int[] depths = new int[n];
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (inDegree[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int node = order[head++];
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                int target = downstream[e];
+                depths[target] = Math.max(depths[target], depths[node] + 1);
+                if (--inDegree[target] == 0) {
+                    order[tail++] = target;
+                }
+            }
+        }
+        if (tail != n) {
+            throw new IllegalStateException("Task graph of DAG " + dagId + " contains a dependency cycle");
+        }
+
+        int[][] layers = buildLayers(n, order, depths, offsets, downstream);
+        int[] rows = new int[n];
+        for (int[] layer : layers) {
+            for (int row = 0; row < layer.length; row++) {
+                rows[layer[row]] = row;
+            }
+        }
+
+        return TaskGraph.builder()
+            .dagId(dagId)
+            .fileToken(fileToken)
+            .taskIds(taskIds)
+            .downstreamOffsets(offsets)
+            .downstream(downstream)
+            .topologicalOrder(order)
+            .depths(depths)
+            .rows(rows)
+            .layers(layers)
+            .edgeCount(downstream.length)
+            .build();
+    }
+
+    /**
+     * Groups tasks by depth and orders each layer with one downward and one upward barycenter sweep
+     */
+    private static int[][] buildLayers(int n, int[] order, int[] depths, int[] offsets, int[] downstream) {
+        int layerCount = 0;
+        for (int depth : depths) {
+            layerCount = Math.max(layerCount, depth + 1);
+        }
+        if (n == 0) {
+            return new int[0][];
+        }
+
+        List<List<Integer>> layers = new ArrayList<>(layerCount);
+        for (int i = 0; i < layerCount; i++) {
+            layers.add(new ArrayList<>());
+        }
+        for (int node : order) {
+            layers.get(depths[node]).add(node);
+        }
+
+        // Upstream adjacency for the downward sweep
+        int[] upstreamOffsets = new int[n + 1];
+        for (int e = 0; e < downstream.length; e++) {
+            upstreamOffsets[downstream[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            upstreamOffsets[i + 1] += upstreamOffsets[i];
+        }
+        int[] upstream = new int[downstream.length];
+        int[] fill = Arrays.copyOf(upstreamOffsets, n);
+        for (int node = 0; node < n; node++) {
+            for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                upstream[fill[downstream[e]]++] = node;
+            }
+        }
+
+        double[] rows = new double[n];
+        assignRows(layers.get(0), rows);
+        for (int i = 1; i < layerCount; i++) {
+            sortByBarycenter(layers.get(i), rows, upstreamOffsets, upstream);
+        }
+        for (int i = layerCount - 2; i >= 0; i--) {
+            sortByBarycenter(layers.get(i), rows, offsets, downstream);
+        }
+
+        int[][] result = new int[layerCount][];
+        for (int i = 0; i < layerCount; i++) {
+            result[i] = layers.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return result;
+    }
+
+    private static void sortByBarycenter(List<Integer> layer, double[] rows, int[] adjacencyOffsets, int[] adjacency) {
+        Map<Integer, Double> barycenters = new HashMap<>(layer.size() * 2);
+        for (int position = 0; position < layer.size(); position++) {
+            int node = layer.get(position);
+            int degree = adjacencyOffsets[node + 1] - adjacencyOffsets[node];
+            double sum = 0;
+            for (int e = adjacencyOffsets[node]; e < adjacencyOffsets[node + 1]; e++) {
+                sum += rows[adjacency[e]];
+            }
+            barycenters.put(node, degree == 0 ? rows[node] : sum / degree);
+        }
+        layer.sort(Comparator.comparingDouble(barycenters::get));
+        assignRows(layer, rows);
+    }
+
+    private static void assignRows(List<Integer> layer, double[] rows) {
+        for (int position = 0; position < layer.size(); position++) {
+            rows[layer.get(position)] = position;
+        }
+    }
+}
@@ -192,6 +192,31 @@ public class WebClientUtil {
             Object body,
             Class<T> responseType,
             String resourceName) {
+        return patch(webClient, path, pathVariables, null, body, responseType, resourceName);
+    }
+
+    /**
+     * Execute PATCH request with query parameters and comprehensive error handling
+     * 
+     * @param webClient The WebClient instance to use for the request
+     * @param path The API path to request
+     * @param pathVariables Variables to be substituted in the path
+     * @param queryParams Query parameters to add to the request, such as update_mask
+     * @param body Request body to send
+     * @param responseType The expected response type
+     * @param resourceName Human-readable name of the resource for error messages
+     * @return A Mono containing the response
+     * @throws NullPointerException If any required parameter is null
+     * @throws IllegalArgumentException If path is empty
+     */
+    public static <T> Mono<T> patch(
+            WebClient webClient,
+            String path,
+            Map<String, Object> pathVariables,
+            Map<String, String> queryParams,
+            Object body,
+            Class<T> responseType,
+            String resourceName) {
 
         // Validate required parameters
         Objects.requireNonNull(webClient, "WebClient cannot be null");
@@ -207,11 +232,20 @@ public class WebClientUtil {
         final Map<String, Object> safePathVars = pathVariables != null ? 
                 pathVariables : Collections.emptyMap();
         
-        log.debug("Executing PATCH request to {}, pathVars: {}", path, safePathVars);
+        log.debug("Executing PATCH request to {}, pathVars: {}, queryParams: {}", path, safePathVars, queryParams);
         
         return webClient.patch()
                 .uri(uriBuilder -> {
                     var builder = uriBuilder.path(path);
+                    
+                    if (queryParams != null) {
+                        queryParams.forEach((key, value) -> {
+                            if (value != null) {
+                                builder.queryParam(key, value);
+                            }
+                        });
+                    }
+                    
                     return builder.build(safePathVars);
                 })
                 .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,14 @@
+CREATE TABLE IF NOT EXISTS dag_run_trigger_keys (
+    id SERIAL PRIMARY KEY,
+    idempotency_key VARCHAR(255) NOT NULL,
+    dag_id VARCHAR(255) NOT NULL,
+    username VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    dag_run_id VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_dag_run_trigger_keys_key ON dag_run_trigger_keys (idempotency_key);
+
+CREATE INDEX IF NOT EXISTS ix_dag_run_trigger_keys_expires_at ON dag_run_trigger_keys (expires_at);
@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS dag_run_trigger_queue (
+    id BIGSERIAL PRIMARY KEY,
+    dag_id VARCHAR(255) NOT NULL,
+    dag_run_id VARCHAR(255) NOT NULL,
+    request_body TEXT NOT NULL,
+    username VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    error TEXT,
+    enqueued_at TIMESTAMP NOT NULL,
+    next_attempt_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP,
+    dispatched_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS ix_dag_run_trigger_queue_pending ON dag_run_trigger_queue (id) WHERE status IN ('QUEUED', 'DISPATCHING');
+
+CREATE INDEX IF NOT EXISTS ix_dag_run_trigger_queue_dispatched_at ON dag_run_trigger_queue (dispatched_at);
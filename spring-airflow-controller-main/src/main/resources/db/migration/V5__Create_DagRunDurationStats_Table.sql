@@ -0,0 +1,15 @@
+CREATE TABLE IF NOT EXISTS dag_run_duration_stats (
+    dag_id VARCHAR(255) PRIMARY KEY,
+    run_count BIGINT NOT NULL,
+    success_count BIGINT NOT NULL,
+    failed_count BIGINT NOT NULL,
+    mean_seconds DOUBLE PRECISION,
+    min_seconds DOUBLE PRECISION,
+    max_seconds DOUBLE PRECISION,
+    p50_seconds DOUBLE PRECISION,
+    p95_seconds DOUBLE PRECISION,
+    p99_seconds DOUBLE PRECISION,
+    sketch TEXT NOT NULL,
+    last_end_date TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS dag_run_calendar_days (
+    id BIGSERIAL PRIMARY KEY,
+    dag_id VARCHAR(255) NOT NULL,
+    day DATE NOT NULL,
+    success_count INTEGER NOT NULL,
+    failed_count INTEGER NOT NULL,
+    running_count INTEGER NOT NULL,
+    queued_count INTEGER NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_dag_run_calendar_days_dag_day ON dag_run_calendar_days (dag_id, day);
+
+CREATE TABLE IF NOT EXISTS dag_run_calendar_sync (
+    dag_id VARCHAR(255) PRIMARY KEY,
+    synced_from DATE NOT NULL,
+    synced_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,18 @@
+CREATE TABLE IF NOT EXISTS task_duration_stats (
+    id BIGSERIAL PRIMARY KEY,
+    dag_id VARCHAR(255) NOT NULL,
+    task_id VARCHAR(255) NOT NULL,
+    instance_count BIGINT NOT NULL,
+    success_count BIGINT NOT NULL,
+    failed_count BIGINT NOT NULL,
+    retried_count BIGINT NOT NULL,
+    retry_count BIGINT NOT NULL,
+    p50_seconds DOUBLE PRECISION,
+    p95_seconds DOUBLE PRECISION,
+    p99_seconds DOUBLE PRECISION,
+    sketch TEXT NOT NULL,
+    last_end_date TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_task_duration_stats_dag_task ON task_duration_stats (dag_id, task_id);
@@ -0,0 +1 @@
+ALTER TABLE task_duration_stats ADD COLUMN IF NOT EXISTS ewma_seconds DOUBLE PRECISION;
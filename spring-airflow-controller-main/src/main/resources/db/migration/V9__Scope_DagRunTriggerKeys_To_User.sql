@@ -0,0 +1,3 @@
+DROP INDEX IF EXISTS ux_dag_run_trigger_keys_key;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_dag_run_trigger_keys_user_key ON dag_run_trigger_keys (username, idempotency_key);
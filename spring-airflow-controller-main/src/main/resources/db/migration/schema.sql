@@ -20,4 +20,101 @@ CREATE TABLE IF NOT EXISTS dag_action_logs (
     timestamp TIMESTAMP NOT NULL,
     success BOOLEAN NOT NULL DEFAULT TRUE,
     run_id VARCHAR(255)
-); 
\ No newline at end of file
+); 
+
+CREATE TABLE IF NOT EXISTS dag_run_trigger_keys (
+    id SERIAL PRIMARY KEY,
+    idempotency_key VARCHAR(255) NOT NULL,
+    dag_id VARCHAR(255) NOT NULL,
+    username VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    dag_run_id VARCHAR(255),
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_dag_run_trigger_keys_key ON dag_run_trigger_keys (idempotency_key);
+
+CREATE INDEX IF NOT EXISTS ix_dag_run_trigger_keys_expires_at ON dag_run_trigger_keys (expires_at);
+
+
+CREATE TABLE IF NOT EXISTS dag_run_trigger_queue (
+    id BIGSERIAL PRIMARY KEY,
+    dag_id VARCHAR(255) NOT NULL,
+    dag_run_id VARCHAR(255) NOT NULL,
+    request_body TEXT NOT NULL,
+    username VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    error TEXT,
+    enqueued_at TIMESTAMP NOT NULL,
+    next_attempt_at TIMESTAMP NOT NULL,
+    locked_until TIMESTAMP,
+    dispatched_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS ix_dag_run_trigger_queue_pending ON dag_run_trigger_queue (id) WHERE status IN ('QUEUED', 'DISPATCHING');
+
+CREATE INDEX IF NOT EXISTS ix_dag_run_trigger_queue_dispatched_at ON dag_run_trigger_queue (dispatched_at);
+
+
+CREATE TABLE IF NOT EXISTS dag_run_duration_stats (
+    dag_id VARCHAR(255) PRIMARY KEY,
+    run_count BIGINT NOT NULL,
+    success_count BIGINT NOT NULL,
+    failed_count BIGINT NOT NULL,
+    mean_seconds DOUBLE PRECISION,
+    min_seconds DOUBLE PRECISION,
+    max_seconds DOUBLE PRECISION,
+    p50_seconds DOUBLE PRECISION,
+    p95_seconds DOUBLE PRECISION,
+    p99_seconds DOUBLE PRECISION,
+    sketch TEXT NOT NULL,
+    last_end_date TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+
+CREATE TABLE IF NOT EXISTS dag_run_calendar_days (
+    id BIGSERIAL PRIMARY KEY,
+    dag_id VARCHAR(255) NOT NULL,
+    day DATE NOT NULL,
+    success_count INTEGER NOT NULL,
+    failed_count INTEGER NOT NULL,
+    running_count INTEGER NOT NULL,
+    queued_count INTEGER NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_dag_run_calendar_days_dag_day ON dag_run_calendar_days (dag_id, day);
+
+CREATE TABLE IF NOT EXISTS dag_run_calendar_sync (
+    dag_id VARCHAR(255) PRIMARY KEY,
+    synced_from DATE NOT NULL,
+    synced_at TIMESTAMP NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS task_duration_stats (
+    id BIGSERIAL PRIMARY KEY,
+    dag_id VARCHAR(255) NOT NULL,
+    task_id VARCHAR(255) NOT NULL,
+    instance_count BIGINT NOT NULL,
+    success_count BIGINT NOT NULL,
+    failed_count BIGINT NOT NULL,
+    retried_count BIGINT NOT NULL,
+    retry_count BIGINT NOT NULL,
+    p50_seconds DOUBLE PRECISION,
+    p95_seconds DOUBLE PRECISION,
+    p99_seconds DOUBLE PRECISION,
+    sketch TEXT NOT NULL,
+    last_end_date TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_task_duration_stats_dag_task ON task_duration_stats (dag_id, task_id);
+
+ALTER TABLE task_duration_stats ADD COLUMN IF NOT EXISTS ewma_seconds DOUBLE PRECISION;
+
+DROP INDEX IF EXISTS ux_dag_run_trigger_keys_key;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_dag_run_trigger_keys_user_key ON dag_run_trigger_keys (username, idempotency_key);
@@ -0,0 +1,214 @@
+package com.yigit.airflow_spring_rest_controller.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCollection;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunCursor;
+import com.yigit.airflow_spring_rest_controller.exception.AirflowBadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Pages through a DAG's run history against an in-memory Airflow listing
+ */
+class DagRunSearchServiceTest {
+
+    private static final String DAG_ID = "etl";
+    private static final ZonedDateTime BASE = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    private final DagRunService dagRunService = mock(DagRunService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final AtomicInteger airflowCalls = new AtomicInteger();
+    private DagRunSearchService searchService;
+    private List<DagRun> runs;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new DagRunSearchService(dagRunService, objectMapper);
+        ReflectionTestUtils.setField(searchService, "maxConcurrency", 2);
+        ReflectionTestUtils.setField(searchService, "pageLimit", 3);
+        ReflectionTestUtils.setField(searchService, "defaultLimit", 2);
+        ReflectionTestUtils.setField(searchService, "maxLimit", 10);
+
+        // Runs 3 to 6 share one execution date, so pages have to continue inside the tie
+        runs = new ArrayList<>();
+        int[] hours = {0, 1, 2, 3, 3, 3, 3, 4, 5, 6, 7};
+        for (int i = 0; i < hours.length; i++) {
+            runs.add(run("run_" + i, BASE.plusHours(hours[i])));
+        }
+        when(dagRunService.getDagRuns(eq(DAG_ID), anyMap())).thenAnswer(invocation -> {
+            airflowCalls.incrementAndGet();
+            return Mono.just(airflowPage(invocation.getArgument(1)));
+        });
+    }
+
+    @Test
+    void keysetPagesReturnEveryRunOnceAcrossTies() {
+        List<String> expected = runs.stream()
+            .sorted(Comparator.comparing(DagRun::getExecutionDate).reversed().thenComparing(DagRun::getDagRunId))
+            .map(DagRun::getDagRunId)
+            .toList();
+
+        List<String> listed = pageThrough("-execution_date", 2);
+
+        assertThat(listed).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(listed).doesNotHaveDuplicates();
+        assertThat(listed.stream().map(this::executionDate).toList())
+            .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @Test
+    void ascendingKeysetPagesReturnEveryRunOnce() {
+        List<String> listed = pageThrough("execution_date", 3);
+
+        assertThat(listed).hasSize(runs.size()).doesNotHaveDuplicates();
+        assertThat(listed.stream().map(this::executionDate).toList()).isSorted();
+    }
+
+    @Test
+    void pagesLargerThanAirflowPageLimitAreSplit() {
+        DagRunCollection page = searchService.getDagRunsPage(DAG_ID, Map.of(), null, 8, null).block();
+
+        assertThat(page.getDagRuns()).hasSize(8);
+        assertThat(page.getTotalEntries()).isEqualTo(runs.size());
+        assertThat(page.getNextCursor()).isNotNull();
+        assertThat(airflowCalls.get()).isEqualTo(3);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        DagRunCollection page = searchService.getDagRunsPage(DAG_ID, Map.of(), null, 10, null).block();
+        DagRunCollection last = searchService.getDagRunsPage(DAG_ID, Map.of(), null, 10, page.getNextCursor()).block();
+
+        assertThat(last.getDagRuns()).hasSize(1);
+        assertThat(last.getNextCursor()).isNull();
+        // Continuation pages do not repeat the total
+        assertThat(last.getTotalEntries()).isNull();
+    }
+
+    @Test
+    void offsetOrderingPagesReturnEveryRunOnce() {
+        List<String> listed = pageThrough("dag_run_id", 4);
+
+        assertThat(listed).isEqualTo(runs.stream().map(DagRun::getDagRunId).sorted().toList());
+        DagRunCursor cursor = searchService.decodeCursor(
+            searchService.getDagRunsPage(DAG_ID, Map.of(), "dag_run_id", 4, null).block().getNextCursor(), "dag_run_id");
+        assertThat(cursor.getOffset()).isEqualTo(4);
+        assertThat(cursor.getBoundary()).isNull();
+    }
+
+    @Test
+    void cursorRoundTrips() {
+        DagRunCursor cursor = DagRunCursor.builder()
+            .orderBy("-execution_date")
+            .boundary(BASE.plusHours(3))
+            .seen(List.of("etl/run_3", "etl/run_4"))
+            .build();
+
+        DagRunCursor decoded = searchService.decodeCursor(searchService.encodeCursor(cursor), "-execution_date");
+
+        assertThat(decoded.getBoundary().isEqual(cursor.getBoundary())).isTrue();
+        assertThat(decoded.getSeen()).isEqualTo(cursor.getSeen());
+        assertThat(decoded.getOrderBy()).isEqualTo(cursor.getOrderBy());
+    }
+
+    @Test
+    void cursorOfAnotherOrderingIsRejected() {
+        String token = searchService.encodeCursor(DagRunCursor.builder()
+            .orderBy("-execution_date")
+            .boundary(BASE)
+            .seen(List.of())
+            .build());
+
+        assertThatThrownBy(() -> searchService.decodeCursor(token, "execution_date"))
+            .isInstanceOf(AirflowBadRequestException.class);
+        assertThatThrownBy(() -> searchService.decodeCursor(token, "start_date"))
+            .isInstanceOf(AirflowBadRequestException.class);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> searchService.decodeCursor("not-a-cursor", "-execution_date"))
+            .isInstanceOf(AirflowBadRequestException.class);
+    }
+
+    @Test
+    void limitOutOfRangeIsRejected() {
+        assertThatThrownBy(() -> searchService.resolveLimit(11)).isInstanceOf(AirflowBadRequestException.class);
+        assertThatThrownBy(() -> searchService.resolveLimit(0)).isInstanceOf(AirflowBadRequestException.class);
+        assertThat(searchService.resolveLimit(null)).isEqualTo(2);
+    }
+
+    private List<String> pageThrough(String orderBy, int limit) {
+        List<String> listed = new ArrayList<>();
+        String cursor = null;
+        for (int page = 0; page <= runs.size(); page++) {
+            DagRunCollection collection = searchService.getDagRunsPage(DAG_ID, Map.of(), orderBy, limit, cursor).block();
+            collection.getDagRuns().forEach(dagRun -> listed.add(dagRun.getDagRunId()));
+            cursor = collection.getNextCursor();
+            if (cursor == null) {
+                return listed;
+            }
+        }
+        throw new AssertionError("Paging did not end");
+    }
+
+    /**
+     * Applies the execution date bounds, ordering, offset and limit like Airflow's DAG run listing
+     */
+    private DagRunCollection airflowPage(Map<String, String> params) {
+        String orderBy = params.get("order_by");
+        boolean descending = orderBy.startsWith("-");
+        String field = descending ? orderBy.substring(1) : orderBy;
+        Comparator<DagRun> order = "dag_run_id".equals(field) ?
+            Comparator.comparing(DagRun::getDagRunId) :
+            Comparator.comparing(DagRun::getExecutionDate);
+        if (descending) {
+            order = order.reversed();
+        }
+        ZonedDateTime lte = params.containsKey("execution_date_lte") ? ZonedDateTime.parse(params.get("execution_date_lte")) : null;
+        ZonedDateTime gte = params.containsKey("execution_date_gte") ? ZonedDateTime.parse(params.get("execution_date_gte")) : null;
+        List<DagRun> matching = runs.stream()
+            .filter(dagRun -> lte == null || !dagRun.getExecutionDate().isAfter(lte))
+            .filter(dagRun -> gte == null || !dagRun.getExecutionDate().isBefore(gte))
+            .sorted(order)
+            .toList();
+        int offset = Integer.parseInt(params.get("offset"));
+        int limit = Integer.parseInt(params.get("limit"));
+
+        DagRunCollection collection = new DagRunCollection();
+        collection.setDagRuns(matching.subList(Math.min(offset, matching.size()), Math.min(offset + limit, matching.size())));
+        collection.setTotalEntries(matching.size());
+        return collection;
+    }
+
+    private ZonedDateTime executionDate(String dagRunId) {
+        return runs.stream().filter(dagRun -> dagRun.getDagRunId().equals(dagRunId)).findFirst().orElseThrow().getExecutionDate();
+    }
+
+    private static DagRun run(String dagRunId, ZonedDateTime executionDate) {
+        DagRun dagRun = new DagRun();
+        dagRun.setDagId(DAG_ID);
+        dagRun.setDagRunId(dagRunId);
+        dagRun.setExecutionDate(executionDate);
+        dagRun.setState("success");
+        return dagRun;
+    }
+}
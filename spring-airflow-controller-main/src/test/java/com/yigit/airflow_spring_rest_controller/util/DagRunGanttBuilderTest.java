@@ -0,0 +1,138 @@
+package com.yigit.airflow_spring_rest_controller.util;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunGantt;
+import com.yigit.airflow_spring_rest_controller.dto.task.Task;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskGraph;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DagRunGanttBuilderTest {
+
+    private static final ZonedDateTime T0 = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    // extract -> transform -> load, and extract -> audit
+    private final TaskGraph graph = TaskGraphBuilder.build("etl", "token", List.of(
+        task("extract", "transform", "audit"),
+        task("transform", "load"),
+        task("load"),
+        task("audit")));
+
+    @Test
+    void criticalPathFollowsTheUpstreamTaskThatFinishedLast() {
+        DagRun dagRun = run("success", T0, T0.plusSeconds(100));
+        List<TaskInstance> instances = List.of(
+            instance("extract", null, "success", T0, T0.plusSeconds(5), T0.plusSeconds(20)),
+            instance("audit", null, "success", T0.plusSeconds(20), T0.plusSeconds(21), T0.plusSeconds(90)),
+            instance("transform", null, "success", T0.plusSeconds(20), T0.plusSeconds(30), T0.plusSeconds(60)),
+            instance("load", null, "success", T0.plusSeconds(60), T0.plusSeconds(62), T0.plusSeconds(100)));
+
+        DagRunGantt gantt = DagRunGanttBuilder.build(dagRun, instances, graph, T0.plusSeconds(500));
+
+        assertThat(gantt.getCriticalPath()).containsExactly("extract", "transform", "load");
+        assertThat(gantt.getOrigin()).isEqualTo(T0);
+        assertThat(gantt.getDurationSeconds()).isEqualTo(100.0);
+        // Queue waits 5 + 10 + 2, execution 15 + 30 + 38
+        assertThat(gantt.getCriticalPathQueueSeconds()).isEqualTo(17.0);
+        assertThat(gantt.getCriticalPathExecutionSeconds()).isEqualTo(83.0);
+        assertThat(gantt.getRowCount()).isEqualTo(4);
+        assertThat(gantt.getBars()).extracting(DagRunGantt.Bar::getTaskId)
+            .containsExactly("extract", "audit", "transform", "load");
+        assertThat(gantt.getBars()).filteredOn(DagRunGantt.Bar::isCritical)
+            .extracting(DagRunGantt.Bar::getTaskId)
+            .containsExactlyInAnyOrder("extract", "transform", "load");
+    }
+
+    @Test
+    void barOffsetsAreRelativeToTheEarliestQueueTime() {
+        DagRun dagRun = run("success", T0.plusSeconds(10), T0.plusSeconds(40));
+        List<TaskInstance> instances = List.of(
+            instance("extract", null, "success", T0, T0.plusSeconds(10), T0.plusSeconds(40)));
+
+        DagRunGantt gantt = DagRunGanttBuilder.build(dagRun, instances, graph, T0.plusSeconds(500));
+
+        DagRunGantt.Bar bar = gantt.getBars().get(0);
+        assertThat(gantt.getOrigin()).isEqualTo(T0);
+        assertThat(bar.getQueuedOffsetSeconds()).isEqualTo(0.0);
+        assertThat(bar.getStartOffsetSeconds()).isEqualTo(10.0);
+        assertThat(bar.getEndOffsetSeconds()).isEqualTo(40.0);
+        assertThat(bar.getQueueWaitSeconds()).isEqualTo(10.0);
+        assertThat(bar.getExecutionSeconds()).isEqualTo(30.0);
+    }
+
+    @Test
+    void mappedInstancesShareTheirTaskRowAndAreMergedOnThePath() {
+        DagRun dagRun = run("success", T0, T0.plusSeconds(50));
+        List<TaskInstance> instances = List.of(
+            instance("extract", null, "success", T0, T0, T0.plusSeconds(10)),
+            instance("transform", 1, "success", T0.plusSeconds(10), T0.plusSeconds(12), T0.plusSeconds(50)),
+            instance("transform", 0, "success", T0.plusSeconds(10), T0.plusSeconds(10), T0.plusSeconds(30)));
+
+        DagRunGantt gantt = DagRunGanttBuilder.build(dagRun, instances, graph, T0.plusSeconds(500));
+
+        assertThat(gantt.getRowCount()).isEqualTo(2);
+        assertThat(gantt.getBars()).extracting(DagRunGantt.Bar::getMapIndex).containsExactly(null, 0, 1);
+        assertThat(gantt.getBars().get(1).getRow()).isEqualTo(gantt.getBars().get(2).getRow());
+        assertThat(gantt.getCriticalPath()).containsExactly("extract", "transform");
+        // The mapped task counts once, from its first start to its last end
+        assertThat(gantt.getCriticalPathExecutionSeconds()).isEqualTo(10.0 + 40.0);
+    }
+
+    @Test
+    void runningInstancesEndNow() {
+        ZonedDateTime now = T0.plusSeconds(45);
+        DagRun dagRun = run("running", T0, null);
+        List<TaskInstance> instances = List.of(
+            instance("extract", null, "success", T0, T0, T0.plusSeconds(20)),
+            instance("transform", null, "running", T0.plusSeconds(20), T0.plusSeconds(25), null),
+            instance("load", null, null, null, null, null));
+
+        DagRunGantt gantt = DagRunGanttBuilder.build(dagRun, instances, graph, now);
+
+        DagRunGantt.Bar running = gantt.getBars().stream().filter(bar -> "transform".equals(bar.getTaskId())).findFirst().orElseThrow();
+        assertThat(running.getEndOffsetSeconds()).isNull();
+        assertThat(running.getExecutionSeconds()).isEqualTo(20.0);
+        assertThat(gantt.getDurationSeconds()).isEqualTo(45.0);
+        assertThat(gantt.getCriticalPath()).containsExactly("extract", "transform");
+        // Tasks that never started are placed last
+        assertThat(gantt.getBars().get(gantt.getBars().size() - 1).getTaskId()).isEqualTo("load");
+    }
+
+    private static Task task(String taskId, String... downstream) {
+        Task task = new Task();
+        task.setTaskId(taskId);
+        task.setDownstreamTaskIds(List.of(downstream));
+        return task;
+    }
+
+    private static DagRun run(String state, ZonedDateTime startDate, ZonedDateTime endDate) {
+        DagRun dagRun = new DagRun();
+        dagRun.setDagId("etl");
+        dagRun.setDagRunId("run_1");
+        dagRun.setState(state);
+        dagRun.setStartDate(startDate);
+        dagRun.setEndDate(endDate);
+        return dagRun;
+    }
+
+    private static TaskInstance instance(String taskId, Integer mapIndex, String state,
+                                         ZonedDateTime queuedWhen, ZonedDateTime startDate, ZonedDateTime endDate) {
+        TaskInstance instance = new TaskInstance();
+        instance.setDagId("etl");
+        instance.setDagRunId("run_1");
+        instance.setTaskId(taskId);
+        instance.setMapIndex(mapIndex);
+        instance.setState(state);
+        instance.setTryNumber(1);
+        instance.setQueuedWhen(queuedWhen);
+        instance.setStartDate(startDate);
+        instance.setEndDate(endDate);
+        return instance;
+    }
+}
@@ -0,0 +1,149 @@
+package com.yigit.airflow_spring_rest_controller.util;
+
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRun;
+import com.yigit.airflow_spring_rest_controller.dto.dagrun.DagRunPrediction;
+import com.yigit.airflow_spring_rest_controller.dto.task.Task;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskGraph;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskInstance;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DagRunPredictorTest {
+
+    private static final ZonedDateTime T0 = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    // extract -> transform -> load, and extract -> audit
+    private final TaskGraph graph = TaskGraphBuilder.build("etl", "token", List.of(
+        task("extract", "transform", "audit"),
+        task("transform", "load"),
+        task("load"),
+        task("audit")));
+
+    @Test
+    void pendingTasksStartWhenTheirUpstreamTasksArePredictedToEnd() {
+        ZonedDateTime now = T0.plusSeconds(30);
+        List<TaskInstance> instances = List.of(
+            instance("extract", null, "success", T0, T0.plusSeconds(10)),
+            instance("transform", null, "running", T0.plusSeconds(10), null),
+            instance("load", null, null, null, null),
+            instance("audit", null, "running", T0.plusSeconds(10), null));
+        Map<String, Double> estimates = Map.of("extract", 10.0, "transform", 60.0, "load", 30.0, "audit", 5.0);
+
+        DagRunPrediction prediction = DagRunPredictor.predict(run("running", null), instances, graph, estimates, now);
+
+        // transform ends at 10 + 60, load follows with its 30 seconds
+        assertThat(prediction.getPredictedEndDate()).isEqualTo(T0.plusSeconds(100));
+        assertThat(prediction.getRemainingSeconds()).isEqualTo(70.0);
+        assertThat(prediction.getCriticalPath()).containsExactly("extract", "transform", "load");
+        assertThat(prediction.getFinishedTasks()).isEqualTo(1);
+        assertThat(prediction.getRunningTasks()).isEqualTo(2);
+        assertThat(prediction.getPendingTasks()).isEqualTo(1);
+        assertThat(prediction.getUnestimatedTasks()).isZero();
+
+        DagRunPrediction.Task load = task(prediction, "load");
+        assertThat(load.getStatus()).isEqualTo("pending");
+        assertThat(load.getPredictedStartDate()).isEqualTo(T0.plusSeconds(70));
+        assertThat(load.isCritical()).isTrue();
+        // audit overran its estimate, so it is assumed to end now
+        assertThat(task(prediction, "audit").getPredictedEndDate()).isEqualTo(now);
+        assertThat(task(prediction, "audit").isCritical()).isFalse();
+    }
+
+    @Test
+    void tasksAreListedInTopologicalOrder() {
+        DagRunPrediction prediction = DagRunPredictor.predict(run("queued", null), List.of(), graph, Map.of(), T0);
+
+        assertThat(prediction.getTasks()).extracting(DagRunPrediction.Task::getTaskId).startsWith("extract");
+        assertThat(prediction.getTasks()).extracting(DagRunPrediction.Task::getTaskId)
+            .containsSubsequence("transform", "load");
+    }
+
+    @Test
+    void tasksWithoutEstimatesTakeNoTime() {
+        ZonedDateTime now = T0.plusSeconds(5);
+        List<TaskInstance> instances = List.of(instance("extract", null, "running", T0, null));
+
+        DagRunPrediction prediction = DagRunPredictor.predict(run("running", null), instances, graph,
+            Map.of("extract", 20.0), now);
+
+        assertThat(prediction.getUnestimatedTasks()).isEqualTo(3);
+        assertThat(prediction.getPredictedEndDate()).isEqualTo(T0.plusSeconds(20));
+        assertThat(task(prediction, "load").getPredictedStartDate()).isEqualTo(T0.plusSeconds(20));
+    }
+
+    @Test
+    void mappedTaskEndsWithItsLastInstance() {
+        ZonedDateTime now = T0.plusSeconds(20);
+        List<TaskInstance> instances = List.of(
+            instance("extract", null, "success", T0, T0.plusSeconds(10)),
+            instance("transform", 0, "success", T0.plusSeconds(10), T0.plusSeconds(15)),
+            instance("transform", 1, "running", T0.plusSeconds(12), null));
+
+        DagRunPrediction prediction = DagRunPredictor.predict(run("running", null), instances, graph,
+            Map.of("transform", 30.0, "load", 10.0, "audit", 1.0), now);
+
+        DagRunPrediction.Task transform = task(prediction, "transform");
+        assertThat(transform.getStatus()).isEqualTo("running");
+        assertThat(transform.getPredictedStartDate()).isEqualTo(T0.plusSeconds(10));
+        assertThat(transform.getPredictedEndDate()).isEqualTo(T0.plusSeconds(42));
+        assertThat(prediction.getPredictedEndDate()).isEqualTo(T0.plusSeconds(52));
+    }
+
+    @Test
+    void finishedRunEndsAtItsEndDate() {
+        List<TaskInstance> instances = List.of(
+            instance("extract", null, "success", T0, T0.plusSeconds(10)),
+            instance("transform", null, "failed", T0.plusSeconds(10), T0.plusSeconds(20)),
+            instance("load", null, "upstream_failed", null, null),
+            instance("audit", null, "success", T0.plusSeconds(10), T0.plusSeconds(12)));
+
+        DagRunPrediction prediction = DagRunPredictor.predict(run("failed", T0.plusSeconds(21)), instances, graph,
+            Map.of(), T0.plusSeconds(500));
+
+        assertThat(prediction.getPredictedEndDate()).isEqualTo(T0.plusSeconds(21));
+        assertThat(prediction.getRemainingSeconds()).isEqualTo(0.0);
+        assertThat(prediction.getFinishedTasks()).isEqualTo(4);
+        assertThat(prediction.getUnestimatedTasks()).isZero();
+    }
+
+    private static DagRunPrediction.Task task(DagRunPrediction prediction, String taskId) {
+        return prediction.getTasks().stream().filter(task -> taskId.equals(task.getTaskId())).findFirst().orElseThrow();
+    }
+
+    private static Task task(String taskId, String... downstream) {
+        Task task = new Task();
+        task.setTaskId(taskId);
+        task.setDownstreamTaskIds(List.of(downstream));
+        return task;
+    }
+
+    private static DagRun run(String state, ZonedDateTime endDate) {
+        DagRun dagRun = new DagRun();
+        dagRun.setDagId("etl");
+        dagRun.setDagRunId("run_1");
+        dagRun.setState(state);
+        dagRun.setStartDate(T0);
+        dagRun.setEndDate(endDate);
+        return dagRun;
+    }
+
+    private static TaskInstance instance(String taskId, Integer mapIndex, String state,
+                                         ZonedDateTime startDate, ZonedDateTime endDate) {
+        TaskInstance instance = new TaskInstance();
+        instance.setDagId("etl");
+        instance.setDagRunId("run_1");
+        instance.setTaskId(taskId);
+        instance.setMapIndex(mapIndex);
+        instance.setState(state);
+        instance.setTryNumber(1);
+        instance.setStartDate(startDate);
+        instance.setEndDate(endDate);
+        return instance;
+    }
+}
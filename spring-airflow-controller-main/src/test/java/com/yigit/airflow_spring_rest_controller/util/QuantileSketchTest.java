@@ -0,0 +1,144 @@
+package com.yigit.airflow_spring_rest_controller.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+class QuantileSketchTest {
+
+    private static final double ACCURACY = 0.01;
+
+    @Test
+    void quantilesAreWithinRelativeAccuracy() {
+        List<Double> values = randomDurations(10_000, 42);
+        QuantileSketch sketch = sketchOf(values);
+        List<Double> sorted = new ArrayList<>(values);
+        Collections.sort(sorted);
+
+        for (double quantile : new double[] {0, 0.01, 0.25, 0.5, 0.9, 0.95, 0.99, 1}) {
+            double exact = sorted.get((int) Math.floor(quantile * (sorted.size() - 1)));
+            assertThat(sketch.quantile(quantile))
+                .as("quantile %s", quantile)
+                .isCloseTo(exact, within(exact * ACCURACY + 1e-9));
+        }
+        assertThat(sketch.quantile(0)).isGreaterThanOrEqualTo(sorted.get(0));
+        assertThat(sketch.quantile(1)).isLessThanOrEqualTo(sorted.get(sorted.size() - 1));
+    }
+
+    @Test
+    void quantilesStayWithinObservedRange() {
+        QuantileSketch sketch = sketchOf(List.of(5.0, 5.0, 5.0));
+
+        assertThat(sketch.quantile(0)).isEqualTo(5.0);
+        assertThat(sketch.quantile(0.5)).isEqualTo(5.0);
+        assertThat(sketch.quantile(1)).isEqualTo(5.0);
+    }
+
+    @Test
+    void zeroValuesAreCountedSeparately() {
+        QuantileSketch sketch = sketchOf(List.of(0.0, 0.0, 0.0, 10.0));
+
+        assertThat(sketch.quantile(0.5)).isEqualTo(0.0);
+        assertThat(sketch.quantile(1)).isCloseTo(10.0, within(10.0 * ACCURACY));
+        assertThat(sketch.histogram(5)).containsEntry(0.0, 3L);
+    }
+
+    @Test
+    void emptySketchHasNoQuantiles() {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+
+        assertThat(sketch.quantile(0.5)).isNull();
+        assertThat(sketch.getMin()).isNull();
+        assertThat(sketch.getMax()).isNull();
+        assertThat(sketch.histogram(10)).isEmpty();
+    }
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        QuantileSketch sketch = sketchOf(randomDurations(1_000, 7));
+        sketch.add(0);
+
+        QuantileSketch decoded = QuantileSketch.decode(sketch.encode());
+
+        assertThat(decoded.getRelativeAccuracy()).isEqualTo(sketch.getRelativeAccuracy());
+        assertThat(decoded.getCount()).isEqualTo(sketch.getCount());
+        assertThat(decoded.getSum()).isEqualTo(sketch.getSum());
+        assertThat(decoded.getMin()).isEqualTo(sketch.getMin());
+        assertThat(decoded.getMax()).isEqualTo(sketch.getMax());
+        for (double quantile : new double[] {0, 0.5, 0.95, 0.99, 1}) {
+            assertThat(decoded.quantile(quantile)).isEqualTo(sketch.quantile(quantile));
+        }
+        assertThat(decoded.encode()).isEqualTo(sketch.encode());
+    }
+
+    @Test
+    void emptySketchRoundTrips() {
+        QuantileSketch decoded = QuantileSketch.decode(new QuantileSketch(ACCURACY).encode());
+
+        assertThat(decoded.getCount()).isZero();
+        assertThat(decoded.quantile(0.5)).isNull();
+    }
+
+    @Test
+    void decodeRejectsInvalidText() {
+        assertThatThrownBy(() -> QuantileSketch.decode("not a sketch"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void mergeMatchesSketchOfAllValues() {
+        List<Double> values = randomDurations(5_000, 3);
+        QuantileSketch first = sketchOf(values.subList(0, 2_000));
+        QuantileSketch second = sketchOf(values.subList(2_000, values.size()));
+        QuantileSketch all = sketchOf(values);
+
+        first.merge(second);
+
+        assertThat(first.getCount()).isEqualTo(all.getCount());
+        assertThat(first.getSum()).isCloseTo(all.getSum(), within(1e-6));
+        assertThat(first.getMin()).isEqualTo(all.getMin());
+        assertThat(first.getMax()).isEqualTo(all.getMax());
+        for (double quantile : new double[] {0, 0.5, 0.95, 0.99, 1}) {
+            assertThat(first.quantile(quantile)).isEqualTo(all.quantile(quantile));
+        }
+    }
+
+    @Test
+    void mergeRejectsDifferentAccuracies() {
+        QuantileSketch sketch = new QuantileSketch(0.01);
+
+        assertThatThrownBy(() -> sketch.merge(new QuantileSketch(0.02)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void constructorRejectsInvalidAccuracy() {
+        assertThatThrownBy(() -> new QuantileSketch(0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new QuantileSketch(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static QuantileSketch sketchOf(List<Double> values) {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        values.forEach(sketch::add);
+        return sketch;
+    }
+
+    /**
+     * Log-normally distributed durations between roughly a second and a few hours
+     */
+    private static List<Double> randomDurations(int count, long seed) {
+        Random random = new Random(seed);
+        List<Double> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(Math.exp(4 + 1.5 * random.nextGaussian()));
+        }
+        return values;
+    }
+}
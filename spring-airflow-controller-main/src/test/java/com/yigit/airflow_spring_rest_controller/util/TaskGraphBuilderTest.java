@@ -0,0 +1,84 @@
+package com.yigit.airflow_spring_rest_controller.util;
+
+import com.yigit.airflow_spring_rest_controller.dto.task.Task;
+import com.yigit.airflow_spring_rest_controller.dto.task.TaskGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskGraphBuilderTest {
+
+    @Test
+    void downstreamEdgesKeepTheDeclaredOrderWithoutDuplicatesOrUnknownTasks() {
+        TaskGraph graph = TaskGraphBuilder.build("etl", "token", List.of(
+            task("extract", "load", "transform", "missing", "load"),
+            task("transform", "load"),
+            task("load")));
+
+        assertThat(graph.getTaskIds()).containsExactly("extract", "transform", "load");
+        assertThat(graph.getDownstreamOffsets()).containsExactly(0, 2, 3, 3);
+        assertThat(graph.getDownstream()).containsExactly(2, 1, 2);
+        assertThat(graph.getEdgeCount()).isEqualTo(3);
+        assertThat(graph.getDagId()).isEqualTo("etl");
+        assertThat(graph.getFileToken()).isEqualTo("token");
+    }
+
+    @Test
+    void depthIsTheLongestDistanceFromARoot() {
+        // extract -> load directly and through transform
+        TaskGraph graph = TaskGraphBuilder.build("etl", "token", List.of(
+            task("extract", "load", "transform"),
+            task("transform", "load"),
+            task("load")));
+
+        assertThat(graph.getTopologicalOrder()).containsExactly(0, 1, 2);
+        assertThat(graph.getDepths()).containsExactly(0, 1, 2);
+        assertThat(graph.getLayers()).isEqualTo(new int[][]{{0}, {1}, {2}});
+    }
+
+    @Test
+    void layersAreReorderedToAvoidEdgeCrossings() {
+        // a -> y, b -> x, c -> y: in declaration order the edges b -> x and a -> y cross
+        TaskGraph graph = TaskGraphBuilder.build("etl", "token", List.of(
+            task("a", "y"),
+            task("b", "x"),
+            task("c", "y"),
+            task("x"),
+            task("y")));
+
+        assertThat(graph.getLayers()).isEqualTo(new int[][]{{1, 0, 2}, {3, 4}});
+        assertThat(graph.getRows()).containsExactly(1, 0, 2, 0, 1);
+    }
+
+    @Test
+    void emptyDagHasNoLayers() {
+        TaskGraph graph = TaskGraphBuilder.build("etl", "token", List.of());
+
+        assertThat(graph.getTaskIds()).isEmpty();
+        assertThat(graph.getLayers()).isEmpty();
+        assertThat(graph.getEdgeCount()).isZero();
+    }
+
+    @Test
+    void dependencyCycleIsRejected() {
+        List<Task> tasks = List.of(
+            task("extract", "transform"),
+            task("transform", "load"),
+            task("load", "transform"));
+
+        assertThatThrownBy(() -> TaskGraphBuilder.build("etl", "token", tasks))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("etl")
+            .hasMessageContaining("cycle");
+    }
+
+    private static Task task(String taskId, String... downstream) {
+        Task task = new Task();
+        task.setTaskId(taskId);
+        task.setDownstreamTaskIds(List.of(downstream));
+        return task;
+    }
+}